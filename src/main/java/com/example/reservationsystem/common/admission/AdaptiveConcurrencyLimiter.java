@@ -0,0 +1,127 @@
+package com.example.reservationsystem.common.admission;
+
+import com.example.reservationsystem.common.bulkhead.BulkheadProperties;
+import com.example.reservationsystem.common.bulkhead.Bulkheads;
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.RetryAfterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 관측한 응답 시간에 맞춰 동시 처리 한도를 조절하는 AIMD 리미터
+// - 동시 처리 수가 한도에 닿으면 기다리지 않고 바로 SERVER_OVERLOADED (503 + Retry-After) → 요청이 쌓여 전부 타임아웃 나는 것을 막는다
+// - 응답이 latency-threshold 보다 느리거나 5xx 이면 한도 × backoff-ratio (곱셈 감소)
+//   이미 줄인 뒤에 시작한 요청만 다시 줄일 수 있다 → 한 번 느려진 요청 묶음이 한도를 연달아 깎지 않는다
+// - 빠른 응답이고 한도의 절반 이상을 쓰고 있었으면 한도 + 1/한도 (한도만큼 처리할 때마다 약 +1, 덧셈 증가)
+// - 격벽(Bulkheads)과의 관계: 이 리미터가 바깥, 격벽이 안쪽이다. 격벽은 DB 연결 수에 맞춘 고정 상한이라
+//   max-limit 을 이 리미터가 앞에 서는 read + booking-write 격벽 자리 합계로 자른다 (격벽이 켜져 있을 때).
+//   → 두 격벽 자리 합계를 넘는 요청은 여기서 바로 503 (격벽 대기는 한 종류로 몰릴 때만 생긴다), 격벽은 종류별 몫을 나눈다.
+//     응답이 느려지면 이 한도가 합계 아래로 내려가 먼저 걸린다
+// - 메트릭: reservation.concurrency.limit, reservation.concurrency.inflight,
+//   reservation.concurrency.requests{outcome=accepted|shed}, reservation.concurrency.latency (p50/p95/p99)
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final long retryAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // limit / lastDecreaseNanos 는 this 로 보호, 진입 판정은 정수 스냅샷만 읽는다
+    private double limit;
+    private long lastDecreaseNanos;
+    private volatile int currentLimit;
+
+    private final Counter acceptedCounter;
+    private final Counter shedCounter;
+    private final Timer latencyTimer;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${reservation.adaptive-limit.enabled:true}") boolean enabled,
+            @Value("${reservation.adaptive-limit.initial-limit:8}") int initialLimit,
+            @Value("${reservation.adaptive-limit.min-limit:2}") int minLimit,
+            @Value("${reservation.adaptive-limit.max-limit:8}") int maxLimit,
+            @Value("${reservation.adaptive-limit.latency-threshold:PT0.5S}") Duration latencyThreshold,
+            @Value("${reservation.adaptive-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${reservation.adaptive-limit.retry-after:PT1S}") Duration retryAfter,
+            BulkheadProperties bulkheadProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        int bulkheadCapacity = bulkheadProperties.capacityOf(Bulkheads.READ, Bulkheads.BOOKING_WRITE);
+        this.maxLimit = Math.max(this.minLimit, Math.min(maxLimit, bulkheadCapacity));
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        // Retry-After 는 초 단위 정수 (최소 1초)
+        this.retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.currentLimit = (int) this.limit;
+        this.lastDecreaseNanos = System.nanoTime();
+
+        this.acceptedCounter = meterRegistry.counter("reservation.concurrency.requests", "outcome", "accepted");
+        this.shedCounter = meterRegistry.counter("reservation.concurrency.requests", "outcome", "shed");
+        this.latencyTimer = Timer.builder("reservation.concurrency.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("reservation.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit).register(meterRegistry);
+        Gauge.builder("reservation.concurrency.inflight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 자리가 있으면 차지하고 시작 시각(nanoTime)을 반환, 없으면 SERVER_OVERLOADED
+    public long acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= currentLimit) {
+                shedCounter.increment();
+                throw new RetryAfterException(ErrorCode.SERVER_OVERLOADED, retryAfterSeconds);
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        acceptedCounter.increment();
+        return System.nanoTime();
+    }
+
+    // acquire 로 받은 시작 시각과 결과로 자리를 반납하고 한도를 조정한다
+    public void release(long startNanos, boolean failed) {
+        long now = System.nanoTime();
+        long elapsed = now - startNanos;
+        int inFlightBefore = inFlight.getAndDecrement();
+        latencyTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        synchronized (this) {
+            if (failed || elapsed > latencyThresholdNanos) {
+                if (startNanos - lastDecreaseNanos >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = now;
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            currentLimit = (int) limit;
+        }
+    }
+
+    public synchronized double limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.reservationsystem.common.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 좌석/회의실 예약 API 앞 적응형 동시 처리 한도. 응답이 끝나면(예외 포함) 처리 시간과 5xx 여부로 한도를 조정한다.
+@Component
+@RequiredArgsConstructor
+public class AdaptiveLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdaptiveLimitInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (limiter.isEnabled()) {
+            request.setAttribute(START_ATTRIBUTE, limiter.acquire());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.removeAttribute(START_ATTRIBUTE);
+            limiter.release(start, ex != null || response.getStatus() >= 500);
+        }
+    }
+}
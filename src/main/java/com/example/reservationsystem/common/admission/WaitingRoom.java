@@ -0,0 +1,214 @@
+package com.example.reservationsystem.common.admission;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 예약 오픈 직후 몰리는 요청을 FIFO 대기열에 세우고, 설정한 속도(admit-per-second)로만 DB 구간에 들여보낸다.
+// - 대기열이 비어 있고 허용량이 남아 있으면 바로 통과
+// - 그 외에는 번호표를 받고 도착 순서대로 입장 (max-queue 초과 시 즉시 거절, max-wait 초과 시 타임아웃)
+//   번호 발급과 줄 서기를 함께 해 대기한 요청끼리는 번호표 순서 = 입장 순서
+// - 허용량은 drain 스레드 하나가 tick 마다 보충한다 (burst 까지 누적)
+// - admit-per-second 는 DB 커넥션 풀이 감당하는 처리량(부하 테스트 측정값)에 맞춘다
+// - 202 + 번호표 폴링 대신 요청 스레드가 입장까지 기다리는 방식을 택했다
+//   · 요청은 가상 스레드(spring.threads.virtual.enabled)에서 처리되고 CompletableFuture 대기는 캐리어를 고정하지 않아 대기 비용이 작다
+//   · 클라이언트/Idempotency-Key/요청 제한 흐름을 바꾸지 않고, 입장 순서를 서버가 보장한다 (폴링은 재요청 경쟁으로 FIFO 가 깨진다)
+//   · 대기는 max-queue / max-wait 로 제한되고 넘치면 바로 503 → 플랫폼 스레드로 돌릴 때는 max-wait 를 짧게 잡아야 한다
+@Component
+public class WaitingRoom {
+
+    private static final long TICK_MILLIS = 5;
+
+    private final boolean enabled;
+    private final double admitPerSecond;
+    private final long burst;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+
+    private final ConcurrentLinkedQueue<Ticket> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong nextTicket = new AtomicLong();
+    private final AtomicLong admissions = new AtomicLong();
+    private final AtomicLong permits;
+
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+    private final Timer waitTimer;
+
+    private ScheduledExecutorService drainer;
+    private long lastRefill;
+    private double carry;
+
+    public WaitingRoom(
+            @Value("${reservation.waiting-room.enabled:true}") boolean enabled,
+            @Value("${reservation.waiting-room.admit-per-second:200}") double admitPerSecond,
+            @Value("${reservation.waiting-room.burst:50}") long burst,
+            @Value("${reservation.waiting-room.max-queue:5000}") int maxQueue,
+            @Value("${reservation.waiting-room.max-wait:PT10S}") Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.burst = burst;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new AtomicLong(burst);
+
+        this.admittedCounter = meterRegistry.counter("reservation.waitingroom.requests", "outcome", "admitted");
+        this.rejectedCounter = meterRegistry.counter("reservation.waitingroom.requests", "outcome", "rejected");
+        this.timeoutCounter = meterRegistry.counter("reservation.waitingroom.requests", "outcome", "timeout");
+        this.waitTimer = meterRegistry.timer("reservation.waitingroom.wait");
+        Gauge.builder("reservation.waitingroom.queued", queued, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        lastRefill = System.nanoTime();
+        drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "waiting-room-drainer");
+            t.setDaemon(true);
+            return t;
+        });
+        drainer.scheduleAtFixedRate(this::drain, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (drainer != null) {
+            drainer.shutdownNow();
+        }
+    }
+
+    // 입장할 때까지 대기한다. 거절/타임아웃은 CustomException (503)
+    public Ticket enter() {
+        if (!enabled) {
+            return Ticket.BYPASS;
+        }
+        long begin = System.nanoTime();
+
+        if (queued.get() == 0 && tryTakePermit()) {
+            admittedCounter.increment();
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            Ticket ticket = new Ticket(nextTicket.incrementAndGet(), 0);
+            ticket.admittedOrder = admissions.incrementAndGet();
+            return ticket;
+        }
+
+        int position = queued.incrementAndGet();
+        if (position > maxQueue) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.WAITING_ROOM_FULL);
+        }
+
+        Ticket ticket;
+        synchronized (queue) {
+            ticket = new Ticket(nextTicket.incrementAndGet(), position);
+            queue.add(ticket);
+        }
+        try {
+            ticket.admission.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | InterruptedException | ExecutionException | CancellationException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // 취소에 성공하면 drain 이 이 번호표를 허용량 소모 없이 건너뛴다
+            if (ticket.admission.cancel(false)) {
+                timeoutCounter.increment();
+                throw new CustomException(ErrorCode.WAITING_ROOM_TIMEOUT);
+            }
+        }
+        admittedCounter.increment();
+        waitTimer.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+        return ticket;
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    // drain 스레드 전용: 허용량 보충 후 대기열 앞에서부터 입장시킨다
+    private void drain() {
+        long now = System.nanoTime();
+        carry += (now - lastRefill) / 1_000_000_000.0 * admitPerSecond;
+        lastRefill = now;
+        long whole = (long) carry;
+        if (whole > 0) {
+            carry -= whole;
+            permits.updateAndGet(p -> Math.min(burst, p + whole));
+        }
+        if (permits.get() >= burst) {
+            carry = 0;
+        }
+
+        Ticket head;
+        while ((head = queue.peek()) != null) {
+            if (head.admission.isCancelled()) {
+                queue.poll();
+                queued.decrementAndGet();
+                continue;
+            }
+            if (!tryTakePermit()) {
+                break;
+            }
+            queue.poll();
+            queued.decrementAndGet();
+            head.admittedOrder = admissions.incrementAndGet();
+            if (!head.admission.complete(null)) {
+                // 그 사이 타임아웃으로 취소됨 → 허용량 반환
+                permits.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean tryTakePermit() {
+        long p;
+        do {
+            p = permits.get();
+            if (p <= 0) {
+                return false;
+            }
+        } while (!permits.compareAndSet(p, p - 1));
+        return true;
+    }
+
+    public static final class Ticket {
+
+        static final Ticket BYPASS = new Ticket(0, 0);
+
+        @Getter
+        private final long number;
+
+        // 번호표를 받을 때의 대기열 순번 (바로 입장하면 0)
+        @Getter
+        private final int position;
+
+        // 입장 순번 (입장을 허용한 순서, 대기 중 입장은 drain 이 admission 완료 전에 기록)
+        @Getter
+        private long admittedOrder;
+
+        private final CompletableFuture<Void> admission = new CompletableFuture<>();
+
+        private Ticket(long number, int position) {
+            this.number = number;
+            this.position = position;
+        }
+    }
+}
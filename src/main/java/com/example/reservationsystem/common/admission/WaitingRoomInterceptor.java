@@ -0,0 +1,32 @@
+package com.example.reservationsystem.common.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 예약 생성(POST) 요청만 대기열을 거치게 한다. 입장 후 번호표 정보를 응답 헤더로 내려준다.
+// 입장까지 요청 스레드(가상 스레드)를 세워 두는 이유는 WaitingRoom 주석 참고.
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomInterceptor implements HandlerInterceptor {
+
+    public static final String TICKET_HEADER = "X-Queue-Ticket";
+    public static final String POSITION_HEADER = "X-Queue-Position";
+
+    private final WaitingRoom waitingRoom;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        WaitingRoom.Ticket ticket = waitingRoom.enter();
+        if (ticket.getNumber() > 0) {
+            response.setHeader(TICKET_HEADER, String.valueOf(ticket.getNumber()));
+            response.setHeader(POSITION_HEADER, String.valueOf(ticket.getPosition()));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.reservationsystem.common.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 요청을 종류별 격벽에 넣고, 응답이 끝나면(예외 포함) 자리를 돌려준다.
+// - /init (좌석/회의실 초기 데이터 생성) → admin
+// - GET → read, 그 외(예약/취소/선점/대기 등) → booking-write
+// 대기열(WaitingRoom) 뒤에 등록해 입장 대기 중인 요청이 격벽 자리를 차지하지 않게 한다.
+@Component
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String COMPARTMENT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".compartment";
+
+    private final Bulkheads bulkheads;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Bulkheads.Compartment compartment = bulkheads.acquire(classify(request));
+        if (compartment != null) {
+            request.setAttribute(COMPARTMENT_ATTRIBUTE, compartment);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(COMPARTMENT_ATTRIBUTE) instanceof Bulkheads.Compartment compartment) {
+            request.removeAttribute(COMPARTMENT_ATTRIBUTE);
+            compartment.release();
+        }
+    }
+
+    static String classify(HttpServletRequest request) {
+        if (request.getRequestURI().endsWith("/init")) {
+            return Bulkheads.ADMIN;
+        }
+        if ("GET".equalsIgnoreCase(request.getMethod()) || "HEAD".equalsIgnoreCase(request.getMethod())) {
+            return Bulkheads.READ;
+        }
+        return Bulkheads.BOOKING_WRITE;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.reservationsystem.common.bulkhead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// reservation.bulkhead.* 설정
+// compartments.<이름>.max-concurrent / max-wait 로 트래픽 종류별 동시 처리 수를 지정한다.
+// OSIV 로 요청 하나가 DB 연결 하나를 끝까지 쥐므로 max-concurrent 합계는 커넥션 풀 크기(Hikari 기본 10) 이하로 둔다.
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reservation.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Compartment> compartments = new HashMap<>(Map.of(
+            Bulkheads.READ, new Compartment(4, Duration.ofMillis(200)),
+            Bulkheads.BOOKING_WRITE, new Compartment(4, Duration.ofSeconds(2)),
+            Bulkheads.ADMIN, new Compartment(1, Duration.ofSeconds(5))
+    ));
+
+    // 주어진 종류들의 max-concurrent 합. 격벽이 꺼져 있거나 제한 없는(설정 없음/0 이하) 종류가 있으면 Integer.MAX_VALUE
+    public int capacityOf(String... names) {
+        if (!enabled) {
+            return Integer.MAX_VALUE;
+        }
+        long sum = 0;
+        for (String name : names) {
+            Compartment c = compartments.get(name);
+            if (c == null || c.getMaxConcurrent() <= 0) {
+                return Integer.MAX_VALUE;
+            }
+            sum += c.getMaxConcurrent();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, sum);
+    }
+
+    @Getter
+    @Setter
+    public static class Compartment {
+
+        // 동시에 처리하는 최대 요청 수
+        private int maxConcurrent;
+
+        // 자리가 날 때까지 기다리는 최대 시간 (넘으면 503)
+        private Duration maxWait;
+
+        public Compartment() {
+        }
+
+        public Compartment(int maxConcurrent, Duration maxWait) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxWait = maxWait;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.reservationsystem.common.bulkhead;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 트래픽 종류별 격벽(공정 세마포어): 조회 폭주가 예약 쓰기의 DB 연결을 다 가져가거나, 오픈 직후 쓰기 폭주가 조회를 막지 못하게 한다.
+// - 종류별로 동시 처리 수를 따로 두고, 자리가 없으면 max-wait 까지만 기다린 뒤 BULKHEAD_FULL (503)
+// - 메트릭: reservation.bulkhead.requests{bulkhead, outcome=admitted|rejected}, reservation.bulkhead.wait{bulkhead},
+//   reservation.bulkhead.active{bulkhead}, reservation.bulkhead.waiting{bulkhead}, reservation.bulkhead.saturation{bulkhead} (active / max)
+@Component
+public class Bulkheads {
+
+    public static final String READ = "read";
+    public static final String BOOKING_WRITE = "booking-write";
+    public static final String ADMIN = "admin";
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public Bulkheads(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 자리를 얻으면 반납할 Compartment, 격벽이 꺼져 있거나 설정이 없으면 null
+    public Compartment acquire(String name) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        Compartment compartment = compartments.computeIfAbsent(name, this::newCompartment);
+        if (compartment == null) {
+            return null;
+        }
+        compartment.enter();
+        return compartment;
+    }
+
+    // 설정이 없거나 max-concurrent 가 0 이하인 종류는 제한하지 않는다.
+    private Compartment newCompartment(String name) {
+        BulkheadProperties.Compartment config = properties.getCompartments().get(name);
+        if (config == null || config.getMaxConcurrent() <= 0) {
+            return null;
+        }
+        long maxWaitNanos = config.getMaxWait() == null ? 0 : config.getMaxWait().toNanos();
+        Compartment compartment = new Compartment(config.getMaxConcurrent(), maxWaitNanos,
+                meterRegistry.counter("reservation.bulkhead.requests", "bulkhead", name, "outcome", "admitted"),
+                meterRegistry.counter("reservation.bulkhead.requests", "bulkhead", name, "outcome", "rejected"),
+                meterRegistry.timer("reservation.bulkhead.wait", "bulkhead", name));
+        Gauge.builder("reservation.bulkhead.active", compartment, Compartment::active)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("reservation.bulkhead.waiting", compartment, c -> c.semaphore.getQueueLength())
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("reservation.bulkhead.saturation", compartment, c -> (double) c.active() / c.maxConcurrent)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        return compartment;
+    }
+
+    public static final class Compartment {
+
+        private final int maxConcurrent;
+        private final long maxWaitNanos;
+        private final Semaphore semaphore;
+        private final Counter admitted;
+        private final Counter rejected;
+        private final Timer waitTimer;
+
+        private Compartment(int maxConcurrent, long maxWaitNanos, Counter admitted, Counter rejected, Timer waitTimer) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxWaitNanos = maxWaitNanos;
+            this.semaphore = new Semaphore(maxConcurrent, true);
+            this.admitted = admitted;
+            this.rejected = rejected;
+            this.waitTimer = waitTimer;
+        }
+
+        private void enter() {
+            long begin = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            waitTimer.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejected.increment();
+                throw new CustomException(ErrorCode.BULKHEAD_FULL);
+            }
+            admitted.increment();
+        }
+
+        public void release() {
+            semaphore.release();
+        }
+
+        public int active() {
+            return maxConcurrent - semaphore.availablePermits();
+        }
+    }
+}
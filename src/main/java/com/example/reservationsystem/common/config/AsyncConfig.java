@@ -0,0 +1,11 @@
+package com.example.reservationsystem.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async 작업(예약 대기 승격 등)은 스프링 부트 기본 applicationTaskExecutor 에서 실행
+// (spring.threads.virtual.enabled=true 이므로 가상 스레드)
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
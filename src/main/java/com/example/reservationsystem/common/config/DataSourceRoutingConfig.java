@@ -0,0 +1,79 @@
+package com.example.reservationsystem.common.config;
+
+import com.example.reservationsystem.common.datasource.ReadWriteRoutingDataSource;
+import com.example.reservationsystem.common.datasource.ReadYourWrites;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// reservation.datasource.replica.url 이 설정된 경우에만 primary / replica 두 풀을 만들고
+// readOnly 트랜잭션을 replica 로 보내는 라우팅 DataSource 를 기본 DataSource 로 등록한다.
+// 설정이 없으면 Spring Boot 기본 DataSource 하나만 쓴다.
+@Configuration
+@ConditionalOnProperty(prefix = "reservation.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+            @Value("${reservation.datasource.primary.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        return pool("primary", url, username, password, driverClassName, maximumPoolSize);
+    }
+
+    // 계정을 따로 지정하지 않으면 primary 계정을 쓴다
+    @Bean
+    public DataSource replicaDataSource(
+            @Value("${reservation.datasource.replica.url}") String url,
+            @Value("${reservation.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${reservation.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+            @Value("${reservation.datasource.replica.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        return pool("replica", url, username, password, driverClassName, maximumPoolSize);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReadYourWrites readYourWrites
+    ) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(readYourWrites);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 연결을 꺼내야 readOnly 여부로 라우팅할 수 있다
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         String driverClassName, int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        if (!driverClassName.isBlank()) {
+            config.setDriverClassName(driverClassName);
+        }
+        config.setMaximumPoolSize(maximumPoolSize);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.reservationsystem.common.config;
+
+import com.example.reservationsystem.common.admission.AdaptiveLimitInterceptor;
+import com.example.reservationsystem.common.admission.WaitingRoomInterceptor;
+import com.example.reservationsystem.common.bulkhead.BulkheadInterceptor;
+import com.example.reservationsystem.common.datasource.ReadRoutingInterceptor;
+import com.example.reservationsystem.common.ratelimit.StudentRateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final WaitingRoomInterceptor waitingRoomInterceptor;
+    private final AdaptiveLimitInterceptor adaptiveLimitInterceptor;
+    private final ReadRoutingInterceptor readRoutingInterceptor;
+    private final BulkheadInterceptor bulkheadInterceptor;
+    private final StudentRateLimitInterceptor studentRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 학번 단위 요청 제한: 예약/선점/확정/체크인/취소/조회 전부 (대기열/격벽 자리를 잡기 전에 429)
+        registry.addInterceptor(studentRateLimitInterceptor)
+                .addPathPatterns("/api/seats/**", "/api/meeting/**", "/api/waitlist/**", "/api/students/**")
+                .excludePathPatterns("/api/seats/init");
+
+        // 예약 생성 엔드포인트 앞 대기열
+        registry.addInterceptor(waitingRoomInterceptor)
+                .addPathPatterns(
+                        "/api/seats/reservations",
+                        "/api/seats/reservations/random",
+                        "/api/seats/holds",
+                        "/api/meeting/reservations"
+                );
+
+        // 조회(GET) 요청의 readOnly 트랜잭션을 replica 로 (replica 설정 시)
+        registry.addInterceptor(readRoutingInterceptor)
+                .addPathPatterns("/api/**");
+
+        // 좌석/회의실 예약 API 적응형 동시 처리 한도: 넘치는 요청은 기다리지 않고 바로 503 + Retry-After
+        // (격벽 대기 시간까지 응답 시간으로 관측하도록 격벽보다 먼저 등록)
+        registry.addInterceptor(adaptiveLimitInterceptor)
+                .addPathPatterns("/api/seats/**", "/api/meeting/**")
+                .excludePathPatterns("/api/seats/init");
+
+        // 트래픽 종류별 동시 처리 수 격벽 (대기열 통과 후에 자리를 잡는다)
+        registry.addInterceptor(bulkheadInterceptor)
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.reservationsystem.common.datasource;
+
+// 현재 스레드가 처리 중인 조회(GET) 요청 정보. ReadRoutingInterceptor 가 요청 시작/끝에 설정·해제한다.
+// 요청 밖(기동 시 인메모리 엔진 적재, 백그라운드 워커 등)에서는 비어 있으므로 항상 primary 를 쓴다.
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    // studentId 는 없을 수 있다 (학생과 무관한 조회)
+    public static void enter(Long studentId) {
+        CURRENT.set(new Request(studentId));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static Long studentId() {
+        Request request = CURRENT.get();
+        return request == null ? null : request.studentId();
+    }
+
+    private record Request(Long studentId) {
+    }
+}
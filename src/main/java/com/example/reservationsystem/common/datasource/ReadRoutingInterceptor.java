@@ -0,0 +1,38 @@
+package com.example.reservationsystem.common.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// GET 요청만 replica 라우팅 대상으로 표시한다.
+// OSIV 로 한 요청 안에서는 처음 얻은 연결이 유지되므로 쓰기가 섞일 수 있는 요청은 처음부터 primary 를 쓴다.
+// 쿼리 파라미터 studentId 가 있으면 read-your-writes 판정에 사용한다.
+@Component
+public class ReadRoutingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("GET".equalsIgnoreCase(request.getMethod())) {
+            ReadRoutingContext.enter(parseStudentId(request.getParameter("studentId")));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadRoutingContext.clear();
+    }
+
+    private static Long parseStudentId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            // 형식 오류는 컨트롤러 바인딩에서 400 으로 처리된다
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.reservationsystem.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// readOnly 트랜잭션 → replica, 나머지 → primary
+// - replica 는 GET 요청 안(ReadRoutingContext)에서만 사용하고, 그 학생이 방금 쓰기를 커밋했으면 primary
+// - 트랜잭션의 readOnly 여부는 연결을 실제로 꺼낼 때 확정되므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadWriteRoutingDataSource(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    public Route route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !ReadRoutingContext.isActive()) {
+            return Route.PRIMARY;
+        }
+        if (readYourWrites.isRecent(ReadRoutingContext.studentId())) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+}
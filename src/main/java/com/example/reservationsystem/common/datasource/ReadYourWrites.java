@@ -0,0 +1,60 @@
+package com.example.reservationsystem.common.datasource;
+
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 학생별 마지막 쓰기 커밋 시각. 커밋 후 window 동안은 그 학생의 조회를 primary 로 보내
+// replica 복제 지연 때문에 방금 한 예약/취소가 안 보이는 일을 막는다.
+// replica 가 설정되지 않았으면 아무것도 기록하지 않는다.
+@Component
+public class ReadYourWrites {
+
+    // 이 수를 넘으면 기록할 때 만료 항목을 정리한다
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final ConcurrentMap<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(
+            @Value("${reservation.datasource.replica.url:}") String replicaUrl,
+            @Value("${reservation.datasource.read-your-writes-window:PT5S}") Duration window
+    ) {
+        this.enabled = !replicaUrl.isBlank();
+        this.windowMillis = window.toMillis();
+    }
+
+    // 트랜잭션 안에서 호출하면 커밋된 뒤에 기록한다
+    public void markAfterCommit(Long studentId) {
+        if (!enabled || studentId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            if (lastWriteAt.size() >= CLEANUP_THRESHOLD) {
+                lastWriteAt.values().removeIf(at -> now - at >= windowMillis);
+            }
+            lastWriteAt.put(studentId, now);
+        });
+    }
+
+    public boolean isRecent(Long studentId) {
+        if (studentId == null) {
+            return false;
+        }
+        Long at = lastWriteAt.get(studentId);
+        if (at == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - at < windowMillis) {
+            return true;
+        }
+        lastWriteAt.remove(studentId, at);
+        return false;
+    }
+}
@@ -24,6 +24,12 @@ public enum ErrorCode implements BaseCode {
     SEAT_DAILY_LIMIT_EXCEEDED(HttpStatus.CONFLICT,  "좌석 예약 가능 시간을 초과하여 더 이상 예약할 수 없습니다."),
     INVALID_DURATION_HOURS(HttpStatus.BAD_REQUEST, "이용 시간은 2시간 또는 4시간만 가능합니다."),
     SEAT_ALREADY_IN_USE(HttpStatus.CONFLICT, "이미 이용이 시작되어 취소할 수 없습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 255자 이하여야 합니다."),
+    INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "조회 개수(size)는 1~100 사이여야 합니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    INVALID_RESERVATION_SCOPE(HttpStatus.BAD_REQUEST, "조회 범위(scope)는 upcoming 또는 past 만 가능합니다."),
+    INVALID_SEARCH_RANGE(HttpStatus.BAD_REQUEST, "검색 기간은 오늘 이후 최대 14일까지 가능합니다."),
+    INVALID_RECURRENCE(HttpStatus.BAD_REQUEST, "반복 예약 기간이 올바르지 않습니다. (시작일~종료일, 최대 16주)"),
 
     // ====== 404 NOT_FOUND ======
     ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 회의실입니다."),
@@ -32,6 +38,8 @@ public enum ErrorCode implements BaseCode {
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "유효하지 않은 좌석 번호입니다."),
     SEAT_RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약된 좌석이 없습니다."),
     SEAT_RESERVATION_NOT_FOUND1(HttpStatus.NOT_FOUND, "예약된 내역이 없습니다."),
+    WAITLIST_ENTRY_NOT_FOUND(HttpStatus.NOT_FOUND, "대기 중인 신청을 찾을 수 없습니다."),
+    SEAT_HOLD_NOT_FOUND(HttpStatus.NOT_FOUND, "좌석 선점이 없거나 만료되었습니다. 다시 선택해주세요."),
 
     // ====== 403 FORBIDDEN ======
     NO_CANCEL_PERMISSION(HttpStatus.FORBIDDEN, "예약 취소 권한은 대표자에게만 있습니다."),
@@ -44,7 +52,23 @@ public enum ErrorCode implements BaseCode {
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     SEAT_ALREADY_RESERVED(HttpStatus.CONFLICT, "동일 시간대에 이미 좌석을 예약 중입니다."),
     NO_AVAILABLE_SEATS(HttpStatus.CONFLICT, "예약 가능한 좌석이 없습니다."),
-    RESERVATION_ALREADY_FINISHED(HttpStatus.CONFLICT,    "이미 종료된 예약입니다.");
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청 본문을 보낼 수 없습니다."),
+    RESERVATION_ALREADY_FINISHED(HttpStatus.CONFLICT,    "이미 종료된 예약입니다."),
+    ALREADY_ON_WAITLIST(HttpStatus.CONFLICT, "이미 같은 시간대 대기를 신청했습니다."),
+    WAITLIST_SLOT_AVAILABLE(HttpStatus.CONFLICT, "지금 바로 예약할 수 있는 시간대입니다. 대기 대신 예약해주세요."),
+    SEAT_HOLD_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "이미 선점 중인 좌석이 있습니다. 확정하거나 해제한 뒤 다시 시도해주세요."),
+    CHECK_IN_NOT_AVAILABLE(HttpStatus.CONFLICT, "체크인 가능 시간이 아닙니다. (시작 10분 전 ~ 시작 15분 후)"),
+
+    // ====== 429 TOO_MANY_REQUESTS ======
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // ====== 503 SERVICE_UNAVAILABLE ======
+    WAITING_ROOM_FULL(HttpStatus.SERVICE_UNAVAILABLE, "대기 인원이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    WAITING_ROOM_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+    SEAT_BOOKING_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "예약 처리 결과를 기다리다 시간이 초과되었습니다. 내 예약 목록에서 결과를 확인해주세요."),
+    BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "서버가 혼잡합니다. Retry-After 시간 뒤에 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -11,11 +11,22 @@ public enum SuccessCode implements BaseCode {
     GET_ROOM_LIST_SUCCESS(HttpStatus.OK,    "회의실 예약 조회에 성공했습니다."),
     CANCEL_RESERVATION_SUCCESS(HttpStatus.OK, "예약이 취소되었습니다."),
     CREATE_RESERVATION_SUCCESS(HttpStatus.CREATED,"예약이 완료되었습니다."),
+    CREATE_RECURRING_RESERVATION_SUCCESS(HttpStatus.CREATED, "반복 예약 처리가 완료되었습니다. 회차별 결과를 확인해주세요."),
 
     GET_SEAT_AVAILABILITY_SUCCESS(HttpStatus.OK,"예약된 좌석 조회에 성공했습니다."),
     GET_SEAT_RESERVATIONS_SUCCESS(HttpStatus.OK,"내 좌석 예약 조회에 성공했습니다."),
     CREATE_SEAT_RESERVATION_SUCCESS(HttpStatus.OK,"좌석 예약이 완료되었습니다."),
-    CREATE_RANDOM_SEAT_RESERVATION_SUCCESS(HttpStatus.OK,"랜덤 예약 완료");
+    CREATE_RANDOM_SEAT_RESERVATION_SUCCESS(HttpStatus.OK,"랜덤 예약 완료"),
+    CREATE_SEAT_HOLD_SUCCESS(HttpStatus.CREATED, "좌석이 임시 선점되었습니다. 만료 전에 확정해주세요."),
+    RELEASE_SEAT_HOLD_SUCCESS(HttpStatus.OK, "좌석 선점이 해제되었습니다."),
+    CHECK_IN_SUCCESS(HttpStatus.OK, "체크인되었습니다."),
+
+    GET_STUDENT_TIMELINE_SUCCESS(HttpStatus.OK, "내 하루 일정 조회에 성공했습니다."),
+    GET_ROOM_AVAILABILITY_SUCCESS(HttpStatus.OK, "회의실 예약 가능 시간 조회에 성공했습니다."),
+
+    JOIN_WAITLIST_SUCCESS(HttpStatus.CREATED, "예약 대기가 신청되었습니다. 자리가 나면 자동으로 예약됩니다."),
+    GET_WAITLIST_SUCCESS(HttpStatus.OK, "내 예약 대기 조회에 성공했습니다."),
+    CANCEL_WAITLIST_SUCCESS(HttpStatus.OK, "예약 대기가 취소되었습니다.");
     //CANCEL_SEAT_RESERVATION_SUCCESS("예약이 취소되었습니다.");
 
     // 본 코드
@@ -8,15 +8,27 @@ public class CustomException extends RuntimeException {
 
     private final BaseCode errorCode;
 
+    // 실패 응답 payload 로 함께 내려줄 데이터 (예: 예약 충돌 시 대안 시간대), 없으면 null
+    private final Object payload;
+
     // ✅ 핵심: RuntimeException의 message를 세팅해준다.
     public CustomException(BaseCode errorCode) {
         super(errorCode.getReasonHttpStatus().getMessage());
         this.errorCode = errorCode;
+        this.payload = null;
     }
 
     // (선택) cause까지 붙이고 싶을 때
     public CustomException(BaseCode errorCode, Throwable cause) {
         super(errorCode.getReasonHttpStatus().getMessage(), cause);
         this.errorCode = errorCode;
+        this.payload = null;
+    }
+
+    // 에러 응답에 payload 를 붙일 때 (원래 예외는 cause 로 유지)
+    public CustomException(BaseCode errorCode, Object payload, Throwable cause) {
+        super(errorCode.getReasonHttpStatus().getMessage(), cause);
+        this.errorCode = errorCode;
+        this.payload = payload;
     }
 }
@@ -1,7 +1,7 @@
 package com.example.reservationsystem.common.exception;
 
 import com.example.reservationsystem.common.response.ApiResponse;
-import com.example.reservationsystem.common.response.ApiResult;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -10,7 +10,15 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<ApiResponse<ApiResult>> handleApiException(CustomException e) {
-        return ApiResponse.onFailure(e.getErrorCode());
+    public ResponseEntity<ApiResponse<Object>> handleApiException(CustomException e) {
+        return ApiResponse.onFailure(e.getErrorCode(), e.getPayload());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(RetryAfterException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRetryAfterException(RetryAfterException e) {
+        ResponseEntity<ApiResponse<Object>> failure = ApiResponse.onFailure(e.getErrorCode(), e.getPayload());
+        return ResponseEntity.status(failure.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(failure.getBody());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.reservationsystem.common.exception;
+
+import com.example.reservationsystem.common.enums.BaseCode;
+import lombok.Getter;
+
+// 잠시 후 다시 시도하면 되는 거절 (과부하로 요청을 버린 경우 등). 응답에 Retry-After 헤더(초)를 붙인다.
+@Getter
+public class RetryAfterException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RetryAfterException(BaseCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
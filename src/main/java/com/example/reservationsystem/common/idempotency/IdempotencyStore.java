@@ -0,0 +1,181 @@
+package com.example.reservationsystem.common.idempotency;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.exception.RetryAfterException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Idempotency-Key 헤더 처리용 인메모리 저장소
+// - (scope, key) 별 첫 요청만 실제로 실행하고, 재시도는 저장된 결과(성공 payload 또는 CustomException)를 그대로 재생
+// - 원 요청이 아직 처리 중이면 재시도는 그 결과를 기다린다 (최대 in-flight-wait)
+// - 같은 키로 본문이 다른 요청이 오면 결과를 재생하지 않고 IDEMPOTENCY_KEY_REUSED 로 거절 (요청 DTO equals 비교)
+// - 예상하지 못한 예외, 일시적 거절(5xx / RetryAfterException)로 끝난 요청은 저장하지 않아 같은 키로 다시 시도할 수 있다
+//   (예: SEAT_BOOKING_TIMEOUT 은 처리 결과를 모른다는 뜻이라 재시도가 다시 실행되어 실제 결과를 받아야 한다)
+// - 삽입 순서 LinkedHashMap + TTL / 최대 건수 제한 (처리 중인 항목은 제거하지 않음)
+// - 맵 접근은 ReentrantLock 으로 보호 (synchronized 는 가상 스레드를 캐리어에 고정시킨다)
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long inFlightWaitNanos;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public IdempotencyStore(
+            @Value("${reservation.idempotency.ttl:PT10M}") Duration ttl,
+            @Value("${reservation.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${reservation.idempotency.in-flight-wait:PT10S}") Duration inFlightWait
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.inFlightWaitNanos = inFlightWait.toNanos();
+    }
+
+    // key 가 없으면 그냥 실행한다. scope 에는 엔드포인트 + 요청자(학번)를 넣어 키 충돌 범위를 좁힌다.
+    // request 는 요청 본문 DTO (equals 구현 필요) - 첫 요청과 다르면 키 재사용으로 본다.
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String key, Object request, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String id = scope + "|" + key;
+        Entry mine = new Entry(System.nanoTime(), request);
+        Entry existing = putIfAbsent(id, mine);
+        if (existing != null) {
+            if (!Objects.equals(existing.request, request)) {
+                throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return (T) replay(existing);
+        }
+
+        try {
+            T result = action.get();
+            mine.outcome.complete(result);
+            return result;
+        } catch (CustomException e) {
+            // 검증/충돌 결과도 요청의 결과이므로 그대로 재생한다. 일시적 거절은 결과가 아니므로 항목을 지운다
+            // (그 사이 기다리던 재시도는 같은 거절을 받고, 이후 재시도는 새로 실행된다)
+            if (isTransient(e)) {
+                remove(id, mine);
+            }
+            mine.outcome.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            remove(id, mine);
+            mine.outcome.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static boolean isTransient(CustomException e) {
+        return e instanceof RetryAfterException
+                || e.getErrorCode().getReasonHttpStatus().getHttpStatus().is5xxServerError();
+    }
+
+    private Object replay(Entry entry) {
+        try {
+            return entry.outcome.get(inFlightWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Entry putIfAbsent(String id, Entry entry) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            Entry existing = entries.get(id);
+            if (existing != null && !existing.isExpired(now, ttlNanos)) {
+                return existing;
+            }
+            if (existing != null) {
+                entries.remove(id);
+            }
+            evict(now);
+            entries.put(id, entry);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String id, Entry entry) {
+        lock.lock();
+        try {
+            entries.remove(id, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 오래된 항목이 앞쪽에 모여 있으므로 앞에서부터 정리한다. (lock 보유 상태에서만 호출)
+    private void evict(long now) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry e = it.next().getValue();
+            boolean overCapacity = entries.size() >= maxEntries;
+            if (!overCapacity && !e.isExpired(now, ttlNanos)) {
+                break;
+            }
+            if (e.outcome.isDone()) {
+                it.remove();
+            }
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry {
+
+        private final long createdAt;
+        private final Object request;
+        private final CompletableFuture<Object> outcome = new CompletableFuture<>();
+
+        private Entry(long createdAt, Object request) {
+            this.createdAt = createdAt;
+            this.request = request;
+        }
+
+        private boolean isExpired(long now, long ttlNanos) {
+            return outcome.isDone() && now - createdAt > ttlNanos;
+        }
+    }
+}
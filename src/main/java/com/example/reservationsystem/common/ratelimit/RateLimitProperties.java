@@ -0,0 +1,49 @@
+package com.example.reservationsystem.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// reservation.rate-limit.* 설정
+// buckets.<이름>.permits-per-second / burst 로 엔드포인트별 한도를 지정한다.
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reservation.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 버킷별로 추적하는 학번 수 상한 (넘으면 유휴 항목 정리 → 그래도 차면 새 학번은 추적 없이 통과)
+    private int maxKeysPerBucket = 50_000;
+
+    private Map<String, Bucket> buckets = new HashMap<>(Map.of(
+            StudentRateLimiter.SEAT_CREATE, new Bucket(1.0, 5),
+            StudentRateLimiter.ROOM_CREATE, new Bucket(1.0, 5),
+            StudentRateLimiter.CANCEL, new Bucket(1.0, 5),
+            StudentRateLimiter.READ, new Bucket(5.0, 20)
+    ));
+
+    @Getter
+    @Setter
+    public static class Bucket {
+
+        // 초당 보충 토큰 수
+        private double permitsPerSecond;
+
+        // 한 번에 허용하는 최대 요청 수
+        private int burst;
+
+        public Bucket() {
+        }
+
+        public Bucket(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
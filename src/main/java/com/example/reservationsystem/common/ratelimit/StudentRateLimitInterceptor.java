@@ -0,0 +1,99 @@
+package com.example.reservationsystem.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Map;
+
+// 학번 단위 요청 제한을 컨트롤러 앞에서 건다 (대기열/격벽보다 먼저 등록 → 한도 초과 요청은 자리를 잡기 전에 429).
+// - 버킷: DELETE → cancel, GET → read, 그 외 쓰기 → /api/meeting/**, /api/waitlist/rooms 는 room-create, 나머지는 seat-create
+//   (선점 확정 / 체크인도 쓰기 경로라 해당 자원의 생성 버킷을 쓴다)
+// - 학번: studentId / representativeStudentId 요청 파라미터 → 경로 변수 studentId → JSON 본문(CachedBodyFilter)의 같은 이름 필드
+//   학번을 찾지 못하거나 숫자가 아니면 제한하지 않는다 (형식 오류 응답은 컨트롤러 검증이 맡는다)
+@Component
+@RequiredArgsConstructor
+public class StudentRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String[] STUDENT_FIELDS = {"studentId", "representativeStudentId"};
+
+    private final StudentRateLimiter studentRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long studentId = studentIdOf(request);
+        if (studentId != null) {
+            studentRateLimiter.acquire(classify(request), studentId);
+        }
+        return true;
+    }
+
+    static String classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("DELETE".equalsIgnoreCase(method)) {
+            return StudentRateLimiter.CANCEL;
+        }
+        if ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method)) {
+            return StudentRateLimiter.READ;
+        }
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/meeting/") || uri.equals("/api/meeting") || uri.startsWith("/api/waitlist/rooms")) {
+            return StudentRateLimiter.ROOM_CREATE;
+        }
+        return StudentRateLimiter.SEAT_CREATE;
+    }
+
+    private static Long studentIdOf(HttpServletRequest request) {
+        for (String field : STUDENT_FIELDS) {
+            String param = request.getParameter(field);
+            if (param != null) {
+                return parse(param);
+            }
+        }
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> vars
+                && vars.get("studentId") instanceof String path) {
+            return parse(path);
+        }
+        CachedBodyFilter.CachedBodyRequest cached =
+                WebUtils.getNativeRequest(request, CachedBodyFilter.CachedBodyRequest.class);
+        return cached != null ? fromBody(cached.getBody()) : null;
+    }
+
+    private static Long fromBody(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+        if (root == null || !root.isObject()) {
+            return null;
+        }
+        for (String field : STUDENT_FIELDS) {
+            JsonNode node = root.get(field);
+            if (node != null && !node.isNull()) {
+                return node.canConvertToLong() ? Long.valueOf(node.asLong()) : parse(node.asText());
+            }
+        }
+        return null;
+    }
+
+    private static Long parse(String value) {
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.reservationsystem.common.ratelimit;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 학번 단위 토큰 버킷 (GCRA: 학번마다 "이론상 도착 시각" 하나만 AtomicLong 으로 보관, CAS 로만 갱신)
+// - StudentRateLimitInterceptor 가 컨트롤러 앞에서 호출 → 한도 초과 요청은 DB 조회 전에 TOO_MANY_REQUESTS
+// - 버킷별 학번 수가 max-keys-per-bucket 에 닿으면 이미 토큰이 다 찬(유휴) 항목을 정리하고,
+//   그래도 부족하면 새 학번은 추적하지 않고 통과시킨다 (메모리 상한 유지, 다른 학생 요청 때문에 거절되는 일 없음)
+// - 메트릭: reservation.ratelimit.requests{bucket, outcome=accepted|rejected|untracked}, reservation.ratelimit.keys{bucket}
+@Component
+public class StudentRateLimiter {
+
+    public static final String SEAT_CREATE = "seat-create";
+    public static final String ROOM_CREATE = "room-create";
+    public static final String CANCEL = "cancel";
+    public static final String READ = "read";
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // 정리는 버킷당 이 간격에 한 번만 시도한다 (가득 찬 상태에서 매 요청마다 훑지 않도록)
+    private static final long SWEEP_INTERVAL_NANOS = NANOS_PER_SECOND;
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public StudentRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void acquire(String bucket, Long studentId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Limiter limiter = limiters.computeIfAbsent(bucket, this::newLimiter);
+        if (limiter == null) {
+            return;
+        }
+        if (limiter.tryAcquire(studentId)) {
+            limiter.accepted.increment();
+        } else {
+            limiter.rejected.increment();
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    // 설정이 없거나 보충 속도가 0 이하인 버킷은 제한하지 않는다.
+    private Limiter newLimiter(String bucket) {
+        RateLimitProperties.Bucket config = properties.getBuckets().get(bucket);
+        if (config == null || config.getPermitsPerSecond() <= 0) {
+            return null;
+        }
+        long interval = Math.max(1L, (long) (NANOS_PER_SECOND / config.getPermitsPerSecond()));
+        long tolerance = interval * Math.max(0, config.getBurst() - 1);
+        Limiter limiter = new Limiter(interval, tolerance, properties.getMaxKeysPerBucket(),
+                meterRegistry.counter("reservation.ratelimit.requests", "bucket", bucket, "outcome", "accepted"),
+                meterRegistry.counter("reservation.ratelimit.requests", "bucket", bucket, "outcome", "rejected"),
+                meterRegistry.counter("reservation.ratelimit.requests", "bucket", bucket, "outcome", "untracked"));
+        Gauge.builder("reservation.ratelimit.keys", limiter.states, Map::size)
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private static final class Limiter {
+
+        private final long interval;
+        private final long tolerance;
+        private final int maxKeys;
+        private final Counter accepted;
+        private final Counter rejected;
+        private final Counter untracked;
+
+        // 값 = 다음 요청의 이론상 도착 시각(TAT, System.nanoTime 기준)
+        private final ConcurrentHashMap<Long, AtomicLong> states = new ConcurrentHashMap<>();
+        private final AtomicLong lastSweep = new AtomicLong(System.nanoTime() - SWEEP_INTERVAL_NANOS);
+
+        private Limiter(long interval, long tolerance, int maxKeys, Counter accepted, Counter rejected, Counter untracked) {
+            this.interval = interval;
+            this.tolerance = tolerance;
+            this.maxKeys = maxKeys;
+            this.accepted = accepted;
+            this.rejected = rejected;
+            this.untracked = untracked;
+        }
+
+        private boolean tryAcquire(Long studentId) {
+            long now = System.nanoTime();
+            AtomicLong tat = stateOf(studentId, now);
+            if (tat == null) {
+                // 추적 상한 초과: 다른 학생과 상태를 공유하지 않고 통과 (untracked 로 집계)
+                untracked.increment();
+                return true;
+            }
+            return tryAcquire(tat, now);
+        }
+
+        private boolean tryAcquire(AtomicLong tat, long now) {
+            while (true) {
+                long current = tat.get();
+                long base = current - now < 0 ? now : current;
+                if (base - now > tolerance) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, base + interval)) {
+                    return true;
+                }
+            }
+        }
+
+        // 추적할 수 없으면 null (학번 없음 / 상한 초과)
+        private AtomicLong stateOf(Long studentId, long now) {
+            if (studentId == null) {
+                return null;
+            }
+            AtomicLong tat = states.get(studentId);
+            if (tat != null) {
+                return tat;
+            }
+            if (states.size() >= maxKeys) {
+                sweep(now);
+                if (states.size() >= maxKeys) {
+                    return null;
+                }
+            }
+            return states.computeIfAbsent(studentId, id -> new AtomicLong(now));
+        }
+
+        // TAT 가 지난 항목은 토큰이 가득 찬 상태라 지워도 동작이 같다.
+        private void sweep(long now) {
+            long last = lastSweep.get();
+            if (now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+                return;
+            }
+            states.values().removeIf(tat -> tat.get() - now < 0);
+        }
+    }
+}
@@ -25,7 +25,7 @@ public class ApiResponse<T> {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private final ErrorCode errorCode;
 
-    @Schema(description = "응답 데이터 (성공 시에만 존재)")
+    @Schema(description = "응답 데이터 (성공 시 결과, 일부 실패 시 대안 정보)")
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private final T payload;
 
@@ -37,7 +37,12 @@ public class ApiResponse<T> {
 
     // 실패 응답
     public static <T> ResponseEntity<ApiResponse<T>> onFailure(BaseCode code) {
-        ApiResponse<T> response = new ApiResponse<>(false, code.getReasonHttpStatus().getMessage(), (ErrorCode) code, null);
+        return onFailure(code, null);
+    }
+
+    // 실패 응답 + payload (예: 예약 충돌 시 대안 시간대)
+    public static <T> ResponseEntity<ApiResponse<T>> onFailure(BaseCode code, T payload) {
+        ApiResponse<T> response = new ApiResponse<>(false, code.getReasonHttpStatus().getMessage(), (ErrorCode) code, payload);
         return ResponseEntity.status(code.getReasonHttpStatus().getHttpStatus()).body(response);
     }
 }
@@ -0,0 +1,18 @@
+package com.example.reservationsystem.common.util;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+// DB 제약조건 위반 예외가 특정 유니크 제약 때문인지 확인 (MySQL / H2 메시지 모두 제약 이름을 포함)
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.reservationsystem.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+// 만료 작업용 해시 타이밍 휠 (틱 단위 근사 타이머)
+// - 버킷 배열을 틱마다 한 칸씩 돌며 그 칸의 만료 작업만 실행 → 예약/취소 O(1), 틱당 처리량은 해당 칸 크기만큼
+// - 작업별 예약 스레드나 DB 폴링 없이 워커 스레드 1개가 모든 만료를 처리
+// - schedule() 은 대기 큐에만 넣고 버킷 배치는 워커가 한다 (버킷은 워커 전용이라 잠금 없음)
+// - 취소는 플래그만 세우고 해당 칸을 돌 때 버린다
+// 만료 시각은 최대 1틱 늦을 수 있다. 작업은 워커 스레드에서 실행되므로 짧게 유지한다.
+@Slf4j
+public final class HashedTimingWheel {
+
+    private final String name;
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout>> wheel;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private long startNanos;
+    private long tick;
+    private Thread worker;
+    private volatile boolean running;
+
+    // wheelSize 는 2의 거듭제곱으로 올림
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize) {
+        if (tickDuration.isZero() || tickDuration.isNegative() || wheelSize < 1) {
+            throw new IllegalArgumentException("invalid timing wheel settings");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        size = Math.max(size, 1);
+        this.name = name;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = size - 1;
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startNanos = System.nanoTime();
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        Timeout timeout = new Timeout(task, System.nanoTime() + delay.toNanos());
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long sleep;
+            while ((sleep = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (!running) {
+                    return;
+                }
+            }
+            transferPending();
+            expire(wheel.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    // 대기 큐 → 버킷 (이미 지난 만료 시각은 현재 틱 칸으로)
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expireTick = Math.max((timeout.deadlineNanos - startNanos) / tickNanos, tick);
+            timeout.remainingRounds = (expireTick - tick) / wheel.size();
+            wheel.get((int) (expireTick & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.isCancelled()) {
+                it.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                it.remove();
+                timeout.fire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicBoolean done = new AtomicBoolean();
+        // 워커 스레드에서만 읽고 쓴다
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        // 아직 실행 전이면 취소하고 true
+        public boolean cancel() {
+            return done.compareAndSet(false, true);
+        }
+
+        public boolean isCancelled() {
+            return done.get();
+        }
+
+        private void fire() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // 만료 작업 하나의 실패로 휠이 멈추지 않게 한다 (워커 스레드 이름 = 휠 이름)
+                log.warn("timing wheel task failed on {}", Thread.currentThread().getName(), e);
+            }
+        }
+    }
+}
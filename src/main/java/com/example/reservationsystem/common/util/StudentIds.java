@@ -0,0 +1,21 @@
+package com.example.reservationsystem.common.util;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+
+// 요청 학번 검증 (좌석/회의실/대기열/선점/노쇼/일정 조회가 같은 규칙을 쓴다)
+public final class StudentIds {
+
+    private StudentIds() {
+    }
+
+    public static void validate(Long studentId) {
+        if (studentId == null) {
+            throw new CustomException(ErrorCode.INVALID_STUDENT_ID);
+        }
+        // 하드코딩 무효 학번
+        if (studentId == 202099999L || studentId == 202288888L) {
+            throw new CustomException(ErrorCode.INVALID_STUDENT_ID);
+        }
+    }
+}
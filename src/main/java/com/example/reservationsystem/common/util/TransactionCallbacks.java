@@ -0,0 +1,48 @@
+package com.example.reservationsystem.common.util;
+
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 결과에 맞춰 인메모리 상태를 반영하기 위한 헬퍼
+// 트랜잭션 밖에서 호출되면 즉시 실행한다.
+// 커밋 후 콜백은 다른 동기화(@TransactionalEventListener 등)보다 먼저 실행해
+// 커밋 이벤트를 받는 쪽이 항상 갱신된 인메모리 상태를 보게 한다.
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 롤백된 경우에만 실행 (트랜잭션 밖이면 아무것도 하지 않는다)
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
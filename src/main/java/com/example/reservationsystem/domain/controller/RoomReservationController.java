@@ -2,14 +2,25 @@ package com.example.reservationsystem.domain.controller;
 
 import com.example.reservationsystem.common.enums.ErrorCode;
 import com.example.reservationsystem.common.enums.SuccessCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.idempotency.IdempotencyStore;
 import com.example.reservationsystem.common.response.ApiResponse;
+import com.example.reservationsystem.domain.dto.CursorPageDto;
 import com.example.reservationsystem.domain.dto.ReservationDetailDto;
 import com.example.reservationsystem.domain.dto.ReservationRequestDto;
 import com.example.reservationsystem.domain.dto.ReservationResponseDto;
+import com.example.reservationsystem.domain.dto.ReservationScope;
+import com.example.reservationsystem.domain.dto.RecurringReservationRequestDto;
+import com.example.reservationsystem.domain.dto.RecurringReservationResponseDto;
+import com.example.reservationsystem.domain.dto.RoomAvailabilityDto;
 import com.example.reservationsystem.domain.dto.RoomScheduleDto;
+import com.example.reservationsystem.domain.service.ConflictAlternativesService;
+import com.example.reservationsystem.domain.service.NoShowService;
+import com.example.reservationsystem.domain.service.RoomAvailabilityService;
 import com.example.reservationsystem.domain.service.RoomReservationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,23 +33,60 @@ import java.util.List;
 public class RoomReservationController {
 
     private final RoomReservationService roomReservationService;
+    private final RoomAvailabilityService roomAvailabilityService;
+    private final ConflictAlternativesService conflictAlternativesService;
+    private final NoShowService noShowService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * 1) 회의실 예약 생성
      */
     @PostMapping
     public ResponseEntity<ApiResponse<ReservationResponseDto>> createReservation(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ReservationRequestDto req
     ) {
-        ReservationResponseDto dto = roomReservationService.createRoomReservation(req);
+        ReservationResponseDto dto = idempotencyStore.execute(
+                "POST /api/meeting/reservations|" + req.getRepresentativeStudentId(),
+                idempotencyKey,
+                req,
+                () -> createOrSuggest(req));
         return ApiResponse.onSuccess(SuccessCode.CREATE_RESERVATION_SUCCESS, dto);
     }
 
+    /**
+     * 2) 회의실 반복 예약 생성 (매주 같은 요일/시간, 회차별 결과 반환)
+     */
+    @PostMapping("/recurring")
+    public ResponseEntity<ApiResponse<RecurringReservationResponseDto>> createRecurringReservation(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody RecurringReservationRequestDto req
+    ) {
+        RecurringReservationResponseDto dto = idempotencyStore.execute(
+                "POST /api/meeting/reservations/recurring|" + req.getRepresentativeStudentId(),
+                idempotencyKey,
+                req,
+                () -> roomReservationService.createRecurringRoomReservations(req));
+        return ApiResponse.onSuccess(SuccessCode.CREATE_RECURRING_RESERVATION_SUCCESS, dto);
+    }
+
+    // 회의실 충돌(ROOM_ALREADY_RESERVED)이면 롤백 후 대안 시간대를 payload 로 붙인다
+    private ReservationResponseDto createOrSuggest(ReservationRequestDto req) {
+        try {
+            return roomReservationService.createRoomReservation(req);
+        } catch (CustomException e) {
+            throw conflictAlternativesService.withRoomAlternatives(e, req);
+        }
+    }
+
     @GetMapping
     public ResponseEntity<?> getReservations(
             @Valid
             @RequestParam(required = false) String date,
-            @RequestParam(required = false) String studentId
+            @RequestParam(required = false) String studentId,
+            @RequestParam(required = false) String scope,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
 
         // A) date 기반 회의실 일정 조회
@@ -55,8 +103,20 @@ public class RoomReservationController {
 
         // B) studentId 기반 내 예약 조회
         if (studentId != null) {
+            long sid = Long.parseLong(studentId);
+
+            // scope/cursor/size 중 하나라도 있으면 키셋 페이지 응답
+            if (scope != null || cursor != null || size != null) {
+                CursorPageDto<ReservationDetailDto> page = roomReservationService.getReservationsByStudentId(
+                        sid,
+                        ReservationScope.from(scope),
+                        cursor,
+                        size != null ? size : CursorPageDto.DEFAULT_SIZE);
+                return ApiResponse.onSuccess(SuccessCode.GET_ROOM_LIST_SUCCESS, page);
+            }
+
             List<ReservationDetailDto> list =
-                    roomReservationService.getReservationsByStudentId(Long.parseLong(studentId));
+                    roomReservationService.getReservationsByStudentId(sid);
 
             return ApiResponse.onSuccess(
                     SuccessCode.GET_ROOM_LIST_SUCCESS,
@@ -67,6 +127,30 @@ public class RoomReservationController {
         return ApiResponse.onFailure(ErrorCode.INVALID_REQUEST);
     }
 
+    /**
+     * 3) 빈 시간 검색 (참가자 전원 + 회의실이 비어 있고 한도 안인 후보)
+     * GET /api/meeting/reservations/availability?representativeStudentId=202100001
+     *     &participantStudentIds=202100002,202100003&duration=1&from=2025-12-10&to=2025-12-12
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<List<RoomAvailabilityDto>>> searchAvailability(
+            @RequestParam Long representativeStudentId,
+            @RequestParam(required = false) List<Long> participantStudentIds,
+            @RequestParam int duration,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<RoomAvailabilityDto> options = roomAvailabilityService.search(
+                representativeStudentId,
+                participantStudentIds,
+                duration,
+                from,
+                to,
+                size != null ? size : RoomAvailabilityService.DEFAULT_SIZE);
+        return ApiResponse.onSuccess(SuccessCode.GET_ROOM_AVAILABILITY_SUCCESS, options);
+    }
+
     /**
      * 4) 예약 취소
      */
@@ -79,4 +163,17 @@ public class RoomReservationController {
         roomReservationService.cancelMeetingReservation(reservationId, studentId);
         return ApiResponse.onSuccess(SuccessCode.CANCEL_RESERVATION_SUCCESS, null);
     }
-}
\ No newline at end of file
+
+    /**
+     * 5) 체크인 (참가자 누구나, 시작 10분 전 ~ 시작 15분 후)
+     * - 마감까지 체크인이 없으면 예약은 NO_SHOW 로 해제된다
+     */
+    @PostMapping("/{reservationId}/check-in")
+    public ResponseEntity<ApiResponse<Void>> checkIn(
+            @PathVariable Long reservationId,
+            @RequestParam Long studentId
+    ) {
+        noShowService.checkInRoom(reservationId, studentId);
+        return ApiResponse.onSuccess(SuccessCode.CHECK_IN_SUCCESS, null);
+    }
+}
\ No newline at end of file
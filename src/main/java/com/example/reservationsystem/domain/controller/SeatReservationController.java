@@ -1,10 +1,17 @@
 package com.example.reservationsystem.domain.controller;
 
 import com.example.reservationsystem.common.enums.SuccessCode;
+import com.example.reservationsystem.common.idempotency.IdempotencyStore;
 import com.example.reservationsystem.common.response.ApiResponse;
+import com.example.reservationsystem.domain.dto.CursorPageDto;
+import com.example.reservationsystem.domain.dto.ReservationScope;
+import com.example.reservationsystem.domain.dto.SeatHoldDto;
 import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
 import com.example.reservationsystem.domain.dto.SeatReservationResponseDto;
 import com.example.reservationsystem.domain.dto.SeatResponseDto;
+import com.example.reservationsystem.domain.service.NoShowService;
+import com.example.reservationsystem.domain.service.SeatHoldService;
+import com.example.reservationsystem.domain.service.SeatReservationDispatcher;
 import com.example.reservationsystem.domain.service.SeatReservationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -22,6 +29,10 @@ import java.util.Map;
 public class SeatReservationController {
 
     private final SeatReservationService seatReservationService;
+    private final SeatReservationDispatcher seatReservationDispatcher;
+    private final SeatHoldService seatHoldService;
+    private final NoShowService noShowService;
+    private final IdempotencyStore idempotencyStore;
 
     // ----------------------------------------------------------
     // A) 좌석 예약 현황 조회 (해당 시간대 예약된 seatId 리스트)
@@ -44,11 +55,24 @@ public class SeatReservationController {
     // ----------------------------------------------------------
     // B) 내 좌석 예약 조회
     // GET /api/seats/reservations?studentId=202100002
+    // 페이지 조회: &scope=upcoming|past&size=20&cursor=... (셋 중 하나라도 있으면 키셋 페이지 응답)
     // ----------------------------------------------------------
     @GetMapping("/reservations")
     public ResponseEntity<?> getMySeatReservations(
-            @RequestParam Long studentId
+            @RequestParam Long studentId,
+            @RequestParam(required = false) String scope,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
+        if (scope != null || cursor != null || size != null) {
+            CursorPageDto<SeatReservationResponseDto> page = seatReservationService.getReservationsByStudentId(
+                    studentId,
+                    ReservationScope.from(scope),
+                    cursor,
+                    size != null ? size : CursorPageDto.DEFAULT_SIZE);
+            return ApiResponse.onSuccess(SuccessCode.GET_SEAT_RESERVATIONS_SUCCESS, page);
+        }
+
         List<SeatReservationResponseDto> list =
                 seatReservationService.getReservationsByStudentId(studentId);
 
@@ -62,10 +86,14 @@ public class SeatReservationController {
     // ----------------------------------------------------------
     @PostMapping("/reservations")
     public ResponseEntity<?> createSeatReservation(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @RequestBody SeatReservationRequestDto req
     ) {
-        SeatResponseDto dto =
-                seatReservationService.createSeatReservation(req);
+        SeatResponseDto dto = idempotencyStore.execute(
+                "POST /api/seats/reservations|" + req.getStudentId(),
+                idempotencyKey,
+                req,
+                () -> seatReservationDispatcher.createSeatReservation(req));
 
         return ApiResponse.onSuccess(SuccessCode.CREATE_SEAT_RESERVATION_SUCCESS, dto);
     }
@@ -77,10 +105,14 @@ public class SeatReservationController {
     // ----------------------------------------------------------
     @PostMapping("/reservations/random")
     public ResponseEntity<?> createRandomSeatReservation(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @RequestBody SeatReservationRequestDto req
     ) {
-        SeatResponseDto dto =
-                seatReservationService.createRandomSeatReservation(req);
+        SeatResponseDto dto = idempotencyStore.execute(
+                "POST /api/seats/reservations/random|" + req.getStudentId(),
+                idempotencyKey,
+                req,
+                () -> seatReservationDispatcher.createRandomSeatReservation(req));
 
         return ApiResponse.onSuccess(SuccessCode.CREATE_RANDOM_SEAT_RESERVATION_SUCCESS, dto);
     }
@@ -95,4 +127,58 @@ public class SeatReservationController {
         String message = seatReservationService.cancelSeatReservation(reservationId, studentId);
         return ResponseEntity.ok(Map.of("message", message));
     }
+
+
+    // ----------------------------------------------------------
+    // F) 좌석 임시 선점 (좌석 배치도에서 선택 → 만료 전까지 다른 사람에게 보이지 않음)
+    // POST /api/seats/holds
+    // ----------------------------------------------------------
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<SeatHoldDto>> holdSeat(
+            @RequestBody SeatReservationRequestDto req
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.CREATE_SEAT_HOLD_SUCCESS, seatHoldService.hold(req));
+    }
+
+
+    // ----------------------------------------------------------
+    // G) 선점 확정 → 좌석 예약 생성
+    // POST /api/seats/holds/{holdId}/confirm?studentId=XXXX
+    // ----------------------------------------------------------
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<ApiResponse<SeatResponseDto>> confirmSeatHold(
+            @PathVariable String holdId,
+            @RequestParam Long studentId
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.CREATE_SEAT_RESERVATION_SUCCESS,
+                seatHoldService.confirm(holdId, studentId));
+    }
+
+
+    // ----------------------------------------------------------
+    // H) 선점 해제
+    // DELETE /api/seats/holds/{holdId}?studentId=XXXX
+    // ----------------------------------------------------------
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<ApiResponse<Void>> releaseSeatHold(
+            @PathVariable String holdId,
+            @RequestParam Long studentId
+    ) {
+        seatHoldService.release(holdId, studentId);
+        return ApiResponse.onSuccess(SuccessCode.RELEASE_SEAT_HOLD_SUCCESS, null);
+    }
+
+
+    // ----------------------------------------------------------
+    // I) 체크인 (시작 10분 전 ~ 시작 15분 후, 마감까지 없으면 예약 자동 해제)
+    // POST /api/seats/reservations/{id}/check-in?studentId=XXXX
+    // ----------------------------------------------------------
+    @PostMapping("/reservations/{id}/check-in")
+    public ResponseEntity<ApiResponse<Void>> checkIn(
+            @PathVariable Long id,
+            @RequestParam Long studentId
+    ) {
+        noShowService.checkInSeat(id, studentId);
+        return ApiResponse.onSuccess(SuccessCode.CHECK_IN_SUCCESS, null);
+    }
 }
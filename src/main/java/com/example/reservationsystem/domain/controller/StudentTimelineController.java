@@ -0,0 +1,36 @@
+package com.example.reservationsystem.domain.controller;
+
+import com.example.reservationsystem.common.enums.SuccessCode;
+import com.example.reservationsystem.common.response.ApiResponse;
+import com.example.reservationsystem.domain.dto.StudentTimelineDto;
+import com.example.reservationsystem.domain.service.StudentTimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/students")
+public class StudentTimelineController {
+
+    private final StudentTimelineService studentTimelineService;
+
+    // ----------------------------------------------------------
+    // 내 하루 일정 (좌석 + 회의실 통합)
+    // GET /api/students/202100002/timeline?date=2025-12-10 (date 생략 시 오늘)
+    // ----------------------------------------------------------
+    @GetMapping("/{studentId}/timeline")
+    public ResponseEntity<ApiResponse<StudentTimelineDto>> getTimeline(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        LocalDate target = date != null ? date : LocalDate.now(ZoneId.of("Asia/Seoul"));
+        return ApiResponse.onSuccess(
+                SuccessCode.GET_STUDENT_TIMELINE_SUCCESS,
+                studentTimelineService.getTimeline(studentId, target));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.reservationsystem.domain.controller;
+
+import com.example.reservationsystem.common.enums.SuccessCode;
+import com.example.reservationsystem.common.response.ApiResponse;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.dto.WaitlistEntryDto;
+import com.example.reservationsystem.domain.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/waitlist")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    /**
+     * 1) 회의실 예약 대기 신청 (요청 형식은 회의실 예약과 같음)
+     * 취소로 자리가 나면 신청 순서대로 자동 예약된다.
+     */
+    @PostMapping("/rooms")
+    public ResponseEntity<ApiResponse<WaitlistEntryDto>> joinRoomWaitlist(
+            @Valid @RequestBody ReservationRequestDto req
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.JOIN_WAITLIST_SUCCESS, waitlistService.joinRoomWaitlist(req));
+    }
+
+    /**
+     * 2) 좌석 예약 대기 신청 (요청 형식은 좌석 예약과 같음, seatId 생략 시 아무 좌석)
+     */
+    @PostMapping("/seats")
+    public ResponseEntity<ApiResponse<WaitlistEntryDto>> joinSeatWaitlist(
+            @RequestBody SeatReservationRequestDto req
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.JOIN_WAITLIST_SUCCESS, waitlistService.joinSeatWaitlist(req));
+    }
+
+    /**
+     * 3) 내 예약 대기 목록 (승격된 항목은 reservationId, 실패 항목은 failureCode 포함)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<WaitlistEntryDto>>> getMyWaitlist(
+            @RequestParam Long studentId
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.GET_WAITLIST_SUCCESS, waitlistService.getMyWaitlist(studentId));
+    }
+
+    /**
+     * 4) 예약 대기 취소
+     */
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<ApiResponse<Void>> cancelWaitlist(
+            @PathVariable Long entryId,
+            @RequestParam Long studentId
+    ) {
+        waitlistService.cancelWaitlist(entryId, studentId);
+        return ApiResponse.onSuccess(SuccessCode.CANCEL_WAITLIST_SUCCESS, null);
+    }
+}
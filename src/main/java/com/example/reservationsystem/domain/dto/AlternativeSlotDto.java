@@ -0,0 +1,24 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 예약 충돌 시 제안하는 대안 한 건 (resourceId = 좌석 번호 또는 회의실 id)
+@Getter
+@AllArgsConstructor
+public class AlternativeSlotDto {
+
+    private Long resourceId;
+
+    private LocalDate date;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime endTime;
+}
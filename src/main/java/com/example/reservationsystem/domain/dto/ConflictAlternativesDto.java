@@ -0,0 +1,16 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// ROOM_ALREADY_RESERVED / SEAT_ALREADY_RESERVED 실패 응답 payload
+// - sameResource   : 같은 좌석/회의실의 다른 시간 (요청 시작 시간에 가까운 순)
+// - otherResources : 같은 시간의 다른 좌석/회의실 (좌석은 가까운 번호 순, 회의실은 id 순)
+@Getter
+@AllArgsConstructor
+public class ConflictAlternativesDto {
+    private List<AlternativeSlotDto> sameResource;
+    private List<AlternativeSlotDto> otherResources;
+}
@@ -0,0 +1,41 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지 응답: 다음 페이지가 있으면 nextCursor 를 그대로 다시 보내면 된다
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    // 다음 페이지 존재 여부 확인용으로 1건 더 읽는다 (count 쿼리 없음)
+    public static Pageable fetchLimit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    // rows 는 size + 1 건까지 조회한 결과 (초과분 1건으로 다음 페이지 존재 여부만 판단)
+    public static <T> CursorPageDto<T> of(List<T> rows, int size, Function<T, ReservationCursor> keyOf) {
+        if (rows.size() <= size) {
+            return new CursorPageDto<>(rows, null, false);
+        }
+        List<T> page = rows.subList(0, size);
+        return new CursorPageDto<>(List.copyOf(page), keyOf.apply(page.get(size - 1)).encode(), true);
+    }
+}
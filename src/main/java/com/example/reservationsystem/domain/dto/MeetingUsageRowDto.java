@@ -0,0 +1,15 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 학생별 회의실 이용 시간 projection (반복 예약 한도 계산용)
+@Getter
+@AllArgsConstructor
+public class MeetingUsageRowDto {
+    private Long studentId;
+    private LocalDate date;
+    private int duration;
+}
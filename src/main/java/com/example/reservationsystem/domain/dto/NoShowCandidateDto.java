@@ -0,0 +1,16 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 노쇼 해제 대기열 재구성용 projection (체크인 전 예약의 시작 시각)
+@Getter
+@AllArgsConstructor
+public class NoShowCandidateDto {
+    private Long reservationId;
+    private LocalDate date;
+    private LocalTime startTime;
+}
@@ -0,0 +1,29 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 반복 예약의 회차별 결과: 성공이면 reservationId, 실패면 errorCode
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RecurringOccurrenceDto {
+
+    private LocalDate date;
+
+    private Long reservationId;
+
+    private ErrorCode errorCode;
+
+    public static RecurringOccurrenceDto reserved(LocalDate date, Long reservationId) {
+        return new RecurringOccurrenceDto(date, reservationId, null);
+    }
+
+    public static RecurringOccurrenceDto failed(LocalDate date, ErrorCode errorCode) {
+        return new RecurringOccurrenceDto(date, null, errorCode);
+    }
+}
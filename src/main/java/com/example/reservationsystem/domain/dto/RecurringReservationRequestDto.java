@@ -0,0 +1,33 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 매주 같은 요일/시간 회의실 반복 예약 (startDate 부터 7일 간격, endDate 포함)
+@Builder
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringReservationRequestDto {
+    private Long roomId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private LocalTime startTime;
+
+    private int duration; // 1~2
+
+    private Long representativeStudentId;
+
+    private List<Long> participantStudentIds; // 대표자 제외 동반자 id 리스트
+}
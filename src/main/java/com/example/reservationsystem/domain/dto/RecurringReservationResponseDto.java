@@ -0,0 +1,13 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RecurringReservationResponseDto {
+    private int reservedCount;
+    private List<RecurringOccurrenceDto> occurrences;
+}
@@ -0,0 +1,46 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+// 내 예약 키셋 페이지 커서: 마지막으로 내려준 행의 (date, startTime, id)
+// 클라이언트에는 base64url 문자열로만 노출한다 (예: "2025-12-10|09:00|200")
+@Getter
+@AllArgsConstructor
+public class ReservationCursor {
+
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final Long id;
+
+    public String encode() {
+        String raw = date + "|" + startTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null 이면 첫 페이지
+    public static ReservationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new ReservationCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.reservationsystem.domain.dto;
 
 import com.example.reservationsystem.domain.entity.RoomReservation;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,6 +11,7 @@ import java.time.LocalTime;
 
 @Getter
 @Builder
+@AllArgsConstructor // 키셋 페이지 조회용 JPQL 생성자 projection
 public class ReservationDetailDto {
 
     private final Long id;
@@ -26,6 +28,10 @@ public class ReservationDetailDto {
 
     private final Long leaderStudentId;
 
+    public ReservationCursor cursor() {
+        return new ReservationCursor(date, startTime, id);
+    }
+
     public static ReservationDetailDto from(RoomReservation r) {
         return ReservationDetailDto.builder()
                 .id(r.getId())
@@ -33,7 +39,7 @@ public class ReservationDetailDto {
                 .date(r.getDate())
                 .startTime(r.getStartTime())
                 .endTime(r.getEndTime())
-                .leaderStudentId(r.getRepresentative().getStudentId())
+                .leaderStudentId(r.getLeaderStudentId())
                 .build();
     }
 }
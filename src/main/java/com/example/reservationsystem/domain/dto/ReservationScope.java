@@ -0,0 +1,26 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+
+import java.util.Locale;
+
+// 내 예약 페이지 조회 범위
+// - UPCOMING : 아직 끝나지 않은 예약 (진행 중 포함), 가까운 순
+// - PAST     : 이미 끝난 예약, 최근 순
+public enum ReservationScope {
+    UPCOMING,
+    PAST;
+
+    // 쿼리 파라미터 값 (대소문자 무시), 없으면 UPCOMING
+    public static ReservationScope from(String value) {
+        if (value == null || value.isBlank()) {
+            return UPCOMING;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_RESERVATION_SCOPE);
+        }
+    }
+}
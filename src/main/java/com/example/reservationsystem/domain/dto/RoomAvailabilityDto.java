@@ -0,0 +1,24 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 참가자 전원과 회의실이 모두 비어 있는 예약 후보 (빠른 날짜 → 빠른 시작 시간 → 회의실 id 순)
+@Getter
+@AllArgsConstructor
+public class RoomAvailabilityDto {
+
+    private Long roomId;
+
+    private LocalDate date;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime endTime;
+}
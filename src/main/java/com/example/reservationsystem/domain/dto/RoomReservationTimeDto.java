@@ -1,5 +1,6 @@
 package com.example.reservationsystem.domain.dto;
 
+import com.example.reservationsystem.domain.entity.RoomReservationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -13,4 +14,6 @@ public class RoomReservationTimeDto {
     private LocalTime startTime;
     private LocalTime endTime;
     private Long leaderStudentId;
-}
\ No newline at end of file
+    // 취소/노쇼된 예약도 일정표에 남으므로 상태로 구분한다
+    private RoomReservationStatus status;
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.example.reservationsystem.domain.entity.RoomReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+// 회의실 일정표 단일 조회용 projection (회의실 1행 + 예약 n행, 예약 없는 회의실은 reservationId = null)
+@Getter
+@AllArgsConstructor
+public class RoomScheduleRowDto {
+    private Long roomId;
+    private Long reservationId;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Long leaderStudentId;
+    private RoomReservationStatus status;
+}
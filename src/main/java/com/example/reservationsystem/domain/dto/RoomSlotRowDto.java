@@ -0,0 +1,15 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 회의실 슬롯 행 projection (기간 내 회의실별 점유 비트맵을 만들 때 사용)
+@Getter
+@AllArgsConstructor
+public class RoomSlotRowDto {
+    private Long roomId;
+    private LocalDate date;
+    private int slot;
+}
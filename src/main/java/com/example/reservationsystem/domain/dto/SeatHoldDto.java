@@ -0,0 +1,29 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 좌석 임시 선점: expiresAt 전에 holdId 로 확정해야 예약이 된다
+@Getter
+@AllArgsConstructor
+public class SeatHoldDto {
+
+    private String holdId;
+
+    private Long seatId;
+
+    private LocalDate date;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime endTime;
+
+    private LocalDateTime expiresAt;
+}
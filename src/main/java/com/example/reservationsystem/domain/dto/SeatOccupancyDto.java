@@ -0,0 +1,17 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 좌석 점유 비트맵 재구성용 projection (seat / student 엔티티 로딩 없이 조회)
+@Getter
+@AllArgsConstructor
+public class SeatOccupancyDto {
+    private Long seatId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
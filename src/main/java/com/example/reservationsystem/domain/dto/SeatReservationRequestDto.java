@@ -3,6 +3,7 @@ package com.example.reservationsystem.domain.dto;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -10,6 +11,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -35,4 +37,4 @@ public class SeatReservationRequestDto {
     @Max(value = 999999999, message = "학번은 9자리 숫자여야 합니다.")
     private Long studentId;
 
-}
\ No newline at end of file
+}
\ No newline at end of file
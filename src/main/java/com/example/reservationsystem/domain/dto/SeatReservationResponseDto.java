@@ -22,6 +22,16 @@ public class SeatReservationResponseDto {
     private LocalTime endTime;
     private Long studentId;
 
+    // 키셋 페이지 조회용 JPQL 생성자 projection (seat FK 는 Long 으로 넘어온다)
+    public SeatReservationResponseDto(Long id, Long seatId, LocalDate date,
+                                      LocalTime startTime, LocalTime endTime, Long studentId) {
+        this(id, seatId.intValue(), date, startTime, endTime, studentId);
+    }
+
+    public ReservationCursor cursor() {
+        return new ReservationCursor(date, startTime, id);
+    }
+
     public static SeatReservationResponseDto of(SeatReservation r) {
         return SeatReservationResponseDto.builder()
                 .id(r.getId())
@@ -0,0 +1,15 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 학생 슬롯 행 projection (내 하루 일정용). 좌석 예약 슬롯이면 seat* 값, 회의실 참가 슬롯이면 room* 값이 채워진다.
+@Getter
+@AllArgsConstructor
+public class StudentSlotRowDto {
+    private int slot;
+    private Long seatReservationId;
+    private Long seatId;
+    private Long roomReservationId;
+    private Long roomId;
+}
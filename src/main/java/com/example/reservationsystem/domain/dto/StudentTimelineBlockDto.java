@@ -0,0 +1,31 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+// 하루 일정의 연속 구간 (같은 예약 또는 빈 시간의 슬롯을 이어 붙인 것)
+@Getter
+@AllArgsConstructor
+public class StudentTimelineBlockDto {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime endTime;
+
+    // SEAT / ROOM / FREE
+    private String occupiedBy;
+
+    // 좌석 예약 id 또는 회의실 예약 id (FREE 면 null)
+    private Long reservationId;
+
+    // SEAT 구간만
+    private Long seatId;
+
+    // ROOM 구간만
+    private Long roomId;
+}
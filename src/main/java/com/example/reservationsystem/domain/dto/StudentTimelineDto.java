@@ -0,0 +1,16 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 내 하루 일정 (좌석 + 회의실 통합, 운영시간 09:00~18:00 을 빈틈없이 덮는 구간 목록)
+@Getter
+@AllArgsConstructor
+public class StudentTimelineDto {
+    private Long studentId;
+    private LocalDate date;
+    private List<StudentTimelineBlockDto> blocks;
+}
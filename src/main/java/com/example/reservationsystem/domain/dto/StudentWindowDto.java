@@ -0,0 +1,17 @@
+package com.example.reservationsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 학생별 예약 시간대 projection (좌석 / 회의실 참가 공통, 기동 시 StudentTimeline 재적재용)
+@Getter
+@AllArgsConstructor
+public class StudentWindowDto {
+    private Long studentId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
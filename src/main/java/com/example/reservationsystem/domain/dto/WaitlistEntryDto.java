@@ -0,0 +1,55 @@
+package com.example.reservationsystem.domain.dto;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.domain.entity.WaitlistEntry;
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import com.example.reservationsystem.domain.entity.WaitlistStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 예약 대기 항목: 승격되면 reservationId, 승격 실패면 failureCode
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitlistEntryDto {
+
+    private Long id;
+
+    private WaitlistResourceType resourceType;
+
+    // 좌석 null = 아무 좌석
+    private Long resourceId;
+
+    private LocalDate date;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private LocalTime endTime;
+
+    private WaitlistStatus status;
+
+    private Long reservationId;
+
+    private ErrorCode failureCode;
+
+    public static WaitlistEntryDto from(WaitlistEntry e) {
+        return new WaitlistEntryDto(
+                e.getId(),
+                e.getResourceType(),
+                e.getResourceId(),
+                e.getDate(),
+                e.getStartTime(),
+                e.getEndTime(),
+                e.getStatus(),
+                e.getReservationId(),
+                e.getFailureCode()
+        );
+    }
+}
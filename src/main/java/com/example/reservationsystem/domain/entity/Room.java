@@ -1,9 +1,13 @@
 package com.example.reservationsystem.domain.entity;
 
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyListener;
+import com.example.reservationsystem.domain.service.RoomScheduleCacheListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
 
 //회의실 3개. 1시간 단위 예약 가능
@@ -13,10 +17,12 @@ import lombok.*;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners({RoomScheduleCacheListener.class, RoomOccupancyListener.class})
 @Builder
 public class Room {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_seq")
+    @SequenceGenerator(name = "room_seq", sequenceName = "room_seq", allocationSize = 50)
     private Long id;
 
     private String name;
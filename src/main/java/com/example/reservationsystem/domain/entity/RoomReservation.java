@@ -1,28 +1,37 @@
 package com.example.reservationsystem.domain.entity;
 
 
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.service.NoShowListener;
+import com.example.reservationsystem.domain.service.RoomScheduleCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "room_reservation")
+@EntityListeners({RoomScheduleCacheListener.class, NoShowListener.class})
 @Builder
 public class RoomReservation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_reservation_seq")
+    @SequenceGenerator(name = "room_reservation_seq", sequenceName = "room_reservation_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Room room;
 
-    @ManyToOne
+    // 응답에는 leaderStudentId 컬럼을 쓰므로 대표자 Student 는 필요할 때만 로딩
+    @ManyToOne(fetch = FetchType.LAZY)
     private Student representative;
 
     //대표자 학번
@@ -44,6 +53,14 @@ public class RoomReservation {
     @Enumerated(EnumType.STRING)
     private RoomReservationStatus status;
 
+    // 체크인 시각 (참가자 중 한 명이라도 체크인하면 노쇼 해제 대상에서 빠진다)
+    private LocalDateTime checkedInAt;
+
+    //RESERVED 상태인 동안만 존재하는 1시간 단위 슬롯 행 (room_id, date, slot 유니크)
+    @Builder.Default
+    @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<RoomReservationSlot> slots = new ArrayList<>();
+
 //    public boolean isCanceled() {
 //        return status == RoomReservationStatus.CANCELED_REFUND
 //                || status == RoomReservationStatus.CANCELED_PENALTY;
@@ -51,6 +68,14 @@ public class RoomReservation {
 
     public void cancel(RoomReservationStatus status) {
         this.status = status;
+        // 슬롯 행 삭제 → 같은 시간대를 다시 예약할 수 있게 된다
+        this.slots.clear();
+    }
+
+    public void checkIn(LocalDateTime now) {
+        if (this.checkedInAt == null) {
+            this.checkedInAt = now;
+        }
     }
 
     public static RoomReservation of(
@@ -69,8 +94,24 @@ public class RoomReservation {
         reservation.duration = duration;
         reservation.endTime = startTime.plusHours(duration);
         reservation.status = RoomReservationStatus.RESERVED;
+        reservation.addSlots();
         return reservation;
     }
+
+    // 슬롯 테이블 도입 전에 저장된 RESERVED 예약: 슬롯 행을 채운다. 추가했으면 true
+    public boolean backfillSlots() {
+        if (status != RoomReservationStatus.RESERVED || !slots.isEmpty()) {
+            return false;
+        }
+        addSlots();
+        return true;
+    }
+
+    private void addSlots() {
+        for (int mask = TimeSlots.mask(startTime, endTime); mask != 0; mask &= mask - 1) {
+            slots.add(RoomReservationSlot.of(this, room.getId(), date, Integer.numberOfTrailingZeros(mask)));
+        }
+    }
 }
 
 //[
@@ -82,4 +123,4 @@ public class RoomReservation {
 //        "endTime": "11:00",
 //        "leaderStudentId": "202100001"
 //        }
-//        ]
\ No newline at end of file
+//        ]
\ No newline at end of file
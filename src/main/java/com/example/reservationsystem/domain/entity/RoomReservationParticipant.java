@@ -1,5 +1,7 @@
 package com.example.reservationsystem.domain.entity;
 
+import com.example.reservationsystem.domain.occupancy.StudentTimelineListener;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -7,19 +9,31 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "room_reservation_participant")
+@Table(
+        name = "room_reservation_participant",
+        // 내 회의실 예약 조회: 학생의 참가 행만 인덱스로 찾고 예약은 PK 로 조인
+        indexes = @Index(name = "idx_room_participant_student", columnList = "student_id, reservation_id")
+)
+@EntityListeners(StudentTimelineListener.class)
+@NamedEntityGraph(name = RoomReservationParticipant.WITH_STUDENT, attributeNodes = @NamedAttributeNode("student"))
 public class RoomReservationParticipant {
 
+    // 참가자 사용량을 갱신하는 취소 흐름용 그래프
+    public static final String WITH_STUDENT = "RoomReservationParticipant.student";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_reservation_participant_seq")
+    @SequenceGenerator(name = "room_reservation_participant_seq", sequenceName = "room_reservation_participant_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "reservation_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private RoomReservation reservation;
 
@@ -35,15 +49,40 @@ public class RoomReservationParticipant {
     // 참여자 역할 (REPRESENTATIVE / PARTICIPANT)
 
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "student_id")
     private Student student;
 
+    //학생 기준 1시간 슬롯 행 (student_number, date, slot 유니크 → 좌석/회의실 겹침의 DB 백스톱)
+    @OneToMany(mappedBy = "participant", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<StudentReservationSlot> studentSlots = new ArrayList<>();
+
     public static RoomReservationParticipant of(RoomReservation reservation, Student student, boolean isRepresentative) {
         RoomReservationParticipant p = new RoomReservationParticipant();
         p.reservation = reservation;
         p.student = student;
         p.isRepresentative = isRepresentative;
+        p.addSlots();
         return p;
     }
+
+    // 슬롯 테이블 도입 전에 저장된 RESERVED 예약의 참가자: 학생 슬롯 행을 채운다. 추가했으면 true
+    public boolean backfillSlots() {
+        if (reservation.getStatus() != RoomReservationStatus.RESERVED || !studentSlots.isEmpty()) {
+            return false;
+        }
+        addSlots();
+        return true;
+    }
+
+    private void addSlots() {
+        for (int mask = TimeSlots.mask(reservation.getStartTime(), reservation.getEndTime()); mask != 0; mask &= mask - 1) {
+            studentSlots.add(StudentReservationSlot.of(this, student.getStudentId(), reservation.getDate(), Integer.numberOfTrailingZeros(mask)));
+        }
+    }
+
+    // 예약 취소/노쇼: 학생 슬롯 행을 지워 같은 시간대를 다시 예약할 수 있게 한다
+    public void releaseSlots() {
+        this.studentSlots.clear();
+    }
 }
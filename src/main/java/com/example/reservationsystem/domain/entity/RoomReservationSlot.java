@@ -0,0 +1,52 @@
+package com.example.reservationsystem.domain.entity;
+
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyListener;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 회의실 예약(RESERVED)을 1시간 슬롯 단위 행으로 정규화한 테이블
+// (room_id, date, slot) 유니크 제약으로 이중 예약을 DB 에서 막는다. 취소 시 행이 삭제된다.
+@Entity
+@EntityListeners(RoomOccupancyListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "room_reservation_slot",
+        uniqueConstraints = @UniqueConstraint(name = RoomReservationSlot.UNIQUE_SLOT, columnNames = {"room_id", "date", "slot"})
+)
+public class RoomReservationSlot {
+
+    public static final String UNIQUE_SLOT = "uk_room_reservation_slot";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_reservation_slot_seq")
+    @SequenceGenerator(name = "room_reservation_slot_seq", sequenceName = "room_reservation_slot_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "room_reservation_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private RoomReservation reservation;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    //09:00 기준 슬롯 번호 (0 = 09:00~10:00)
+    @Column(nullable = false)
+    private int slot;
+
+    static RoomReservationSlot of(RoomReservation reservation, Long roomId, LocalDate date, int slot) {
+        RoomReservationSlot s = new RoomReservationSlot();
+        s.reservation = reservation;
+        s.roomId = roomId;
+        s.date = date;
+        s.slot = slot;
+        return s;
+    }
+}
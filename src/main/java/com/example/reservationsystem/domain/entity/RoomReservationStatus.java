@@ -4,5 +4,7 @@ public enum RoomReservationStatus {
     RESERVED,
     CANCELED,
     CANCELED_PENALTY,
-    CANCELED_REFUND
-}
\ No newline at end of file
+    CANCELED_REFUND,
+    // 유예 시간 안에 체크인하지 않아 자동 해제됨 (사용 시간 환급 없음)
+    NO_SHOW
+}
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.example.reservationsystem.domain.entity;
 
 import com.example.reservationsystem.common.entity.BaseEntity;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyListener;
+import com.example.reservationsystem.domain.occupancy.StudentTimelineListener;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.service.NoShowListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -8,23 +12,38 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
+@Table(
+        name = "seat_reservation",
+        // 내 좌석 예약 키셋 페이지: 학생별 (date, start_time, id) 순서 그대로 인덱스 범위 스캔
+        indexes = @Index(name = "idx_seat_reservation_student_keyset", columnList = "student_id, date, start_time, id")
+)
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners({SeatOccupancyListener.class, StudentTimelineListener.class, NoShowListener.class})
+@NamedEntityGraph(name = SeatReservation.WITH_STUDENT, attributeNodes = @NamedAttributeNode("student"))
 public class SeatReservation extends BaseEntity {
 
+    // 학번이 필요한 조회(내 예약 목록, 취소 권한 확인)용 그래프
+    public static final String WITH_STUDENT = "SeatReservation.student";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_reservation_seq")
+    @SequenceGenerator(name = "seat_reservation_seq", sequenceName = "seat_reservation_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // 좌석 응답은 seatId(FK) 만 쓰므로 Seat 행은 읽지 않는다
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seat_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Seat seat;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Student student;
 
@@ -37,6 +56,16 @@ public class SeatReservation extends BaseEntity {
     //종료시간
     private LocalTime endTime;
 
+    //체크인 시각 (없으면 유예 시간이 지난 뒤 노쇼로 해제)
+    private LocalDateTime checkedInAt;
+
+    //1시간 단위 슬롯 행 (seat_id, date, slot 유니크)
+    @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<SeatReservationSlot> slots = new ArrayList<>();
+
+    //학생 기준 1시간 슬롯 행 (student_number, date, slot 유니크 → 좌석/회의실 겹침의 DB 백스톱)
+    @OneToMany(mappedBy = "seatReservation", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<StudentReservationSlot> studentSlots = new ArrayList<>();
 
     public static SeatReservation of(Seat seat, Student student, LocalDate date, LocalTime startTime, int durationHours) {
         SeatReservation r = new SeatReservation();
@@ -45,8 +74,35 @@ public class SeatReservation extends BaseEntity {
         r.date = date;
         r.startTime = startTime;
         r.endTime = startTime.plusHours(durationHours); // 종료시간 계산
+        r.addSlots(true, true);
         return r;
     }
+
+    // 슬롯 테이블 도입 전에 저장된 예약: 비어 있는 슬롯 행만 채운다. 추가했으면 true
+    public boolean backfillSlots() {
+        boolean seatSlots = slots.isEmpty();
+        boolean studentSlotsMissing = studentSlots.isEmpty();
+        addSlots(seatSlots, studentSlotsMissing);
+        return seatSlots || studentSlotsMissing;
+    }
+
+    private void addSlots(boolean seatSlots, boolean studentSlots) {
+        for (int mask = TimeSlots.mask(startTime, endTime); mask != 0; mask &= mask - 1) {
+            int slot = Integer.numberOfTrailingZeros(mask);
+            if (seatSlots) {
+                this.slots.add(SeatReservationSlot.of(this, seat.getId(), date, slot));
+            }
+            if (studentSlots) {
+                this.studentSlots.add(StudentReservationSlot.of(this, student.getStudentId(), date, slot));
+            }
+        }
+    }
+
+    public void checkIn(LocalDateTime now) {
+        if (this.checkedInAt == null) {
+            this.checkedInAt = now;
+        }
+    }
 }
 
 //[
@@ -58,4 +114,4 @@ public class SeatReservation extends BaseEntity {
 //        "endTime": "11:00",
 //        "studentId": "202100002"
 //        }
-//        ]
\ No newline at end of file
+//        ]
\ No newline at end of file
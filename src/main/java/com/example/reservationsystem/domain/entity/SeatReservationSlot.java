@@ -0,0 +1,50 @@
+package com.example.reservationsystem.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 좌석 예약을 1시간 슬롯 단위 행으로 정규화한 테이블
+// (seat_id, date, slot) 유니크 제약으로 이중 예약을 DB 에서 막는다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "seat_reservation_slot",
+        uniqueConstraints = @UniqueConstraint(name = SeatReservationSlot.UNIQUE_SLOT, columnNames = {"seat_id", "date", "slot"})
+)
+public class SeatReservationSlot {
+
+    public static final String UNIQUE_SLOT = "uk_seat_reservation_slot";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_reservation_slot_seq")
+    @SequenceGenerator(name = "seat_reservation_slot_seq", sequenceName = "seat_reservation_slot_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "seat_reservation_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private SeatReservation reservation;
+
+    @Column(name = "seat_id", nullable = false)
+    private Long seatId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    //09:00 기준 슬롯 번호 (0 = 09:00~10:00)
+    @Column(nullable = false)
+    private int slot;
+
+    static SeatReservationSlot of(SeatReservation reservation, Long seatId, LocalDate date, int slot) {
+        SeatReservationSlot s = new SeatReservationSlot();
+        s.reservation = reservation;
+        s.seatId = seatId;
+        s.date = date;
+        s.slot = slot;
+        return s;
+    }
+}
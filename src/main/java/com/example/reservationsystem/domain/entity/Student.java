@@ -4,7 +4,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
@@ -13,10 +15,12 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Builder
+@DynamicUpdate // 좌석 사용량은 조건부 UPDATE 로만 갱신 → 회의실 사용량 변경 시 좌석 컬럼을 덮어쓰지 않도록
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "student_seq", allocationSize = 50)
     private Long id;
 
     //학번
@@ -66,13 +70,6 @@ public class Student {
         }
     }
 
-    public void resetSeatIfNeeded(LocalDate date) {
-        if (seatUsageDate == null || !seatUsageDate.equals(date)) {
-            seatDailyUsedHours = 0;
-            seatUsageDate = date;
-        }
-    }
-
     public void resetMeetingDailyUsage() {
         this.meetingDailyUsedHours = 0;
     }
@@ -94,8 +91,4 @@ public class Student {
     public void updateUsageWeekStart(LocalDate weekStart) {
         this.usageWeekStart = weekStart;
     }
-
-    public void applySeatUsageDelta(int hours) {
-        seatDailyUsedHours += hours;
-    }
 }
@@ -0,0 +1,65 @@
+package com.example.reservationsystem.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 학생의 좌석/회의실 예약을 1시간 슬롯 단위 행으로 정규화한 테이블
+// (student_number, date, slot) 유니크 제약이 StudentTimeline(메모리) 겹침 검사의 DB 백스톱이다.
+// 좌석 예약 또는 회의실 참가자 중 하나에 속하고, 예약 삭제/취소 시 행이 삭제된다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "student_reservation_slot",
+        uniqueConstraints = @UniqueConstraint(name = StudentReservationSlot.UNIQUE_SLOT, columnNames = {"student_number", "date", "slot"})
+)
+public class StudentReservationSlot {
+
+    public static final String UNIQUE_SLOT = "uk_student_reservation_slot";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_reservation_slot_seq")
+    @SequenceGenerator(name = "student_reservation_slot_seq", sequenceName = "student_reservation_slot_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seat_reservation_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private SeatReservation seatReservation;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "participant_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private RoomReservationParticipant participant;
+
+    //학번
+    @Column(name = "student_number", nullable = false)
+    private Long studentNumber;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    //09:00 기준 슬롯 번호 (0 = 09:00~10:00)
+    @Column(nullable = false)
+    private int slot;
+
+    static StudentReservationSlot of(SeatReservation reservation, Long studentNumber, LocalDate date, int slot) {
+        StudentReservationSlot s = new StudentReservationSlot();
+        s.seatReservation = reservation;
+        s.studentNumber = studentNumber;
+        s.date = date;
+        s.slot = slot;
+        return s;
+    }
+
+    static StudentReservationSlot of(RoomReservationParticipant participant, Long studentNumber, LocalDate date, int slot) {
+        StudentReservationSlot s = new StudentReservationSlot();
+        s.participant = participant;
+        s.studentNumber = studentNumber;
+        s.date = date;
+        s.slot = slot;
+        return s;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.reservationsystem.domain.entity;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 예약 대기 (회의실 / 좌석 / 아무 좌석)
+// 취소로 자리가 나면 같은 종류·날짜의 WAITING 항목을 id(신청) 순으로 예약 시도한다.
+// 같은 학생·자원·날짜·시작 시간의 WAITING 항목은 하나뿐이다 (waiting_key 유니크, WAITING 이 아니면 null).
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "waitlist_entry",
+        // 취소 이벤트 처리: (종류, 날짜)의 WAITING 항목을 신청 순서대로 인덱스 범위 스캔
+        indexes = {
+                @Index(name = "idx_waitlist_queue", columnList = "resource_type, date, status, id"),
+                @Index(name = "idx_waitlist_student", columnList = "student_id, id")
+        },
+        uniqueConstraints = @UniqueConstraint(name = WaitlistEntry.UNIQUE_WAITING, columnNames = "waiting_key")
+)
+public class WaitlistEntry {
+
+    public static final String UNIQUE_WAITING = "uk_waitlist_waiting";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entry_seq")
+    @SequenceGenerator(name = "waitlist_entry_seq", sequenceName = "waitlist_entry_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private WaitlistResourceType resourceType;
+
+    // 회의실 id / 좌석 id (좌석 null = 아무 좌석)
+    private Long resourceId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    // 신청자 학번 (회의실은 대표자)
+    @Column(nullable = false)
+    private Long studentId;
+
+    // 회의실 동반 참가자 학번 (쉼표 구분, 좌석은 null)
+    private String participantStudentIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WaitlistStatus status;
+
+    // 승격된 예약 id (PROMOTED)
+    private Long reservationId;
+
+    // 승격 실패 사유 (FAILED: 한도 초과, 일정 겹침 등)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private ErrorCode failureCode;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime requestedAt;
+
+    // WAITING 동안만 "종류:자원(아무 좌석 *):날짜:시작:학번", 승격/실패/취소 시 null (중복 대기 신청의 DB 백스톱)
+    @Column(length = 100)
+    private String waitingKey;
+
+    public static WaitlistEntry ofRoom(Long roomId, LocalDate date, LocalTime startTime, int duration,
+                                       Long representativeStudentId, List<Long> participantStudentIds,
+                                       LocalDateTime requestedAt) {
+        WaitlistEntry e = of(WaitlistResourceType.ROOM, roomId, date, startTime, duration, representativeStudentId, requestedAt);
+        e.participantStudentIds = participantStudentIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return e;
+    }
+
+    public static WaitlistEntry ofSeat(Long seatId, LocalDate date, LocalTime startTime, int duration,
+                                       Long studentId, LocalDateTime requestedAt) {
+        return of(WaitlistResourceType.SEAT, seatId, date, startTime, duration, studentId, requestedAt);
+    }
+
+    private static WaitlistEntry of(WaitlistResourceType type, Long resourceId, LocalDate date, LocalTime startTime,
+                                    int duration, Long studentId, LocalDateTime requestedAt) {
+        WaitlistEntry e = new WaitlistEntry();
+        e.resourceType = type;
+        e.resourceId = resourceId;
+        e.date = date;
+        e.startTime = startTime;
+        e.endTime = startTime.plusHours(duration);
+        e.studentId = studentId;
+        e.status = WaitlistStatus.WAITING;
+        e.requestedAt = requestedAt;
+        e.waitingKey = type + ":" + (resourceId == null ? "*" : resourceId) + ":" + date + ":" + startTime + ":" + studentId;
+        return e;
+    }
+
+    public int getDuration() {
+        return endTime.getHour() - startTime.getHour();
+    }
+
+    public int slotMask() {
+        return TimeSlots.mask(startTime, endTime);
+    }
+
+    public List<Long> participantIds() {
+        if (participantStudentIds == null || participantStudentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(participantStudentIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
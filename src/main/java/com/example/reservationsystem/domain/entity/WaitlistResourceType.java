@@ -0,0 +1,6 @@
+package com.example.reservationsystem.domain.entity;
+
+public enum WaitlistResourceType {
+    ROOM,
+    SEAT
+}
@@ -0,0 +1,8 @@
+package com.example.reservationsystem.domain.entity;
+
+public enum WaitlistStatus {
+    WAITING,
+    PROMOTED,
+    FAILED,
+    CANCELED
+}
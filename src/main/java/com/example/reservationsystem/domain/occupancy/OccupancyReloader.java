@@ -0,0 +1,50 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.service.RoomScheduleCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 엔티티 리스너를 거치지 않는 일괄 삭제(deleteAllInBatch)가 커밋되면 인메모리 상태를 DB 에 다시 맞춘다.
+// - 좌석/회의실 점유 비트맵과 학생 타임라인은 다시 적재, 회의실 일정표 캐시는 비운다
+// - 좌석 선점(hold)은 DB 행이 없어 다시 적재되지 않는다 (일괄 삭제는 운영 정리/테스트 초기화용)
+// - 커밋 후 콜백에서는 원 트랜잭션이 끝났으므로 새 트랜잭션으로 읽는다
+@Component
+public class OccupancyReloader {
+
+    private final SeatOccupancyEngine seatOccupancyEngine;
+    private final RoomOccupancyEngine roomOccupancyEngine;
+    private final StudentTimeline studentTimeline;
+    private final RoomScheduleCache roomScheduleCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public OccupancyReloader(
+            SeatOccupancyEngine seatOccupancyEngine,
+            RoomOccupancyEngine roomOccupancyEngine,
+            StudentTimeline studentTimeline,
+            RoomScheduleCache roomScheduleCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.seatOccupancyEngine = seatOccupancyEngine;
+        this.roomOccupancyEngine = roomOccupancyEngine;
+        this.studentTimeline = studentTimeline;
+        this.roomScheduleCache = roomScheduleCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(this::reload);
+    }
+
+    public void reload() {
+        transactionTemplate.executeWithoutResult(status -> {
+            seatOccupancyEngine.rebuild();
+            roomOccupancyEngine.rebuild();
+            studentTimeline.rebuild();
+        });
+        roomScheduleCache.evictAll();
+    }
+}
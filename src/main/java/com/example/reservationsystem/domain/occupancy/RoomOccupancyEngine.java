@@ -0,0 +1,97 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import com.example.reservationsystem.domain.dto.RoomSlotRowDto;
+import com.example.reservationsystem.domain.repository.RoomRepository;
+import com.example.reservationsystem.domain.repository.RoomReservationSlotRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 회의실 점유 상태를 (날짜, 회의실) 단위 TimeSlots 비트맵으로 메모리에 유지한다.
+// - 예약 판정은 슬롯 행 유니크 제약(DB)이 기준이고, 이 비트맵은 충돌 시 대안 계산 같은 조회 전용
+// - 슬롯 행 생성/삭제, 회의실 추가/삭제는 RoomOccupancyListener 가 커밋 후 반영
+// - 기동 시 회의실 목록과 오늘 이후 슬롯 행을 다시 적재, 날짜가 바뀌면 지난 날짜 비트맵을 정리
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyEngine {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final RoomRepository roomRepository;
+    private final RoomReservationSlotRepository roomReservationSlotRepository;
+
+    private final Set<Long> rooms = new ConcurrentSkipListSet<>();
+    private final ConcurrentMap<LocalDate, ConcurrentMap<Long, AtomicInteger>> days = new ConcurrentHashMap<>();
+    // 마지막으로 지난 날짜를 정리한 기준일
+    private final AtomicReference<LocalDate> prunedFor = new AtomicReference<>(LocalDate.MIN);
+
+    @PostConstruct
+    public void rebuild() {
+        rooms.clear();
+        days.clear();
+        LocalDate today = LocalDate.now(KST);
+        prunedFor.set(today);
+        rooms.addAll(roomRepository.findAllIds());
+        for (RoomSlotRowDto row : roomReservationSlotRepository.findSlotRowsFrom(today)) {
+            occupy(row.getDate(), row.getRoomId(), row.getSlot());
+        }
+    }
+
+    public void addRoom(Long roomId) {
+        rooms.add(roomId);
+    }
+
+    public void removeRoom(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    public void occupy(LocalDate date, Long roomId, int slot) {
+        pruneIfDateChanged();
+        days.computeIfAbsent(date, d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(roomId, id -> new AtomicInteger())
+                .accumulateAndGet(1 << slot, (cur, bit) -> cur | bit);
+    }
+
+    public void vacate(LocalDate date, Long roomId, int slot) {
+        ConcurrentMap<Long, AtomicInteger> day = days.get(date);
+        AtomicInteger state = day == null ? null : day.get(roomId);
+        if (state != null) {
+            state.accumulateAndGet(1 << slot, (cur, bit) -> cur & ~bit);
+        }
+    }
+
+    // 지난 날짜 비트맵 제거 (지난 날짜는 예약/대안 계산 대상이 아니다)
+    public void pruneBefore(LocalDate date) {
+        days.keySet().removeIf(d -> d.isBefore(date));
+    }
+
+    // 적재 경로에서 날짜가 바뀐 것을 처음 본 스레드 하나만 정리한다
+    private void pruneIfDateChanged() {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate last = prunedFor.get();
+        if (today.isAfter(last) && prunedFor.compareAndSet(last, today)) {
+            pruneBefore(today);
+        }
+    }
+
+    // 회의실 id 오름차순
+    public List<Long> roomIds() {
+        return List.copyOf(rooms);
+    }
+
+    public int mask(LocalDate date, Long roomId) {
+        ConcurrentMap<Long, AtomicInteger> day = days.get(date);
+        AtomicInteger state = day == null ? null : day.get(roomId);
+        return state == null ? 0 : state.get();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.RoomReservationSlot;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// 회의실 슬롯 행 / 회의실 저장·삭제를 커밋 시점에 RoomOccupancyEngine 에 반영한다.
+// 슬롯 행은 예약 생성 시 함께 저장되고 취소(slots.clear) / 예약 삭제 시 함께 삭제된다.
+// (EntityManagerFactory 생성 중 순환 참조를 피하려고 engine 은 지연 조회)
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyListener {
+
+    private final ObjectProvider<RoomOccupancyEngine> engine;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof RoomReservationSlot s) {
+            LocalDate date = s.getDate();
+            Long roomId = s.getRoomId();
+            int slot = s.getSlot();
+            TransactionCallbacks.afterCommit(() -> engine.getObject().occupy(date, roomId, slot));
+        } else if (entity instanceof Room room) {
+            Long roomId = room.getId();
+            TransactionCallbacks.afterCommit(() -> engine.getObject().addRoom(roomId));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof RoomReservationSlot s) {
+            LocalDate date = s.getDate();
+            Long roomId = s.getRoomId();
+            int slot = s.getSlot();
+            TransactionCallbacks.afterCommit(() -> engine.getObject().vacate(date, roomId, slot));
+        } else if (entity instanceof Room room) {
+            Long roomId = room.getId();
+            TransactionCallbacks.afterCommit(() -> engine.getObject().removeRoom(roomId));
+        }
+    }
+}
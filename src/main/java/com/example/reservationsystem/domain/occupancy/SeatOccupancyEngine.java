@@ -0,0 +1,245 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.dto.SeatOccupancyDto;
+import com.example.reservationsystem.domain.repository.SeatReservationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 좌석 점유 상태를 (날짜, 좌석) 단위 비트맵으로 메모리에 유지한다.
+// - seats : index = seatId(1~70), 값 = TimeSlots 슬롯 비트 (유일한 기준 상태, CAS 로만 변경)
+// - 빈 좌석 개수/무작위 선택은 호출마다 seats 를 훑어 만든 70비트 후보(long 2개)로 처리 (좌석 70개, 할당 없음)
+// - 예약 생성/취소는 SeatOccupancyListener 가 커밋 후 반영
+// - 기동 시 SeatReservationRepository 로부터 오늘 이후 예약을 다시 적재, 날짜가 바뀌면 지난 날짜 비트맵을 정리
+@Component
+@RequiredArgsConstructor
+public class SeatOccupancyEngine {
+
+    public static final int SEAT_COUNT = 70;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // seatId 1~64 → word 0, 65~70 → word 1
+    private static final long LOW_SEATS = -1L;
+    private static final long HIGH_SEATS = (1L << (SEAT_COUNT - 64)) - 1;
+
+    private final SeatReservationRepository seatReservationRepository;
+
+    private final ConcurrentMap<LocalDate, Day> days = new ConcurrentHashMap<>();
+    // 비트맵이 온전히 담고 있는 첫 날짜. 그 이전 날짜는 기동 전 예약이 없거나 정리되어 DB 에서 조회한다
+    private volatile LocalDate loadedFrom = LocalDate.MIN;
+    // 마지막으로 지난 날짜를 정리한 기준일
+    private final AtomicReference<LocalDate> prunedFor = new AtomicReference<>(LocalDate.MIN);
+
+    @PostConstruct
+    public void rebuild() {
+        days.clear();
+        LocalDate today = LocalDate.now(KST);
+        loadedFrom = today;
+        prunedFor.set(today);
+        for (SeatOccupancyDto row : seatReservationRepository.findOccupancyFrom(today)) {
+            occupy(row.getDate(), row.getSeatId(), row.getStartTime(), row.getEndTime());
+        }
+    }
+
+    // 비트맵이 해당 날짜의 예약을 모두 담고 있는지 (false 면 DB 에서 조회해야 한다)
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(loadedFrom);
+    }
+
+    public void occupy(LocalDate date, long seatId, LocalTime start, LocalTime end) {
+        int mask = TimeSlots.mask(start, end);
+        if (!isSeat(seatId) || mask == 0) {
+            return;
+        }
+        Day day = day(date);
+        day.seats.accumulateAndGet((int) seatId, mask, (cur, m) -> cur | m);
+    }
+
+    public void vacate(LocalDate date, long seatId, LocalTime start, LocalTime end) {
+        Day day = days.get(date);
+        int mask = TimeSlots.mask(start, end);
+        if (day == null || !isSeat(seatId) || mask == 0) {
+            return;
+        }
+        day.seats.accumulateAndGet((int) seatId, mask, (cur, m) -> cur & ~m);
+    }
+
+    // 지정 좌석의 슬롯을 원자적으로 선점한다. 같은 (좌석, 날짜, 슬롯) 요청끼리만 CAS 경합이 생기고
+    // 나머지 예약은 서로 막지 않는다. 트랜잭션 안에서 호출되면 롤백 시 선점이 자동 해제된다.
+    public boolean tryClaim(LocalDate date, long seatId, LocalTime start, LocalTime end) {
+        int mask = TimeSlots.mask(start, end);
+        if (!isSeat(seatId) || mask == 0) {
+            return false;
+        }
+        return claim(day(date), (int) seatId, mask, date, start, end);
+    }
+
+    // 빈 좌석 중 하나를 균등 확률로 골라 원자적으로 선점한다. 없으면 0.
+    // 트랜잭션 안에서 호출되면 롤백 시 선점이 자동 해제된다.
+    public long claimRandom(LocalDate date, LocalTime start, LocalTime end) {
+        return claimRandom(date, start, end, 1, SEAT_COUNT);
+    }
+
+    // [fromSeat, toSeat] 범위 안에서만 무작위 선점 (좌석 구간 파티션용)
+    // 매 시도마다 seats 에서 빈 좌석 후보를 새로 만들어 그중 하나를 균등하게 고른다.
+    // 고른 좌석을 다른 요청이 먼저 선점했으면 그 좌석이 빠진 후보로 다시 고르므로,
+    // 결과는 선점 시점에 비어 있던 좌석 사이에서 균등하다. 남는 치우침은 후보를 만드는 동안
+    // 해제된 좌석이 그 시도에서 빠지는 것뿐이다 (다음 호출부터 후보에 들어간다).
+    public long claimRandom(LocalDate date, LocalTime start, LocalTime end, int fromSeat, int toSeat) {
+        int mask = TimeSlots.mask(start, end);
+        if (mask == 0 || fromSeat > toSeat) {
+            return 0;
+        }
+        Day day = day(date);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long lowRange = rangeBits(fromSeat, toSeat, 0) & LOW_SEATS;
+        long highRange = rangeBits(fromSeat, toSeat, 1) & HIGH_SEATS;
+
+        while (true) {
+            long freeLow = freeBits(day, mask, 0, lowRange);
+            long freeHigh = freeBits(day, mask, 1, highRange);
+            int lowCount = Long.bitCount(freeLow);
+            int count = lowCount + Long.bitCount(freeHigh);
+            if (count == 0) {
+                return 0;
+            }
+
+            int pick = random.nextInt(count);
+            int seatId = pick < lowCount
+                    ? selectBit(freeLow, pick) + 1
+                    : selectBit(freeHigh, pick - lowCount) + 65;
+
+            if (claim(day, seatId, mask, date, start, end)) {
+                return seatId;
+            }
+        }
+    }
+
+    // 해당 시간대에 하나라도 점유된 좌석 번호 목록 (DB 조회 없음, covers(date) 인 날짜만 정확)
+    public List<Integer> reservedSeatIds(LocalDate date, LocalTime start, LocalTime end) {
+        Day day = days.get(date);
+        int mask = TimeSlots.mask(start, end);
+        if (day == null || mask == 0) {
+            return List.of();
+        }
+        List<Integer> reserved = new ArrayList<>();
+        for (int seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            if ((day.seats.get(seatId) & mask) != 0) {
+                reserved.add(seatId);
+            }
+        }
+        return reserved;
+    }
+
+    // [fromSeat, toSeat] 범위에서 해당 시간대 전체가 비어 있는 좌석 수
+    // (seats 를 한 번 훑은 값이라 동시에 선점/해제 중인 좌석은 반영 여부가 호출 시점에 따라 다르다)
+    public int freeSeatCount(LocalDate date, LocalTime start, LocalTime end, int fromSeat, int toSeat) {
+        int mask = TimeSlots.mask(start, end);
+        if (mask == 0 || fromSeat > toSeat) {
+            return 0;
+        }
+        Day day = days.get(date);
+        long lowRange = rangeBits(fromSeat, toSeat, 0) & LOW_SEATS;
+        long highRange = rangeBits(fromSeat, toSeat, 1) & HIGH_SEATS;
+        if (day == null) {
+            return Long.bitCount(lowRange) + Long.bitCount(highRange);
+        }
+        return Long.bitCount(freeBits(day, mask, 0, lowRange))
+                + Long.bitCount(freeBits(day, mask, 1, highRange));
+    }
+
+    // 좌석의 하루 점유 슬롯 마스크
+    public int mask(LocalDate date, long seatId) {
+        Day day = days.get(date);
+        return day == null || !isSeat(seatId) ? 0 : day.seats.get((int) seatId);
+    }
+
+    public boolean isFree(LocalDate date, long seatId, LocalTime start, LocalTime end) {
+        Day day = days.get(date);
+        return day == null || !isSeat(seatId) || (day.seats.get((int) seatId) & TimeSlots.mask(start, end)) == 0;
+    }
+
+    private boolean claim(Day day, int seatId, int mask, LocalDate date, LocalTime start, LocalTime end) {
+        int cur;
+        do {
+            cur = day.seats.get(seatId);
+            if ((cur & mask) != 0) {
+                return false;
+            }
+        } while (!day.seats.compareAndSet(seatId, cur, cur | mask));
+
+        TransactionCallbacks.afterRollback(() -> vacate(date, seatId, start, end));
+        return true;
+    }
+
+    // word(0 = 1~64, 1 = 65~128) 의 range 좌석 중 mask 슬롯이 모두 빈 좌석 비트
+    private static long freeBits(Day day, int mask, int word, long range) {
+        long free = 0;
+        for (long bits = range; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            if ((day.seats.get(word * 64 + bit + 1) & mask) == 0) {
+                free |= 1L << bit;
+            }
+        }
+        return free;
+    }
+
+    // 좌석 구간 [fromSeat, toSeat] 중 word(0 = 1~64, 1 = 65~128) 에 속하는 비트
+    private static long rangeBits(int fromSeat, int toSeat, int word) {
+        int lo = Math.max(fromSeat - 1, word * 64) - word * 64;
+        int hi = Math.min(toSeat - 1, word * 64 + 63) - word * 64;
+        if (lo > hi) {
+            return 0;
+        }
+        long upTo = hi == 63 ? -1L : (1L << (hi + 1)) - 1;
+        return upTo & ~((1L << lo) - 1);
+    }
+
+    // k 번째(0부터) 1 비트의 위치
+    private static int selectBit(long bits, int k) {
+        for (int i = 0; i < k; i++) {
+            bits &= bits - 1;
+        }
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    // 지난 날짜 비트맵 제거. 정리한 날짜는 covers 가 false 가 되어 DB 에서 조회한다
+    public void pruneBefore(LocalDate date) {
+        if (date.isAfter(loadedFrom)) {
+            loadedFrom = date;
+        }
+        days.keySet().removeIf(d -> d.isBefore(date));
+    }
+
+    // 선점/적재 경로에서 날짜가 바뀐 것을 처음 본 스레드 하나만 정리한다
+    private Day day(LocalDate date) {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate last = prunedFor.get();
+        if (today.isAfter(last) && prunedFor.compareAndSet(last, today)) {
+            pruneBefore(today);
+        }
+        return days.computeIfAbsent(date, d -> new Day());
+    }
+
+    private static boolean isSeat(long seatId) {
+        return seatId >= 1 && seatId <= SEAT_COUNT;
+    }
+
+    private static final class Day {
+
+        private final AtomicIntegerArray seats = new AtomicIntegerArray(SEAT_COUNT + 1);
+    }
+}
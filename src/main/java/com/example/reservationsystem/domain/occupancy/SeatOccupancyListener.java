@@ -0,0 +1,40 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// SeatReservation 저장/삭제를 커밋 시점에 SeatOccupancyEngine 에 반영한다.
+// 서비스의 생성/랜덤생성/취소뿐 아니라 리포지토리 직접 삭제(deleteAll 등)도 함께 반영된다.
+// (EntityManagerFactory 생성 중 순환 참조를 피하려고 engine 은 지연 조회)
+@Component
+@RequiredArgsConstructor
+public class SeatOccupancyListener {
+
+    private final ObjectProvider<SeatOccupancyEngine> engine;
+
+    @PostPersist
+    public void onPersist(SeatReservation reservation) {
+        long seatId = reservation.getSeat().getId();
+        LocalDate date = reservation.getDate();
+        LocalTime start = reservation.getStartTime();
+        LocalTime end = reservation.getEndTime();
+        TransactionCallbacks.afterCommit(() -> engine.getObject().occupy(date, seatId, start, end));
+    }
+
+    @PostRemove
+    public void onRemove(SeatReservation reservation) {
+        long seatId = reservation.getSeat().getId();
+        LocalDate date = reservation.getDate();
+        LocalTime start = reservation.getStartTime();
+        LocalTime end = reservation.getEndTime();
+        TransactionCallbacks.afterCommit(() -> engine.getObject().vacate(date, seatId, start, end));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import com.example.reservationsystem.common.datasource.ReadYourWrites;
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.dto.StudentWindowDto;
+import com.example.reservationsystem.domain.repository.RoomReservationParticipantRepository;
+import com.example.reservationsystem.domain.repository.SeatReservationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 학생별 하루 일정을 좌석 + 회의실 통합 비트맵으로 메모리에 유지한다.
+// - 값 = int 하나: 하위 9비트 좌석 슬롯, 그 위 9비트 회의실 슬롯 (TimeSlots 기준)
+// - 겹침 판정 = (좌석 | 회의실) & 요청 마스크 → 자원 종류와 무관하게 한 번의 CAS 로 검사 + 선점
+// - 겹침 판정의 기준은 student_reservation_slot 유니크 제약(DB)이고, 이 비트맵은 DB 왕복 전에 거르는 1차 검사다.
+//   다른 인스턴스의 예약으로 어긋나도 저장 시 DB 가 걸러낸다. 일괄 삭제(deleteAllInBatch)는 OccupancyReloader 가 다시 적재한다.
+// - 좌석 예약 생성/삭제, 회의실 참가 생성/삭제는 StudentTimelineListener 가 커밋 후 반영,
+//   회의실 예약 취소(상태 변경)는 RoomReservationService 가 커밋 후 해제
+// - 기동 시 오늘 이후 좌석 예약 / RESERVED 회의실 참가를 다시 적재, 날짜가 바뀌면 지난 날짜 항목을 정리
+@Component
+@RequiredArgsConstructor
+public class StudentTimeline {
+
+    public enum Kind {
+        SEAT(0),
+        ROOM(TimeSlots.SLOT_COUNT);
+
+        private final int shift;
+
+        Kind(int shift) {
+            this.shift = shift;
+        }
+    }
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final SeatReservationRepository seatReservationRepository;
+    private final RoomReservationParticipantRepository roomReservationParticipantRepository;
+    private final ReadYourWrites readYourWrites;
+
+    private final ConcurrentMap<Key, AtomicInteger> days = new ConcurrentHashMap<>();
+    // 마지막으로 지난 날짜를 정리한 기준일
+    private final AtomicReference<LocalDate> prunedFor = new AtomicReference<>(LocalDate.MIN);
+
+    @PostConstruct
+    public void rebuild() {
+        days.clear();
+        LocalDate today = LocalDate.now(KST);
+        prunedFor.set(today);
+        for (StudentWindowDto w : seatReservationRepository.findStudentWindowsFrom(today)) {
+            occupy(w.getStudentId(), w.getDate(), Kind.SEAT, w.getStartTime(), w.getEndTime());
+        }
+        for (StudentWindowDto w : roomReservationParticipantRepository.findStudentWindowsFrom(today)) {
+            occupy(w.getStudentId(), w.getDate(), Kind.ROOM, w.getStartTime(), w.getEndTime());
+        }
+    }
+
+    public void occupy(Long studentId, LocalDate date, Kind kind, LocalTime start, LocalTime end) {
+        int bits = TimeSlots.mask(start, end) << kind.shift;
+        if (studentId == null || bits == 0) {
+            return;
+        }
+        day(studentId, date).accumulateAndGet(bits, (cur, b) -> cur | b);
+    }
+
+    public void vacate(Long studentId, LocalDate date, Kind kind, LocalTime start, LocalTime end) {
+        int bits = TimeSlots.mask(start, end) << kind.shift;
+        AtomicInteger day = studentId == null ? null : days.get(new Key(studentId, date));
+        if (day == null || bits == 0) {
+            return;
+        }
+        day.accumulateAndGet(bits, (cur, b) -> cur & ~b);
+    }
+
+    // 커밋되면 해제 (회의실 취소처럼 엔티티 삭제 없이 상태만 바뀌는 경우)
+    public void vacateAfterCommit(Long studentId, LocalDate date, Kind kind, LocalTime start, LocalTime end) {
+        readYourWrites.markAfterCommit(studentId);
+        TransactionCallbacks.afterCommit(() -> vacate(studentId, date, kind, start, end));
+    }
+
+    // 학생의 해당 시간대가 좌석/회의실 모두 비어 있으면 kind 쪽 슬롯을 원자적으로 선점한다. 겹치면 null.
+    // 트랜잭션 안에서 호출되면 롤백 시 자동 해제되고, 커밋 전에 포기하려면 Hold.release() 를 부른다.
+    public Hold tryClaim(Long studentId, LocalDate date, Kind kind, LocalTime start, LocalTime end) {
+        int mask = TimeSlots.mask(start, end);
+        if (studentId == null || mask == 0) {
+            return null;
+        }
+        AtomicInteger day = day(studentId, date);
+        int bits = mask << kind.shift;
+        int cur;
+        do {
+            cur = day.get();
+            if ((busy(cur) & mask) != 0) {
+                return null;
+            }
+        } while (!day.compareAndSet(cur, cur | bits));
+
+        Hold hold = new Hold(day, bits);
+        TransactionCallbacks.afterRollback(hold::release);
+        return hold;
+    }
+
+    // 좌석 또는 회의실로 점유된 슬롯 마스크
+    public int busyMask(Long studentId, LocalDate date) {
+        return busy(state(studentId, date));
+    }
+
+    public int mask(Long studentId, LocalDate date, Kind kind) {
+        return (state(studentId, date) >>> kind.shift) & TimeSlots.ALL_SLOTS;
+    }
+
+    private int state(Long studentId, LocalDate date) {
+        AtomicInteger day = studentId == null ? null : days.get(new Key(studentId, date));
+        return day == null ? 0 : day.get();
+    }
+
+    private static int busy(int state) {
+        return (state | (state >>> Kind.ROOM.shift)) & TimeSlots.ALL_SLOTS;
+    }
+
+    // 지난 날짜 항목 제거 (지난 날짜는 예약/조회 대상이 아니다)
+    public void pruneBefore(LocalDate date) {
+        days.keySet().removeIf(k -> k.date().isBefore(date));
+    }
+
+    // 선점/적재 경로에서 날짜가 바뀐 것을 처음 본 스레드 하나만 정리한다
+    private AtomicInteger day(Long studentId, LocalDate date) {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate last = prunedFor.get();
+        if (today.isAfter(last) && prunedFor.compareAndSet(last, today)) {
+            pruneBefore(today);
+        }
+        return days.computeIfAbsent(new Key(studentId, date), k -> new AtomicInteger());
+    }
+
+    private record Key(long studentId, LocalDate date) {
+    }
+
+    // 선점 해제는 한 번만 반영된다 (직접 해제 후 롤백이 나도 다른 요청의 선점을 지우지 않는다)
+    public static final class Hold {
+
+        private final AtomicInteger day;
+        private final int bits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Hold(AtomicInteger day, int bits) {
+            this.day = day;
+            this.bits = bits;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                day.accumulateAndGet(bits, (cur, b) -> cur & ~b);
+            }
+        }
+    }
+}
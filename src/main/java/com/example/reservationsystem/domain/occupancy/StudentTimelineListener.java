@@ -0,0 +1,72 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import com.example.reservationsystem.common.datasource.ReadYourWrites;
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.entity.RoomReservation;
+import com.example.reservationsystem.domain.entity.RoomReservationParticipant;
+import com.example.reservationsystem.domain.entity.RoomReservationStatus;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 좌석 예약 / 회의실 참가 행이 저장·삭제되면 커밋 후 StudentTimeline 에 반영한다.
+// 서비스 경로는 이미 선점했으므로 중복 반영(OR)이고, 리포지토리 직접 저장/삭제(deleteAll 등)도 함께 맞춰진다.
+// 해당 학생의 조회는 커밋 후 잠시 primary 로 보낸다 (ReadYourWrites).
+// (EntityManagerFactory 생성 중 순환 참조를 피하려고 timeline 은 지연 조회)
+@Component
+@RequiredArgsConstructor
+public class StudentTimelineListener {
+
+    private final ObjectProvider<StudentTimeline> timeline;
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        apply(entity, true);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        apply(entity, false);
+    }
+
+    private void apply(Object entity, boolean occupy) {
+        Long studentId;
+        LocalDate date;
+        LocalTime start;
+        LocalTime end;
+        StudentTimeline.Kind kind;
+
+        if (entity instanceof SeatReservation r) {
+            studentId = r.getStudent().getStudentId();
+            date = r.getDate();
+            start = r.getStartTime();
+            end = r.getEndTime();
+            kind = StudentTimeline.Kind.SEAT;
+        } else if (entity instanceof RoomReservationParticipant p) {
+            RoomReservation r = p.getReservation();
+            // 취소된 예약은 취소 시점에 이미 해제됨 (같은 시간대 새 예약의 슬롯을 지우지 않도록)
+            if (r.getStatus() != RoomReservationStatus.RESERVED) {
+                return;
+            }
+            studentId = p.getStudent().getStudentId();
+            date = r.getDate();
+            start = r.getStartTime();
+            end = r.getEndTime();
+            kind = StudentTimeline.Kind.ROOM;
+        } else {
+            return;
+        }
+
+        readYourWrites.getObject().markAfterCommit(studentId);
+        TransactionCallbacks.afterCommit(occupy
+                ? () -> timeline.getObject().occupy(studentId, date, kind, start, end)
+                : () -> timeline.getObject().vacate(studentId, date, kind, start, end));
+    }
+}
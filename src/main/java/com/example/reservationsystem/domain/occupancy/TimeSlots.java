@@ -0,0 +1,57 @@
+package com.example.reservationsystem.domain.occupancy;
+
+import java.time.LocalTime;
+
+// 운영시간(09:00~18:00)을 1시간 단위 슬롯 9개로 나눈 비트 표현
+// bit 0 = 09:00~10:00, bit 8 = 17:00~18:00
+public final class TimeSlots {
+
+    public static final LocalTime OPEN = LocalTime.of(9, 0);
+    public static final LocalTime CLOSE = LocalTime.of(18, 0);
+    public static final int SLOT_COUNT = CLOSE.getHour() - OPEN.getHour();
+    public static final int ALL_SLOTS = (1 << SLOT_COUNT) - 1;
+
+    private TimeSlots() {
+    }
+
+    // [start, end) 구간이 걸치는 슬롯 비트마스크 (정각이 아니면 걸친 시간 전체를 점유로 본다)
+    public static int mask(LocalTime start, LocalTime end) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            return 0;
+        }
+        int from = Math.max(0, start.getHour() - OPEN.getHour());
+        int endHour = end.getHour() + (end.getMinute() > 0 || end.getSecond() > 0 || end.getNano() > 0 ? 1 : 0);
+        int to = Math.min(SLOT_COUNT, endHour - OPEN.getHour());
+        if (from >= to) {
+            return 0;
+        }
+        return ((1 << to) - 1) & ~((1 << from) - 1);
+    }
+
+    public static int mask(LocalTime start, int durationHours) {
+        return mask(start, start.plusHours(durationHours));
+    }
+
+    // 마스크의 첫 슬롯 (포함)
+    public static int fromSlot(int mask) {
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    // 마스크의 마지막 슬롯 다음 (미포함)
+    public static int toSlot(int mask) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(mask);
+    }
+
+    // free 비트맵에서 duration 개 슬롯이 연속으로 비어 있는 시작 슬롯들 (운영시간 밖으로 넘어가는 시작은 자연히 제외)
+    public static int startSlots(int free, int duration) {
+        int starts = free & ALL_SLOTS;
+        for (int k = 1; k < duration; k++) {
+            starts &= free >>> k;
+        }
+        return starts;
+    }
+
+    public static LocalTime startOf(int slot) {
+        return OPEN.plusHours(slot);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.reservationsystem.domain.repository;
+
+// JpaRepository.deleteAllInBatch 대체 (JPQL 일괄 삭제는 엔티티 리스너를 건너뛴다)
+// 커밋 후 회의실 목록 / 점유 비트맵 / 일정표 캐시를 다시 맞춘다.
+public interface RoomBulkDelete {
+
+    void deleteAllInBatch();
+}
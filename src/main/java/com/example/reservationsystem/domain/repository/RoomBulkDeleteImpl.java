@@ -0,0 +1,21 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.domain.occupancy.OccupancyReloader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+class RoomBulkDeleteImpl implements RoomBulkDelete {
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<OccupancyReloader> reloader;
+
+    @Override
+    @Transactional
+    public void deleteAllInBatch() {
+        entityManager.createQuery("DELETE FROM Room").executeUpdate();
+        reloader.getObject().reloadAfterCommit();
+    }
+}
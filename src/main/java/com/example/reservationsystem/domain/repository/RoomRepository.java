@@ -1,8 +1,27 @@
 package com.example.reservationsystem.domain.repository;
 
 
+import com.example.reservationsystem.domain.dto.RoomScheduleRowDto;
 import com.example.reservationsystem.domain.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface RoomRepository extends JpaRepository<Room, Long> {
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RoomRepository extends JpaRepository<Room, Long>, RoomBulkDelete {
+
+    // 전체 회의실 + 해당 날짜 예약을 한 번에 조회 (Room / Student 엔티티 로딩 없음)
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.RoomScheduleRowDto(
+        rm.id, r.id, r.startTime, r.endTime, r.leaderStudentId, r.status)
+    from Room rm
+    left join RoomReservation r on r.room = rm and r.date = :date
+    order by rm.id asc, r.startTime asc
+""")
+    List<RoomScheduleRowDto> findScheduleRows(@Param("date") LocalDate date);
+
+    @Query("select rm.id from Room rm order by rm.id asc")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,24 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.domain.occupancy.OccupancyReloader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+class RoomReservationBulkDeleteImpl implements RoomReservationBulkDelete {
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<OccupancyReloader> reloader;
+
+    // 예약이 모두 사라지면 남은 참가자 행은 어느 예약에도 속하지 않으므로 참가자 슬롯도 지운다
+    @Override
+    @Transactional
+    public void deleteAllInBatch() {
+        entityManager.createQuery("DELETE FROM StudentReservationSlot s WHERE s.participant IS NOT NULL").executeUpdate();
+        entityManager.createQuery("DELETE FROM RoomReservationSlot").executeUpdate();
+        entityManager.createQuery("DELETE FROM RoomReservation").executeUpdate();
+        reloader.getObject().reloadAfterCommit();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.reservationsystem.domain.repository;
+
+// JpaRepository.deleteAllInBatch 대체 (JPQL 일괄 삭제는 cascade 와 엔티티 리스너를 건너뛴다)
+// 참가자에 딸린 학생 슬롯 행을 함께 지우고, 커밋 후 인메모리 점유 상태를 다시 적재한다.
+public interface RoomReservationParticipantBulkDelete {
+
+    void deleteAllInBatch();
+}
@@ -0,0 +1,22 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.domain.occupancy.OccupancyReloader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+class RoomReservationParticipantBulkDeleteImpl implements RoomReservationParticipantBulkDelete {
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<OccupancyReloader> reloader;
+
+    @Override
+    @Transactional
+    public void deleteAllInBatch() {
+        entityManager.createQuery("DELETE FROM StudentReservationSlot s WHERE s.participant IS NOT NULL").executeUpdate();
+        entityManager.createQuery("DELETE FROM RoomReservationParticipant").executeUpdate();
+        reloader.getObject().reloadAfterCommit();
+    }
+}
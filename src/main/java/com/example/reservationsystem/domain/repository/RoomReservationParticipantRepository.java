@@ -1,17 +1,23 @@
 package com.example.reservationsystem.domain.repository;
 
+import com.example.reservationsystem.domain.dto.MeetingUsageRowDto;
+import com.example.reservationsystem.domain.dto.ReservationDetailDto;
+import com.example.reservationsystem.domain.dto.StudentWindowDto;
 import com.example.reservationsystem.domain.entity.RoomReservation;
 import com.example.reservationsystem.domain.entity.RoomReservationParticipant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RoomReservationParticipantRepository extends JpaRepository<RoomReservationParticipant, Long> {
+public interface RoomReservationParticipantRepository extends JpaRepository<RoomReservationParticipant, Long>, RoomReservationParticipantBulkDelete {
 
     @Query("""
 select (count(p) > 0)
@@ -28,6 +34,31 @@ where p.student.studentId = :studentId
                                  @Param("startTime") LocalTime startTime,
                                  @Param("endTime") LocalTime endTime);
 
+    // 학생별 RESERVED 회의실 참가 시간대 (StudentTimeline 재적재용)
+    @Query("""
+select new com.example.reservationsystem.domain.dto.StudentWindowDto(s.studentId, r.date, r.startTime, r.endTime)
+from RoomReservationParticipant p
+join p.reservation r
+join p.student s
+where r.date >= :from
+  and r.status = com.example.reservationsystem.domain.entity.RoomReservationStatus.RESERVED
+""")
+    List<StudentWindowDto> findStudentWindowsFrom(@Param("from") LocalDate from);
+
+    // 학생들의 기간 내 RESERVED 회의실 참가 시간 (반복 예약의 일일/주간 한도 일괄 계산용)
+    @Query("""
+select new com.example.reservationsystem.domain.dto.MeetingUsageRowDto(s.studentId, r.date, r.duration)
+from RoomReservationParticipant p
+join p.reservation r
+join p.student s
+where s.studentId in :studentIds
+  and r.date between :from and :to
+  and r.status = com.example.reservationsystem.domain.entity.RoomReservationStatus.RESERVED
+""")
+    List<MeetingUsageRowDto> findMeetingUsage(@Param("studentIds") Collection<Long> studentIds,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
     @Query("""
     select r
     from RoomReservationParticipant p
@@ -52,10 +83,69 @@ where p.student.studentId = :studentId
 """)
     List<RoomReservation> findReservationsByStudentId(Long studentId);
 
+    // 내 회의실 예약 - 다가오는 예약 키셋 페이지 (date, startTime, id 오름차순, 커서 다음 행부터)
+    // 참가자 (student_id, reservation_id) 인덱스로 내 예약만 훑고, 응답 DTO 로 바로 조회
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.ReservationDetailDto(
+        r.id, r.room.id, r.date, r.startTime, r.endTime, r.leaderStudentId)
+    from RoomReservationParticipant p
+    join p.reservation r
+    where p.student.studentId = :studentId
+      and (r.date > :today or (r.date = :today and r.endTime > :now))
+      and (:cursorDate is null
+           or r.date > :cursorDate
+           or (r.date = :cursorDate and (r.startTime > :cursorTime
+               or (r.startTime = :cursorTime and r.id > :cursorId))))
+    order by r.date asc, r.startTime asc, r.id asc
+""")
+    List<ReservationDetailDto> findUpcomingPage(@Param("studentId") Long studentId,
+                                                @Param("today") LocalDate today,
+                                                @Param("now") LocalTime now,
+                                                @Param("cursorDate") LocalDate cursorDate,
+                                                @Param("cursorTime") LocalTime cursorTime,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    // 내 회의실 예약 - 지난 예약 키셋 페이지 (date, startTime, id 내림차순, 커서 이전 행부터)
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.ReservationDetailDto(
+        r.id, r.room.id, r.date, r.startTime, r.endTime, r.leaderStudentId)
+    from RoomReservationParticipant p
+    join p.reservation r
+    where p.student.studentId = :studentId
+      and (r.date < :today or (r.date = :today and r.endTime <= :now))
+      and (:cursorDate is null
+           or r.date < :cursorDate
+           or (r.date = :cursorDate and (r.startTime < :cursorTime
+               or (r.startTime = :cursorTime and r.id < :cursorId))))
+    order by r.date desc, r.startTime desc, r.id desc
+""")
+    List<ReservationDetailDto> findPastPage(@Param("studentId") Long studentId,
+                                            @Param("today") LocalDate today,
+                                            @Param("now") LocalTime now,
+                                            @Param("cursorDate") LocalDate cursorDate,
+                                            @Param("cursorTime") LocalTime cursorTime,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
 
     Optional<RoomReservationParticipant> findByReservation_IdAndStudent_StudentId(Long reservationId, Long studentId);
 
+    // 취소 시 참가자 사용량을 갱신하므로 Student 를 함께 조회 (참가자 수와 무관하게 쿼리 1회)
+    @EntityGraph(RoomReservationParticipant.WITH_STUDENT)
     List<RoomReservationParticipant> findAllByReservation_Id(Long reservationId);
 
+    // 슬롯 행 백필: 학생 슬롯 행이 없는 RESERVED 예약 참가자 (id 키셋 페이지)
+    @Query("""
+    select p.id
+    from RoomReservationParticipant p
+    join p.reservation r
+    where p.id > :afterId
+      and r.status = com.example.reservationsystem.domain.entity.RoomReservationStatus.RESERVED
+      and p.studentSlots is empty
+    order by p.id asc
+""")
+    List<Long> findReservedIdsWithoutSlots(@Param("afterId") Long afterId, Pageable pageable);
+
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.example.reservationsystem.domain.repository;
 
+import com.example.reservationsystem.domain.dto.NoShowCandidateDto;
 import com.example.reservationsystem.domain.entity.RoomReservation;
 import com.example.reservationsystem.domain.entity.RoomReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,7 +12,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
-public interface RoomReservationRepository extends JpaRepository<RoomReservation, Long> {
+public interface RoomReservationRepository extends JpaRepository<RoomReservation, Long>, RoomReservationBulkDelete {
 
 
     @Query("""
@@ -83,5 +85,26 @@ public interface RoomReservationRepository extends JpaRepository<RoomReservation
 
     List<RoomReservation> findByRoom_IdAndDate(Long roomId, LocalDate date);
 
+    // 체크인 전 RESERVED 회의실 예약 (NoShowSweeper 재적재용)
+    @Query("""
+    SELECT new com.example.reservationsystem.domain.dto.NoShowCandidateDto(r.id, r.date, r.startTime)
+    FROM RoomReservation r
+    WHERE r.date >= :from
+      AND r.status = com.example.reservationsystem.domain.entity.RoomReservationStatus.RESERVED
+      AND r.checkedInAt IS NULL
+""")
+    List<NoShowCandidateDto> findNoShowCandidatesFrom(@Param("from") LocalDate from);
+
+    // 슬롯 행 백필: 슬롯 행이 없는 RESERVED 예약 (id 키셋 페이지)
+    @Query("""
+    SELECT r.id
+    FROM RoomReservation r
+    WHERE r.id > :afterId
+      AND r.status = com.example.reservationsystem.domain.entity.RoomReservationStatus.RESERVED
+      AND r.slots IS EMPTY
+    ORDER BY r.id ASC
+""")
+    List<Long> findReservedIdsWithoutSlots(@Param("afterId") Long afterId, Pageable pageable);
+
 
-}
\ No newline at end of file
+}
\ No newline at end of file
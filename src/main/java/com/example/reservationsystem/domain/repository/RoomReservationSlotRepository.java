@@ -0,0 +1,47 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.domain.dto.RoomSlotRowDto;
+import com.example.reservationsystem.domain.entity.RoomReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RoomReservationSlotRepository extends JpaRepository<RoomReservationSlot, Long> {
+
+    // (room_id, date, slot) 유니크 인덱스 범위 조회 (RESERVED 예약만 슬롯 행이 존재)
+    @Query("""
+        SELECT COUNT(s) > 0
+        FROM RoomReservationSlot s
+        WHERE s.roomId = :roomId
+          AND s.date = :date
+          AND s.slot >= :fromSlot
+          AND s.slot < :toSlot
+    """)
+    boolean existsOverlap(@Param("roomId") Long roomId,
+                          @Param("date") LocalDate date,
+                          @Param("fromSlot") int fromSlot,
+                          @Param("toSlot") int toSlot);
+
+    // 기간 내 회의실 슬롯 행을 한 번에 조회 (빈 시간 검색용, (room_id, date, slot) 유니크 인덱스 사용)
+    @Query("""
+        SELECT new com.example.reservationsystem.domain.dto.RoomSlotRowDto(s.roomId, s.date, s.slot)
+        FROM RoomReservationSlot s
+        WHERE s.roomId IN :roomIds
+          AND s.date BETWEEN :from AND :to
+    """)
+    List<RoomSlotRowDto> findSlotRows(@Param("roomIds") Collection<Long> roomIds,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+
+    // 회의실 점유 비트맵 재구성용 (기동 시 오늘 이후 슬롯 행)
+    @Query("""
+        SELECT new com.example.reservationsystem.domain.dto.RoomSlotRowDto(s.roomId, s.date, s.slot)
+        FROM RoomReservationSlot s
+        WHERE s.date >= :from
+    """)
+    List<RoomSlotRowDto> findSlotRowsFrom(@Param("from") LocalDate from);
+}
@@ -2,8 +2,12 @@ package com.example.reservationsystem.domain.repository;
 
 import com.example.reservationsystem.domain.entity.Seat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Set;
 
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
+    @Query("select s.id from Seat s")
+    Set<Long> findAllIds();
 }
-
@@ -0,0 +1,23 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.domain.occupancy.OccupancyReloader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+class SeatReservationBulkDeleteImpl implements SeatReservationBulkDelete {
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<OccupancyReloader> reloader;
+
+    @Override
+    @Transactional
+    public void deleteAllInBatch() {
+        entityManager.createQuery("DELETE FROM StudentReservationSlot s WHERE s.seatReservation IS NOT NULL").executeUpdate();
+        entityManager.createQuery("DELETE FROM SeatReservationSlot").executeUpdate();
+        entityManager.createQuery("DELETE FROM SeatReservation").executeUpdate();
+        reloader.getObject().reloadAfterCommit();
+    }
+}
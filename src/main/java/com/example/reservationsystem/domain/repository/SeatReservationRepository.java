@@ -1,6 +1,12 @@
 package com.example.reservationsystem.domain.repository;
 
+import com.example.reservationsystem.domain.dto.NoShowCandidateDto;
+import com.example.reservationsystem.domain.dto.SeatOccupancyDto;
+import com.example.reservationsystem.domain.dto.SeatReservationResponseDto;
+import com.example.reservationsystem.domain.dto.StudentWindowDto;
 import com.example.reservationsystem.domain.entity.SeatReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,8 +14,9 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface SeatReservationRepository  extends JpaRepository<SeatReservation, Long> {
+public interface SeatReservationRepository  extends JpaRepository<SeatReservation, Long>, SeatReservationBulkDelete {
 
     @Query("""
         SELECT COUNT(sr) > 0
@@ -42,8 +49,59 @@ public interface SeatReservationRepository  extends JpaRepository<SeatReservatio
                                  @Param("startTime") LocalTime startTime,
                                  @Param("endTime") LocalTime endTime);
 
+    // 내 좌석 예약 목록: 응답에 학번이 들어가므로 Student 를 함께 조회 (쿼리 1회)
+    @EntityGraph(SeatReservation.WITH_STUDENT)
     List<SeatReservation> findByStudent_StudentId(Long studentId);
 
+    // 취소 권한 확인용: 예약 + 예약자 Student 를 한 번에 조회
+    @EntityGraph(SeatReservation.WITH_STUDENT)
+    Optional<SeatReservation> findWithStudentById(Long id);
+
+    // 내 좌석 예약 - 다가오는 예약 키셋 페이지 (date, startTime, id 오름차순, 커서 다음 행부터)
+    // idx_seat_reservation_student_keyset 인덱스 범위만 읽고, 엔티티 대신 응답 DTO 로 바로 조회
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.SeatReservationResponseDto(
+        r.id, r.seat.id, r.date, r.startTime, r.endTime, s.studentId)
+    from SeatReservation r
+    join r.student s
+    where s.studentId = :studentId
+      and (r.date > :today or (r.date = :today and r.endTime > :now))
+      and (:cursorDate is null
+           or r.date > :cursorDate
+           or (r.date = :cursorDate and (r.startTime > :cursorTime
+               or (r.startTime = :cursorTime and r.id > :cursorId))))
+    order by r.date asc, r.startTime asc, r.id asc
+    """)
+    List<SeatReservationResponseDto> findUpcomingPage(@Param("studentId") Long studentId,
+                                                      @Param("today") LocalDate today,
+                                                      @Param("now") LocalTime now,
+                                                      @Param("cursorDate") LocalDate cursorDate,
+                                                      @Param("cursorTime") LocalTime cursorTime,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    // 내 좌석 예약 - 지난 예약 키셋 페이지 (date, startTime, id 내림차순, 커서 이전 행부터)
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.SeatReservationResponseDto(
+        r.id, r.seat.id, r.date, r.startTime, r.endTime, s.studentId)
+    from SeatReservation r
+    join r.student s
+    where s.studentId = :studentId
+      and (r.date < :today or (r.date = :today and r.endTime <= :now))
+      and (:cursorDate is null
+           or r.date < :cursorDate
+           or (r.date = :cursorDate and (r.startTime < :cursorTime
+               or (r.startTime = :cursorTime and r.id < :cursorId))))
+    order by r.date desc, r.startTime desc, r.id desc
+    """)
+    List<SeatReservationResponseDto> findPastPage(@Param("studentId") Long studentId,
+                                                  @Param("today") LocalDate today,
+                                                  @Param("now") LocalTime now,
+                                                  @Param("cursorDate") LocalDate cursorDate,
+                                                  @Param("cursorTime") LocalTime cursorTime,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
     @Query("""
     select r.seat.id 
     from SeatReservation r
@@ -71,4 +129,39 @@ public interface SeatReservationRepository  extends JpaRepository<SeatReservatio
     );
 
     List<SeatReservation> findByDate(LocalDate date);
+
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.SeatOccupancyDto(r.seat.id, r.date, r.startTime, r.endTime)
+    from SeatReservation r
+    where r.date >= :from
+""")
+    List<SeatOccupancyDto> findOccupancyFrom(@Param("from") LocalDate from);
+
+    // 체크인 전 좌석 예약 (NoShowSweeper 재적재용)
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.NoShowCandidateDto(r.id, r.date, r.startTime)
+    from SeatReservation r
+    where r.date >= :from
+      and r.checkedInAt is null
+""")
+    List<NoShowCandidateDto> findNoShowCandidatesFrom(@Param("from") LocalDate from);
+
+    // 학생별 좌석 예약 시간대 (StudentTimeline 재적재용)
+    @Query("""
+    select new com.example.reservationsystem.domain.dto.StudentWindowDto(s.studentId, r.date, r.startTime, r.endTime)
+    from SeatReservation r
+    join r.student s
+    where r.date >= :from
+""")
+    List<StudentWindowDto> findStudentWindowsFrom(@Param("from") LocalDate from);
+
+    // 슬롯 행 백필: 좌석/학생 슬롯 행이 없는 예약 (id 키셋 페이지)
+    @Query("""
+    select r.id
+    from SeatReservation r
+    where r.id > :afterId
+      and (r.slots is empty or r.studentSlots is empty)
+    order by r.id asc
+""")
+    List<Long> findIdsWithoutSlots(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.domain.entity.SeatReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SeatReservationSlotRepository extends JpaRepository<SeatReservationSlot, Long> {
+
+    @Query("""
+        SELECT DISTINCT s.seatId
+        FROM SeatReservationSlot s
+        WHERE s.date = :date
+          AND s.slot >= :fromSlot
+          AND s.slot < :toSlot
+    """)
+    List<Long> findReservedSeatIds(@Param("date") LocalDate date,
+                                   @Param("fromSlot") int fromSlot,
+                                   @Param("toSlot") int toSlot);
+}
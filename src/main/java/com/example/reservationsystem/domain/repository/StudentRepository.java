@@ -2,11 +2,52 @@ package com.example.reservationsystem.domain.repository;
 
 import com.example.reservationsystem.domain.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
     Optional<Student> findByStudentId(Long studentId);
 
+    List<Student> findAllByStudentIdIn(Collection<Long> studentIds);
+
+    // 좌석 일일 사용 시간 검사 + 증가를 한 문장으로 처리 (집계 날짜가 바뀌었으면 0 에서 다시 시작)
+    // 반환값 1 = 성공, 0 = 한도 초과 (또는 학생 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Student s
+        SET s.seatDailyUsedHours = CASE WHEN s.seatUsageDate = :date
+                                        THEN s.seatDailyUsedHours + :hours
+                                        ELSE :hours END,
+            s.seatUsageDate = :date
+        WHERE s.studentId = :studentId
+          AND (s.seatUsageDate IS NULL
+               OR s.seatUsageDate <> :date
+               OR s.seatDailyUsedHours + :hours <= :limit)
+    """)
+    int addSeatUsageWithinLimit(@Param("studentId") Long studentId,
+                                @Param("date") LocalDate date,
+                                @Param("hours") int hours,
+                                @Param("limit") int limit);
+
+    // 좌석 사용 시간 환급 (같은 날짜로 집계 중일 때만, 0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Student s
+        SET s.seatDailyUsedHours = CASE WHEN s.seatDailyUsedHours > :hours
+                                        THEN s.seatDailyUsedHours - :hours
+                                        ELSE 0 END
+        WHERE s.studentId = :studentId
+          AND s.seatUsageDate = :date
+    """)
+    int refundSeatUsage(@Param("studentId") Long studentId,
+                        @Param("date") LocalDate date,
+                        @Param("hours") int hours);
+
 }
@@ -0,0 +1,27 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.domain.dto.StudentSlotRowDto;
+import com.example.reservationsystem.domain.entity.StudentReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StudentReservationSlotRepository extends JpaRepository<StudentReservationSlot, Long> {
+
+    // 학생의 하루 슬롯 행과 속한 예약 / 좌석 / 회의실 id ((student_number, date, slot) 유니크 인덱스 범위 조회)
+    @Query("""
+        SELECT new com.example.reservationsystem.domain.dto.StudentSlotRowDto(
+            s.slot, sr.id, sr.seat.id, rr.id, rr.room.id)
+        FROM StudentReservationSlot s
+        LEFT JOIN s.seatReservation sr
+        LEFT JOIN s.participant p
+        LEFT JOIN p.reservation rr
+        WHERE s.studentNumber = :studentId
+          AND s.date = :date
+        ORDER BY s.slot
+    """)
+    List<StudentSlotRowDto> findSlotRows(@Param("studentId") Long studentId, @Param("date") LocalDate date);
+}
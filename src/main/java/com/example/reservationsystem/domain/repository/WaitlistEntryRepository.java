@@ -0,0 +1,67 @@
+package com.example.reservationsystem.domain.repository;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.domain.entity.WaitlistEntry;
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import com.example.reservationsystem.domain.entity.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // 취소 이벤트 처리용 대기열 (신청 순)
+    List<WaitlistEntry> findByResourceTypeAndDateAndStatusOrderByIdAsc(WaitlistResourceType resourceType,
+                                                                       LocalDate date,
+                                                                       WaitlistStatus status);
+
+    // 같은 학생의 같은 대기 중복 신청 확인 (resourceId null = 아무 좌석)
+    boolean existsByResourceTypeAndResourceIdAndDateAndStartTimeAndStudentIdAndStatus(WaitlistResourceType resourceType,
+                                                                                      Long resourceId,
+                                                                                      LocalDate date,
+                                                                                      LocalTime startTime,
+                                                                                      Long studentId,
+                                                                                      WaitlistStatus status);
+
+    // 내 대기 목록 (최근 신청 순)
+    List<WaitlistEntry> findByStudentIdOrderByIdDesc(Long studentId);
+
+    // 아직 WAITING 인 항목만 상태 변경 (반환값 0 = 이미 승격/취소됨)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE WaitlistEntry w
+        SET w.status = com.example.reservationsystem.domain.entity.WaitlistStatus.PROMOTED,
+            w.reservationId = :reservationId,
+            w.waitingKey = null
+        WHERE w.id = :id
+          AND w.status = com.example.reservationsystem.domain.entity.WaitlistStatus.WAITING
+    """)
+    int markPromoted(@Param("id") Long id, @Param("reservationId") Long reservationId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE WaitlistEntry w
+        SET w.status = com.example.reservationsystem.domain.entity.WaitlistStatus.FAILED,
+            w.failureCode = :failureCode,
+            w.waitingKey = null
+        WHERE w.id = :id
+          AND w.status = com.example.reservationsystem.domain.entity.WaitlistStatus.WAITING
+    """)
+    int markFailed(@Param("id") Long id, @Param("failureCode") ErrorCode failureCode);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE WaitlistEntry w
+        SET w.status = com.example.reservationsystem.domain.entity.WaitlistStatus.CANCELED,
+            w.waitingKey = null
+        WHERE w.id = :id
+          AND w.studentId = :studentId
+          AND w.status = com.example.reservationsystem.domain.entity.WaitlistStatus.WAITING
+    """)
+    int cancel(@Param("id") Long id, @Param("studentId") Long studentId);
+}
@@ -0,0 +1,177 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.AlternativeSlotDto;
+import com.example.reservationsystem.domain.dto.ConflictAlternativesDto;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Student;
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 예약 충돌(SEAT_ALREADY_RESERVED / ROOM_ALREADY_RESERVED) 실패 응답에 붙일 가까운 대안 시간대
+// - 시간대는 좌석/회의실 점유 비트맵 + 학생 타임라인(메모리)으로 계산하고, 한도만 Student 행을 한 번 조회
+// - 요청자(회의실은 참가자 전원) 일정과 겹치거나 이미 지난 시간은 제외 → 대안으로 다시 요청하면 성공할 시간대만 제안
+// - 대안은 요청과 같은 날짜·같은 길이라, 남은 일일(회의실은 주간도) 한도가 길이보다 작으면 대안 없이 빈 목록
+// - 예약 트랜잭션이 롤백된 뒤 호출해야 요청자의 선점이 풀린 상태로 계산된다
+@Service
+@RequiredArgsConstructor
+public class ConflictAlternativesService {
+
+    static final int MAX_ALTERNATIVES = 3;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final SeatOccupancyEngine seatOccupancyEngine;
+    private final RoomOccupancyEngine roomOccupancyEngine;
+    private final StudentTimeline studentTimeline;
+    private final StudentRepository studentRepository;
+
+    // SEAT_ALREADY_RESERVED 이면 대안을 payload 로 붙인 예외, 아니면 그대로 반환
+    public CustomException withSeatAlternatives(CustomException e, SeatReservationRequestDto req) {
+        if (e.getErrorCode() != ErrorCode.SEAT_ALREADY_RESERVED || e.getPayload() != null) {
+            return e;
+        }
+        LocalDate date = req.getDate();
+        LocalTime end = req.getStartTime().plusHours(req.getDurationHours());
+        int requested = TimeSlots.mask(req.getStartTime(), end);
+        if (requested == 0) {
+            return e;
+        }
+
+        if (seatQuotaExhausted(req.getStudentId(), date, req.getDurationHours())) {
+            return new CustomException(e.getErrorCode(), new ConflictAlternativesDto(List.of(), List.of()), e);
+        }
+
+        int studentBusy = unavailableSlots(date) | studentTimeline.busyMask(req.getStudentId(), date);
+        long seatId = req.getSeatId();
+
+        // 같은 좌석, 다른 시간
+        List<AlternativeSlotDto> sameSeat = nearestStarts(seatId, date,
+                ~(seatOccupancyEngine.mask(date, seatId) | studentBusy),
+                req.getDurationHours(), TimeSlots.fromSlot(requested));
+
+        // 같은 시간, 가까운 번호의 다른 좌석
+        List<AlternativeSlotDto> otherSeats = new ArrayList<>();
+        if ((studentBusy & requested) == 0) {
+            for (int d = 1; d < SeatOccupancyEngine.SEAT_COUNT && otherSeats.size() < MAX_ALTERNATIVES; d++) {
+                for (long candidate : new long[]{seatId - d, seatId + d}) {
+                    if (candidate >= 1 && candidate <= SeatOccupancyEngine.SEAT_COUNT
+                            && otherSeats.size() < MAX_ALTERNATIVES
+                            && (seatOccupancyEngine.mask(date, candidate) & requested) == 0) {
+                        otherSeats.add(new AlternativeSlotDto(candidate, date, req.getStartTime(), end));
+                    }
+                }
+            }
+        }
+
+        return new CustomException(e.getErrorCode(), new ConflictAlternativesDto(sameSeat, otherSeats), e);
+    }
+
+    // ROOM_ALREADY_RESERVED 이면 대안을 payload 로 붙인 예외, 아니면 그대로 반환
+    public CustomException withRoomAlternatives(CustomException e, ReservationRequestDto req) {
+        if (e.getErrorCode() != ErrorCode.ROOM_ALREADY_RESERVED || e.getPayload() != null) {
+            return e;
+        }
+        LocalDate date = req.getDate();
+        LocalTime end = req.getStartTime().plusHours(req.getDuration());
+        int requested = TimeSlots.mask(req.getStartTime(), end);
+        if (requested == 0) {
+            return e;
+        }
+
+        Set<Long> studentIds = new LinkedHashSet<>();
+        studentIds.add(req.getRepresentativeStudentId());
+        if (req.getParticipantStudentIds() != null) {
+            studentIds.addAll(req.getParticipantStudentIds());
+        }
+        if (roomQuotaExhausted(studentIds, date, req.getDuration())) {
+            return new CustomException(e.getErrorCode(), new ConflictAlternativesDto(List.of(), List.of()), e);
+        }
+
+        int studentsBusy = unavailableSlots(date);
+        for (Long sid : studentIds) {
+            studentsBusy |= studentTimeline.busyMask(sid, date);
+        }
+
+        // 같은 회의실, 다른 시간
+        List<AlternativeSlotDto> sameRoom = nearestStarts(req.getRoomId(), date,
+                ~(roomOccupancyEngine.mask(date, req.getRoomId()) | studentsBusy),
+                req.getDuration(), TimeSlots.fromSlot(requested));
+
+        // 같은 시간, 다른 회의실
+        List<AlternativeSlotDto> otherRooms = new ArrayList<>();
+        if ((studentsBusy & requested) == 0) {
+            for (Long roomId : roomOccupancyEngine.roomIds()) {
+                if (otherRooms.size() >= MAX_ALTERNATIVES) {
+                    break;
+                }
+                if (!roomId.equals(req.getRoomId()) && (roomOccupancyEngine.mask(date, roomId) & requested) == 0) {
+                    otherRooms.add(new AlternativeSlotDto(roomId, date, req.getStartTime(), end));
+                }
+            }
+        }
+
+        return new CustomException(e.getErrorCode(), new ConflictAlternativesDto(sameRoom, otherRooms), e);
+    }
+
+    private boolean seatQuotaExhausted(Long studentId, LocalDate date, int duration) {
+        return studentRepository.findByStudentId(studentId)
+                .map(s -> SeatReservationService.seatDailyUsage(s, date) + duration
+                        > SeatReservationService.SEAT_DAILY_LIMIT_HOURS)
+                .orElse(false);
+    }
+
+    // 참가자 중 한 명이라도 일일/주간 한도를 넘으면 같은 길이의 어떤 대안도 실패한다
+    private boolean roomQuotaExhausted(Set<Long> studentIds, LocalDate date, int duration) {
+        for (Student s : studentRepository.findAllByStudentIdIn(studentIds)) {
+            if (RoomReservationService.meetingDailyUsage(s, date) + duration > RoomReservationService.ROOM_DAILY_LIMIT_HOURS
+                    || RoomReservationService.meetingWeeklyUsage(s, date) + duration > RoomReservationService.ROOM_WEEKLY_LIMIT_HOURS) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // free 비트맵에서 duration 시간 연속으로 빈 시작 슬롯을 요청 슬롯에 가까운 순으로 (같은 거리면 이른 시간 먼저)
+    private static List<AlternativeSlotDto> nearestStarts(long resourceId, LocalDate date, int free,
+                                                          int duration, int requestedSlot) {
+        int starts = TimeSlots.startSlots(free, duration) & ~(1 << requestedSlot);
+        List<AlternativeSlotDto> result = new ArrayList<>();
+        for (int d = 1; d < TimeSlots.SLOT_COUNT && result.size() < MAX_ALTERNATIVES; d++) {
+            for (int slot : new int[]{requestedSlot - d, requestedSlot + d}) {
+                if (slot >= 0 && slot < TimeSlots.SLOT_COUNT
+                        && result.size() < MAX_ALTERNATIVES
+                        && (starts & (1 << slot)) != 0) {
+                    LocalTime start = TimeSlots.startOf(slot);
+                    result.add(new AlternativeSlotDto(resourceId, date, start, start.plusHours(duration)));
+                }
+            }
+        }
+        return result;
+    }
+
+    // 이미 시작된(지난) 슬롯
+    private static int unavailableSlots(LocalDate date) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        if (date.isBefore(now.toLocalDate())) {
+            return TimeSlots.ALL_SLOTS;
+        }
+        return date.equals(now.toLocalDate()) ? TimeSlots.mask(TimeSlots.OPEN, now.toLocalTime()) : 0;
+    }
+}
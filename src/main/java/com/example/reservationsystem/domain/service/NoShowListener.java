@@ -0,0 +1,31 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.entity.RoomReservation;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// 좌석/회의실 예약 저장이 커밋되면 노쇼 마감을 NoShowSweeper 큐에 등록한다.
+// (EntityManagerFactory 생성 중 순환 참조를 피하려고 sweeper 는 지연 조회)
+@Component
+@RequiredArgsConstructor
+public class NoShowListener {
+
+    private final ObjectProvider<NoShowSweeper> sweeper;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof SeatReservation reservation) {
+            Long id = reservation.getId();
+            TransactionCallbacks.afterCommit(() -> sweeper.getObject()
+                    .track(NoShowSweeper.Kind.SEAT, id, reservation.getDate(), reservation.getStartTime()));
+        } else if (entity instanceof RoomReservation reservation) {
+            Long id = reservation.getId();
+            TransactionCallbacks.afterCommit(() -> sweeper.getObject()
+                    .track(NoShowSweeper.Kind.ROOM, id, reservation.getDate(), reservation.getStartTime()));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.util.StudentIds;
+import com.example.reservationsystem.domain.entity.RoomReservation;
+import com.example.reservationsystem.domain.entity.RoomReservationParticipant;
+import com.example.reservationsystem.domain.entity.RoomReservationStatus;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.repository.RoomReservationParticipantRepository;
+import com.example.reservationsystem.domain.repository.RoomReservationRepository;
+import com.example.reservationsystem.domain.repository.SeatReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+// 체크인 + 노쇼 해제
+// - 체크인 가능: 시작 check-in-open 전 ~ 시작 후 grace (이 시각이 노쇼 마감)
+// - 마감까지 체크인이 없으면 NoShowSweeper 가 호출: 좌석 예약은 삭제, 회의실 예약은 NO_SHOW
+// - 사용 시간은 환급하지 않는다. 환급은 시작 전 취소에만 있고(좌석은 시작 후 취소 불가, 회의실은 CANCELED_PENALTY),
+//   노쇼 마감은 시작 + grace 이후라 시작 후 취소와 같은 규칙을 따른다.
+// - 점유 비트맵/학생 타임라인은 취소와 같은 경로(엔티티 리스너, vacateAfterCommit)로 커밋 후 반영되고 빈 시간대는 예약 대기열에 넘긴다
+@Service
+@Transactional(readOnly = true)
+public class NoShowService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final SeatReservationRepository seatReservationRepository;
+    private final RoomReservationRepository roomReservationRepository;
+    private final RoomReservationParticipantRepository roomReservationParticipantRepository;
+    private final StudentTimeline studentTimeline;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration grace;
+    private final Duration checkInOpen;
+
+    public NoShowService(
+            SeatReservationRepository seatReservationRepository,
+            RoomReservationRepository roomReservationRepository,
+            RoomReservationParticipantRepository roomReservationParticipantRepository,
+            StudentTimeline studentTimeline,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${reservation.no-show.grace:PT15M}") Duration grace,
+            @Value("${reservation.no-show.check-in-open:PT10M}") Duration checkInOpen
+    ) {
+        this.seatReservationRepository = seatReservationRepository;
+        this.roomReservationRepository = roomReservationRepository;
+        this.roomReservationParticipantRepository = roomReservationParticipantRepository;
+        this.studentTimeline = studentTimeline;
+        this.eventPublisher = eventPublisher;
+        this.grace = grace;
+        this.checkInOpen = checkInOpen;
+    }
+
+    // 노쇼 마감 시각 (시작 + 유예)
+    public LocalDateTime deadlineOf(LocalDate date, LocalTime startTime) {
+        return LocalDateTime.of(date, startTime).plus(grace);
+    }
+
+    @Transactional
+    public void checkInSeat(Long reservationId, Long studentId) {
+        StudentIds.validate(studentId);
+
+        SeatReservation reservation = seatReservationRepository.findWithStudentById(reservationId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SEAT_RESERVATION_NOT_FOUND1));
+
+        // 본인 예약만
+        if (!reservation.getStudent().getStudentId().equals(studentId)) {
+            throw new CustomException(ErrorCode.NO_CANCEL_PERMISSION1);
+        }
+
+        LocalDateTime now = LocalDateTime.now(KST);
+        requireCheckInWindow(reservation.getDate(), reservation.getStartTime(), now);
+        reservation.checkIn(now);
+    }
+
+    @Transactional
+    public void checkInRoom(Long reservationId, Long studentId) {
+        StudentIds.validate(studentId);
+
+        RoomReservation reservation = roomReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        if (reservation.getStatus() != RoomReservationStatus.RESERVED) {
+            throw new CustomException(ErrorCode.ALREADY_CANCELED_RESERVATION);
+        }
+
+        // 참가자 누구나 체크인 가능
+        roomReservationParticipantRepository
+                .findByReservation_IdAndStudent_StudentId(reservationId, studentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NO_CANCEL_PERMISSION1));
+
+        LocalDateTime now = LocalDateTime.now(KST);
+        requireCheckInWindow(reservation.getDate(), reservation.getStartTime(), now);
+        reservation.checkIn(now);
+    }
+
+    // 체크인 없이 마감이 지난 좌석 예약 삭제 (refundSeatUsage 없음, 클래스 주석 참고). 이미 체크인/취소된 예약이면 false
+    @Transactional
+    public boolean releaseSeat(Long reservationId) {
+        SeatReservation reservation = seatReservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null || reservation.getCheckedInAt() != null) {
+            return false;
+        }
+
+        // 삭제 커밋 시 SeatOccupancyListener / StudentTimelineListener 가 점유 해제
+        seatReservationRepository.delete(reservation);
+
+        eventPublisher.publishEvent(new ReservationCanceledEvent(
+                WaitlistResourceType.SEAT,
+                reservation.getSeat().getId(),
+                reservation.getDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime()));
+        return true;
+    }
+
+    // 체크인 없이 마감이 지난 회의실 예약을 NO_SHOW 로. 이미 체크인/취소된 예약이면 false
+    @Transactional
+    public boolean releaseRoom(Long reservationId) {
+        RoomReservation reservation = roomReservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null
+                || reservation.getStatus() != RoomReservationStatus.RESERVED
+                || reservation.getCheckedInAt() != null) {
+            return false;
+        }
+
+        for (RoomReservationParticipant p : roomReservationParticipantRepository.findAllByReservation_Id(reservationId)) {
+            studentTimeline.vacateAfterCommit(p.getStudent().getStudentId(), reservation.getDate(),
+                    StudentTimeline.Kind.ROOM, reservation.getStartTime(), reservation.getEndTime());
+            p.releaseSlots();
+        }
+
+        // 슬롯 행 삭제 → RoomOccupancyListener 가 커밋 후 회의실 비트맵 해제
+        reservation.cancel(RoomReservationStatus.NO_SHOW);
+
+        eventPublisher.publishEvent(new ReservationCanceledEvent(
+                WaitlistResourceType.ROOM,
+                reservation.getRoom().getId(),
+                reservation.getDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime()));
+        return true;
+    }
+
+    private void requireCheckInWindow(LocalDate date, LocalTime startTime, LocalDateTime now) {
+        LocalDateTime opensAt = LocalDateTime.of(date, startTime).minus(checkInOpen);
+        if (now.isBefore(opensAt) || now.isAfter(deadlineOf(date, startTime))) {
+            throw new CustomException(ErrorCode.CHECK_IN_NOT_AVAILABLE);
+        }
+    }
+}
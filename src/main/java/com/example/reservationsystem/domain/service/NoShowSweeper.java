@@ -0,0 +1,172 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.domain.dto.NoShowCandidateDto;
+import com.example.reservationsystem.domain.repository.RoomReservationRepository;
+import com.example.reservationsystem.domain.repository.SeatReservationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// 노쇼 마감 시각 순 우선순위 큐(DelayQueue) + 워커 스레드 1개
+// - 마감이 가장 이른 항목까지만 잠들었다가 깨어나 NoShowService 로 해제 → 주기적 전체 테이블 스캔 없음
+// - 새 예약은 NoShowListener 가 커밋 후 등록, 기동 시 체크인 전 예약(오늘 이후)으로 다시 적재
+// - 체크인/취소된 예약은 큐에서 빼지 않고 마감 때 DB 상태를 보고 건너뛴다
+// - 해제 실패(DB 오류 등)는 로그를 남기고 RETRY_DELAY 뒤 MAX_ATTEMPTS 회까지 다시 시도한다
+//   (rebuild 는 아직 끝나지 않은 예약만 적재하므로 재기동에 기대지 않는다)
+@Slf4j
+@Component
+public class NoShowSweeper {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 30_000;
+
+    public enum Kind {
+        SEAT,
+        ROOM
+    }
+
+    private final NoShowService noShowService;
+    private final SeatReservationRepository seatReservationRepository;
+    private final RoomReservationRepository roomReservationRepository;
+    private final boolean enabled;
+
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private Thread worker;
+    private volatile boolean running;
+
+    public NoShowSweeper(
+            NoShowService noShowService,
+            SeatReservationRepository seatReservationRepository,
+            RoomReservationRepository roomReservationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.no-show.enabled:true}") boolean enabled
+    ) {
+        this.noShowService = noShowService;
+        this.seatReservationRepository = seatReservationRepository;
+        this.roomReservationRepository = roomReservationRepository;
+        this.enabled = enabled;
+
+        Gauge.builder("reservation.noshow.pending", queue, DelayQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuild();
+        running = true;
+        worker = new Thread(this::runWorker, "no-show-sweeper");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // 체크인 전 예약 중 아직 끝나지 않은 것만 다시 적재 (이미 끝난 예약은 해제해도 비울 자리가 없다)
+    public void rebuild() {
+        queue.clear();
+        LocalDateTime now = LocalDateTime.now(KST);
+        for (NoShowCandidateDto row : seatReservationRepository.findNoShowCandidatesFrom(now.toLocalDate())) {
+            trackIfUpcoming(Kind.SEAT, row, now);
+        }
+        for (NoShowCandidateDto row : roomReservationRepository.findNoShowCandidatesFrom(now.toLocalDate())) {
+            trackIfUpcoming(Kind.ROOM, row, now);
+        }
+    }
+
+    public void track(Kind kind, Long reservationId, LocalDate date, LocalTime startTime) {
+        track(kind, reservationId, noShowService.deadlineOf(date, startTime));
+    }
+
+    public void track(Kind kind, Long reservationId, LocalDateTime deadline) {
+        if (enabled) {
+            queue.add(new Deadline(kind, reservationId, deadline.atZone(KST).toInstant().toEpochMilli(), 1));
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void trackIfUpcoming(Kind kind, NoShowCandidateDto row, LocalDateTime now) {
+        // 가장 짧은 예약(1시간)도 마감 전에 끝나지 않으므로 시작 + 1시간 이전이면 아직 비울 자리가 있다
+        if (LocalDateTime.of(row.getDate(), row.getStartTime()).plusHours(1).isAfter(now)) {
+            track(kind, row.getReservationId(), row.getDate(), row.getStartTime());
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            Deadline next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                if (next.kind == Kind.SEAT) {
+                    noShowService.releaseSeat(next.reservationId);
+                } else {
+                    noShowService.releaseRoom(next.reservationId);
+                }
+            } catch (RuntimeException e) {
+                // 한 건 실패(동시 취소와의 경합 등)로 워커가 멈추지 않게 한다
+                if (next.attempt < MAX_ATTEMPTS) {
+                    log.warn("no-show release failed: {} {} (attempt {}/{}), retrying",
+                            next.kind, next.reservationId, next.attempt, MAX_ATTEMPTS, e);
+                    queue.add(new Deadline(next.kind, next.reservationId,
+                            System.currentTimeMillis() + RETRY_DELAY_MILLIS, next.attempt + 1));
+                } else {
+                    log.warn("no-show release failed: {} {}, giving up after {} attempts",
+                            next.kind, next.reservationId, MAX_ATTEMPTS, e);
+                }
+            }
+        }
+    }
+
+    private static final class Deadline implements Delayed {
+
+        private final Kind kind;
+        private final Long reservationId;
+        private final long deadlineMillis;
+        private final int attempt;
+
+        private Deadline(Kind kind, Long reservationId, long deadlineMillis, int attempt) {
+            this.kind = kind;
+            this.reservationId = reservationId;
+            this.deadlineMillis = deadlineMillis;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineMillis, ((Deadline) other).deadlineMillis);
+        }
+    }
+}
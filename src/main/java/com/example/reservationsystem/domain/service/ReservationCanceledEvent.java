@@ -0,0 +1,24 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 좌석/회의실 예약 취소(또는 좌석 선점 만료/해제)로 비게 된 시간대 (대기열 승격에 사용)
+@Getter
+@AllArgsConstructor
+public class ReservationCanceledEvent {
+
+    private final WaitlistResourceType resourceType;
+
+    private final Long resourceId;
+
+    private final LocalDate date;
+
+    private final LocalTime startTime;
+
+    private final LocalTime endTime;
+}
@@ -0,0 +1,105 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.domain.entity.RoomReservation;
+import com.example.reservationsystem.domain.entity.RoomReservationParticipant;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyEngine;
+import com.example.reservationsystem.domain.repository.RoomReservationParticipantRepository;
+import com.example.reservationsystem.domain.repository.RoomReservationRepository;
+import com.example.reservationsystem.domain.repository.SeatReservationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+// 슬롯 테이블(좌석/회의실/학생 슬롯 행) 도입 전에 저장된 예약의 슬롯 행을 기동 시 채운다.
+// - 슬롯 행이 없는 예약만 id 키셋 페이지로 찾아 예약 1건씩 트랜잭션으로 채운다 (이미 채워졌으면 조회 1번으로 끝)
+// - 기존 데이터끼리 이미 겹쳐 유니크 제약에 걸리는 예약은 건너뛰고 로그만 남긴다 (어느 쪽을 살릴지는 운영자가 판단)
+// - RoomOccupancyEngine 은 회의실 슬롯 행으로 재구성하므로 회의실 슬롯을 채웠으면 다시 재구성한다
+@Slf4j
+@Component
+public class ReservationSlotBackfill {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final SeatReservationRepository seatReservationRepository;
+    private final RoomReservationRepository roomReservationRepository;
+    private final RoomReservationParticipantRepository roomReservationParticipantRepository;
+    private final RoomOccupancyEngine roomOccupancyEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationSlotBackfill(
+            SeatReservationRepository seatReservationRepository,
+            RoomReservationRepository roomReservationRepository,
+            RoomReservationParticipantRepository roomReservationParticipantRepository,
+            RoomOccupancyEngine roomOccupancyEngine,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.seatReservationRepository = seatReservationRepository;
+        this.roomReservationRepository = roomReservationRepository;
+        this.roomReservationParticipantRepository = roomReservationParticipantRepository;
+        this.roomOccupancyEngine = roomOccupancyEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void backfill() {
+        int seats = backfill("seat reservation", seatReservationRepository,
+                seatReservationRepository::findIdsWithoutSlots, SeatReservation::backfillSlots);
+        int rooms = backfill("room reservation", roomReservationRepository,
+                roomReservationRepository::findReservedIdsWithoutSlots, RoomReservation::backfillSlots);
+        int participants = backfill("room participant", roomReservationParticipantRepository,
+                roomReservationParticipantRepository::findReservedIdsWithoutSlots, RoomReservationParticipant::backfillSlots);
+
+        if (seats + rooms + participants > 0) {
+            log.info("slot backfill: {} seat reservations, {} room reservations, {} room participants", seats, rooms, participants);
+        }
+        if (rooms > 0) {
+            roomOccupancyEngine.rebuild();
+        }
+    }
+
+    private <T> int backfill(String kind, JpaRepository<T, Long> repository,
+                             IdPage idPage, Predicate<T> fill) {
+        int filled = 0;
+        long afterId = 0;
+        Pageable page = PageRequest.of(0, PAGE_SIZE);
+        List<Long> ids;
+        while (!(ids = idPage.find(afterId, page)).isEmpty()) {
+            for (Long id : ids) {
+                if (fillOne(kind, id, repository, fill)) {
+                    filled++;
+                }
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        return filled;
+    }
+
+    private <T> boolean fillOne(String kind, Long id, JpaRepository<T, Long> repository, Predicate<T> fill) {
+        try {
+            Boolean filled = transactionTemplate.execute(status -> {
+                boolean added = repository.findById(id).map(fill::test).orElse(false);
+                repository.flush();
+                return added;
+            });
+            return Boolean.TRUE.equals(filled);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("slot backfill skipped {} {}: overlaps an existing booking", kind, id, e);
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdPage {
+        List<Long> find(Long afterId, Pageable pageable);
+    }
+}
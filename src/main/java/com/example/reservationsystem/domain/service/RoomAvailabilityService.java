@@ -0,0 +1,155 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.util.StudentIds;
+import com.example.reservationsystem.domain.dto.RoomAvailabilityDto;
+import com.example.reservationsystem.domain.dto.RoomSlotRowDto;
+import com.example.reservationsystem.domain.entity.Student;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.repository.RoomRepository;
+import com.example.reservationsystem.domain.repository.RoomReservationSlotRepository;
+import com.example.reservationsystem.domain.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.*;
+import java.util.*;
+
+// 회의실 빈 시간 검색: 참가자 전원 + 회의실이 모두 비어 있고 참가자 전원이 회의실 한도 안에 있는 후보
+// - 학생 점유: StudentTimeline 좌석/회의실 통합 비트맵 (DB 조회 없음)
+// - 회의실 점유: 기간 내 슬롯 행 1회 조회 → (날짜, 회의실) 비트맵
+// - 한도: 학생 IN 조회 1회, createRoomReservation 과 같은 기준으로 날짜별 남은 시간 계산
+// 후보 시간마다 조회하지 않고 날짜별로 (학생 합집합 | 회의실) 비트맵의 빈 칸에서 시작 가능한 슬롯을 한 번에 구한다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoomAvailabilityService {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+    private static final int MAX_SEARCH_DAYS = 14;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final RoomRepository roomRepository;
+    private final RoomReservationSlotRepository roomReservationSlotRepository;
+    private final StudentRepository studentRepository;
+    private final StudentTimeline studentTimeline;
+
+    public List<RoomAvailabilityDto> search(Long representativeStudentId,
+                                            List<Long> participantStudentIds,
+                                            int duration,
+                                            LocalDate from,
+                                            LocalDate to,
+                                            int size) {
+
+        /* =====================================================
+         * 0) 학번 / 참가자 수 / 검색 조건 검증 (createRoomReservation 과 같은 기준)
+         * ===================================================== */
+        Set<Long> studentIds = new LinkedHashSet<>();
+        studentIds.add(representativeStudentId);
+        if (participantStudentIds != null) {
+            studentIds.addAll(participantStudentIds);
+        }
+        for (Long sid : studentIds) {
+            StudentIds.validate(sid);
+        }
+        if (studentIds.size() < 3) {
+            throw new CustomException(ErrorCode.INVALID_PARTICIPANT_COUNT);
+        }
+        if (duration < 1 || duration > TimeSlots.SLOT_COUNT) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+
+        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDate start = from != null ? from : now.toLocalDate();
+        LocalDate end = to != null ? to : start;
+        if (start.isBefore(now.toLocalDate())
+                || end.isBefore(start)
+                || end.isAfter(start.plusDays(MAX_SEARCH_DAYS - 1))) {
+            throw new CustomException(ErrorCode.INVALID_SEARCH_RANGE);
+        }
+
+        /* =====================================================
+         * 1) 회의실 점유 비트맵 (기간 전체 1회 조회)
+         * ===================================================== */
+        List<Long> roomIds = roomRepository.findAllIds();
+        if (roomIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<LocalDate, Map<Long, Integer>> roomBusy = new HashMap<>();
+        for (RoomSlotRowDto row : roomReservationSlotRepository.findSlotRows(roomIds, start, end)) {
+            roomBusy.computeIfAbsent(row.getDate(), d -> new HashMap<>())
+                    .merge(row.getRoomId(), 1 << row.getSlot(), (a, b) -> a | b);
+        }
+
+        /* =====================================================
+         * 2) 참가자 한도 (없는 학생은 사용량 0)
+         * ===================================================== */
+        List<Student> students = studentRepository.findAllByStudentIdIn(studentIds);
+
+        /* =====================================================
+         * 3) 날짜별: 학생 합집합 비트맵 → 회의실마다 AND → 시작 가능한 슬롯
+         * ===================================================== */
+        List<RoomAvailabilityDto> result = new ArrayList<>();
+
+        for (LocalDate date = start; !date.isAfter(end) && result.size() < size; date = date.plusDays(1)) {
+
+            if (!withinQuota(students, date, duration)) {
+                continue;
+            }
+
+            // 오늘은 이미 시작된 슬롯 제외
+            int busy = date.equals(now.toLocalDate()) ? TimeSlots.mask(TimeSlots.OPEN, now.toLocalTime()) : 0;
+            for (Long sid : studentIds) {
+                busy |= studentTimeline.busyMask(sid, date);
+            }
+            int free = ~busy & TimeSlots.ALL_SLOTS;
+            if (TimeSlots.startSlots(free, duration) == 0) {
+                continue;
+            }
+
+            Map<Long, Integer> roomsOnDate = roomBusy.getOrDefault(date, Collections.emptyMap());
+            int[] startsByRoom = new int[roomIds.size()];
+            int anyStart = 0;
+            for (int i = 0; i < roomIds.size(); i++) {
+                startsByRoom[i] = TimeSlots.startSlots(free & ~roomsOnDate.getOrDefault(roomIds.get(i), 0), duration);
+                anyStart |= startsByRoom[i];
+            }
+
+            // 빠른 시작 시간 → 회의실 id 순
+            for (int slot = 0; slot < TimeSlots.SLOT_COUNT && result.size() < size; slot++) {
+                if ((anyStart & (1 << slot)) == 0) {
+                    continue;
+                }
+                LocalTime startTime = TimeSlots.startOf(slot);
+                for (int i = 0; i < roomIds.size() && result.size() < size; i++) {
+                    if ((startsByRoom[i] & (1 << slot)) != 0) {
+                        result.add(new RoomAvailabilityDto(roomIds.get(i), date, startTime, startTime.plusHours(duration)));
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // createRoomReservation 의 resetIfNeeded + 일일/주간 한도 검사와 같은 계산
+    private static boolean withinQuota(List<Student> students, LocalDate date, int duration) {
+        for (Student s : students) {
+            int daily = RoomReservationService.meetingDailyUsage(s, date);
+            int weekly = RoomReservationService.meetingWeeklyUsage(s, date);
+            if (daily + duration > RoomReservationService.ROOM_DAILY_LIMIT_HOURS
+                    || weekly + duration > RoomReservationService.ROOM_WEEKLY_LIMIT_HOURS) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
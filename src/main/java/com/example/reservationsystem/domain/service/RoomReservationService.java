@@ -2,17 +2,26 @@ package com.example.reservationsystem.domain.service;
 
 import com.example.reservationsystem.common.enums.ErrorCode;
 import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.util.ConstraintViolations;
+import com.example.reservationsystem.common.util.StudentIds;
 import com.example.reservationsystem.domain.dto.*;
 import com.example.reservationsystem.domain.entity.*;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
 import com.example.reservationsystem.domain.repository.RoomRepository;
 import com.example.reservationsystem.domain.repository.RoomReservationParticipantRepository;
 import com.example.reservationsystem.domain.repository.RoomReservationRepository;
-import com.example.reservationsystem.domain.repository.StudentRepository;
+import com.example.reservationsystem.domain.repository.RoomReservationSlotRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
 @Service
@@ -21,14 +30,19 @@ import java.util.*;
 public class RoomReservationService {
 
     private final RoomReservationRepository roomReservationRepository;
-    private final StudentRepository studentRepository;
+    private final StudentService studentService;
     private final RoomRepository roomRepository;
     private final RoomReservationParticipantRepository roomReservationParticipantRepository;
+    private final RoomReservationSlotRepository roomReservationSlotRepository;
+    private final RoomScheduleCache roomScheduleCache;
+    private final StudentTimeline studentTimeline;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final LocalTime OPEN = LocalTime.of(9, 0);
     private static final LocalTime CLOSE = LocalTime.of(18, 0);
-    private static final int ROOM_DAILY_LIMIT_HOURS = 2;
-    private static final int ROOM_WEEKLY_LIMIT_HOURS = 5;
+    static final int ROOM_DAILY_LIMIT_HOURS = 2;
+    static final int ROOM_WEEKLY_LIMIT_HOURS = 5;
+    private static final int MAX_RECURRING_WEEKS = 16;
 
     @Transactional
     public ReservationResponseDto createRoomReservation(ReservationRequestDto req) {
@@ -43,7 +57,7 @@ public class RoomReservationService {
         }
 
         for (Long sid : allStudentIds) {
-            validateStudentId(sid);
+            StudentIds.validate(sid);
         }
 
         /* =====================================================
@@ -53,10 +67,10 @@ public class RoomReservationService {
                 .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
 
         /* =====================================================
-         * 2) 대표자 Student 확보
+         * 2) 대표자 + 참가자 Student 일괄 확보 (IN 조회 1회 + 없는 학생 일괄 저장)
          * ===================================================== */
-        Student representative = studentRepository.findByStudentId(req.getRepresentativeStudentId())
-                .orElseGet(() -> studentRepository.save(Student.of(req.getRepresentativeStudentId())));
+        Map<Long, Student> studentMap = studentService.loadOrCreateAll(allStudentIds);
+        Student representative = studentMap.get(req.getRepresentativeStudentId());
 
         /* =====================================================
          * 3) 종료 시간 계산
@@ -64,14 +78,15 @@ public class RoomReservationService {
         LocalTime endTime = req.getStartTime().plusHours(req.getDuration());
 
         /* =====================================================
-         * 4) 회의실 시간 겹침 검사
+         * 4) 회의실 시간 겹침 검사 (슬롯 행 유니크 인덱스 범위 조회)
          * ===================================================== */
-        boolean hasConflict =
-                roomReservationRepository.existsActiveReservationOverlap(
+        int slotMask = TimeSlots.mask(req.getStartTime(), endTime);
+        boolean hasConflict = slotMask != 0
+                && roomReservationSlotRepository.existsOverlap(
                         req.getRoomId(),
                         req.getDate(),
-                        req.getStartTime(),
-                        endTime
+                        TimeSlots.fromSlot(slotMask),
+                        TimeSlots.toSlot(slotMask)
                 );
 
         if (hasConflict) {
@@ -101,38 +116,22 @@ public class RoomReservationService {
         }
 
         /* =====================================================
-         * 7) 회의실 중복 예약 검증 (RESERVED 기준)
+         * 7) 참가자 시간/한도 검증
          * ===================================================== */
-        if (roomReservationRepository.existsRoomOverlap(
-                room.getId(),
-                req.getDate(),
-                RoomReservationStatus.RESERVED,
-                req.getStartTime(),
-                endTime)) {
-            throw new CustomException(ErrorCode.ROOM_ALREADY_RESERVED);
+        // (A) 개인 일정 겹침 방지: 참가자별 좌석/회의실 통합 타임라인 선점 (DB 조회 없음, 실패/롤백 시 전원 해제)
+        for (Long sid : participantIds) {
+            if (studentTimeline.tryClaim(sid, req.getDate(), StudentTimeline.Kind.ROOM,
+                    req.getStartTime(), endTime) == null) {
+                throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION);
+            }
         }
 
-        /* =====================================================
-         * 8) 참가자 Student 확보 + 시간/한도 검증
-         * ===================================================== */
-        Map<Long, Student> studentMap = new HashMap<>();
-
         for (Long sid : participantIds) {
-            Student stu = studentRepository.findByStudentId(sid)
-                    .orElseGet(() -> studentRepository.save(Student.of(sid)));
+            Student stu = studentMap.get(sid);
 
             // 날짜 변경 시 daily / weekly reset
             stu.resetIfNeeded(req.getDate());
 
-            // (A) 개인 일정 겹침 방지
-            if (roomReservationParticipantRepository.existsStudentOverlap(
-                    sid,
-                    req.getDate(),
-                    req.getStartTime(),
-                    endTime)) {
-                throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION);
-            }
-
             // (B) 일일 / 주간 한도 검증
             if (stu.getMeetingDailyUsedHours() + req.getDuration() > ROOM_DAILY_LIMIT_HOURS) {
                 throw new CustomException(ErrorCode.ROOM_DAILY_LIMIT_EXCEEDED);
@@ -140,43 +139,47 @@ public class RoomReservationService {
             if (stu.getMeetingWeeklyUsedHours() + req.getDuration() > ROOM_WEEKLY_LIMIT_HOURS) {
                 throw new CustomException(ErrorCode.ROOM_WEEKLY_LIMIT_EXCEEDED);
             }
-
-            studentMap.put(sid, stu);
         }
 
         /* =====================================================
-         * 9) 예약 저장
+         * 8) 예약 저장 (동시 예약은 슬롯 행 유니크 제약에서 걸러짐)
          * ===================================================== */
-        RoomReservation saved = roomReservationRepository.save(
-                RoomReservation.of(
-                        room,
-                        representative,
-                        req.getDate(),
-                        req.getStartTime(),
-                        req.getDuration()
-                )
-        );
+        RoomReservation saved;
+        try {
+            saved = roomReservationRepository.saveAndFlush(
+                    RoomReservation.of(
+                            room,
+                            representative,
+                            req.getDate(),
+                            req.getStartTime(),
+                            req.getDuration()
+                    )
+            );
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, RoomReservationSlot.UNIQUE_SLOT)) {
+                throw new CustomException(ErrorCode.ROOM_ALREADY_RESERVED, e);
+            }
+            throw e;
+        }
 
         /* =====================================================
-         * 10) 참가자-예약 매핑 저장
+         * 9) 참가자-예약 매핑 일괄 저장
          * ===================================================== */
-        roomReservationParticipantRepository.save(
-                RoomReservationParticipant.of(saved, representative, true)
-        );
+        List<RoomReservationParticipant> participants = new ArrayList<>();
+        participants.add(RoomReservationParticipant.of(saved, representative, true));
 
         if (req.getParticipantStudentIds() != null) {
             Set<Long> companions = new LinkedHashSet<>(req.getParticipantStudentIds());
             companions.remove(req.getRepresentativeStudentId());
 
             for (Long sid : companions) {
-                roomReservationParticipantRepository.save(
-                        RoomReservationParticipant.of(saved, studentMap.get(sid), false)
-                );
+                participants.add(RoomReservationParticipant.of(saved, studentMap.get(sid), false));
             }
         }
+        saveParticipants(participants);
 
         /* =====================================================
-         * 11) 누적 사용 시간 반영
+         * 10) 누적 사용 시간 반영
          * ===================================================== */
         for (Student stu : studentMap.values()) {
             stu.applyMeetingUsageDelta(req.getDuration());
@@ -185,10 +188,183 @@ public class RoomReservationService {
         return ReservationResponseDto.from(saved);
     }
 
+    //회의실 반복 예약 (startDate 부터 매주 같은 요일/시간, endDate 포함)
+    // - 회차별 회의실 충돌: 기간 슬롯 행 1회 조회 / 한도: 참가자 이용 내역 1회 조회 (회차마다 조회하지 않음)
+    // - 통과한 회차만 예약(+슬롯)/참가자 행을 saveAll 로 일괄 저장 (JDBC 배치), 실패 회차는 에러 코드로 결과에 기록
+    @Transactional
+    public RecurringReservationResponseDto createRecurringRoomReservations(RecurringReservationRequestDto req) {
+
+        /* =====================================================
+         * 0) 학번 검증 + 참가자 수 (대표자 포함 최소 3명)
+         * ===================================================== */
+        Set<Long> participantIds = new LinkedHashSet<>();
+        participantIds.add(req.getRepresentativeStudentId());
+        if (req.getParticipantStudentIds() != null) {
+            participantIds.addAll(req.getParticipantStudentIds());
+        }
+        for (Long sid : participantIds) {
+            StudentIds.validate(sid);
+        }
+        if (participantIds.size() < 3) {
+            throw new CustomException(ErrorCode.INVALID_PARTICIPANT_COUNT);
+        }
+
+        /* =====================================================
+         * 1) 회의실 존재 확인 + 운영 시간 검증
+         * ===================================================== */
+        Room room = roomRepository.findById(req.getRoomId())
+                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+
+        LocalTime endTime = req.getStartTime().plusHours(req.getDuration());
+        if (req.getStartTime().isBefore(OPEN)
+                || endTime.isAfter(CLOSE)
+                || !req.getStartTime().isBefore(endTime)) {
+            throw new CustomException(ErrorCode.OUT_OF_OPERATING_HOURS);
+        }
+        int slotMask = TimeSlots.mask(req.getStartTime(), endTime);
+
+        /* =====================================================
+         * 2) 회차 날짜 (7일 간격, 최대 16회)
+         * ===================================================== */
+        if (req.getStartDate() == null || req.getEndDate() == null || req.getEndDate().isBefore(req.getStartDate())) {
+            throw new CustomException(ErrorCode.INVALID_RECURRENCE);
+        }
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate d = req.getStartDate(); !d.isAfter(req.getEndDate()); d = d.plusWeeks(1)) {
+            if (dates.size() == MAX_RECURRING_WEEKS) {
+                throw new CustomException(ErrorCode.INVALID_RECURRENCE);
+            }
+            dates.add(d);
+        }
+        LocalDate first = dates.get(0);
+        LocalDate last = dates.get(dates.size() - 1);
+
+        /* =====================================================
+         * 3) Student 일괄 확보 (IN 조회 1회 + 없는 학생 일괄 저장)
+         * ===================================================== */
+        Map<Long, Student> studentMap = studentService.loadOrCreateAll(participantIds);
+        Student representative = studentMap.get(req.getRepresentativeStudentId());
+
+        /* =====================================================
+         * 4) 회의실 점유: 기간 슬롯 행 1회 조회 → 날짜별 비트맵
+         * ===================================================== */
+        Map<LocalDate, Integer> roomBusy = new HashMap<>();
+        for (RoomSlotRowDto row : roomReservationSlotRepository.findSlotRows(List.of(room.getId()), first, last)) {
+            roomBusy.merge(row.getDate(), 1 << row.getSlot(), (a, b) -> a | b);
+        }
+
+        /* =====================================================
+         * 5) 참가자 이용 시간: 첫 주 월요일 ~ 마지막 주 일요일 1회 조회 → 학생별 날짜/주 합계
+         * ===================================================== */
+        Map<Long, Map<LocalDate, Integer>> dailyUsed = new HashMap<>();
+        Map<Long, Map<LocalDate, Integer>> weeklyUsed = new HashMap<>();
+        for (MeetingUsageRowDto row : roomReservationParticipantRepository.findMeetingUsage(
+                participantIds, weekStartOf(first), weekStartOf(last).plusDays(6))) {
+            addUsage(dailyUsed, row.getStudentId(), row.getDate(), row.getDuration());
+            addUsage(weeklyUsed, row.getStudentId(), weekStartOf(row.getDate()), row.getDuration());
+        }
+
+        /* =====================================================
+         * 6) 회차별 판정 (회의실 충돌 → 일일/주간 한도 → 참가자 일정 겹침 선점)
+         * ===================================================== */
+        ErrorCode[] failures = new ErrorCode[dates.size()];
+        RoomReservation[] booked = new RoomReservation[dates.size()];
+        List<RoomReservation> reservations = new ArrayList<>();
+
+        for (int i = 0; i < dates.size(); i++) {
+            LocalDate date = dates.get(i);
+            ErrorCode failure = null;
+
+            if ((roomBusy.getOrDefault(date, 0) & slotMask) != 0) {
+                failure = ErrorCode.ROOM_ALREADY_RESERVED;
+            }
+
+            for (Long sid : participantIds) {
+                if (failure != null) {
+                    break;
+                }
+                Student stu = studentMap.get(sid);
+                // 예약 내역 합계와 학생 누적 카운터(취소 패널티 포함) 중 큰 값 기준
+                int daily = Math.max(usageOf(dailyUsed, sid, date), meetingDailyUsage(stu, date));
+                int weekly = Math.max(usageOf(weeklyUsed, sid, weekStartOf(date)), meetingWeeklyUsage(stu, date));
+                if (daily + req.getDuration() > ROOM_DAILY_LIMIT_HOURS) {
+                    failure = ErrorCode.ROOM_DAILY_LIMIT_EXCEEDED;
+                } else if (weekly + req.getDuration() > ROOM_WEEKLY_LIMIT_HOURS) {
+                    failure = ErrorCode.ROOM_WEEKLY_LIMIT_EXCEEDED;
+                }
+            }
+
+            if (failure == null) {
+                // 참가자 타임라인 선점 (한 명이라도 겹치면 이 회차에서 선점한 것만 해제, 트랜잭션 롤백 시 전체 해제)
+                List<StudentTimeline.Hold> holds = new ArrayList<>();
+                for (Long sid : participantIds) {
+                    StudentTimeline.Hold hold = studentTimeline.tryClaim(sid, date, StudentTimeline.Kind.ROOM,
+                            req.getStartTime(), endTime);
+                    if (hold == null) {
+                        holds.forEach(StudentTimeline.Hold::release);
+                        failure = ErrorCode.OVERLAPPING_RESERVATION;
+                        break;
+                    }
+                    holds.add(hold);
+                }
+            }
+
+            if (failure != null) {
+                failures[i] = failure;
+                continue;
+            }
+
+            booked[i] = RoomReservation.of(room, representative, date, req.getStartTime(), req.getDuration());
+            reservations.add(booked[i]);
+            for (Long sid : participantIds) {
+                addUsage(dailyUsed, sid, date, req.getDuration());
+                addUsage(weeklyUsed, sid, weekStartOf(date), req.getDuration());
+            }
+        }
+
+        /* =====================================================
+         * 7) 예약(+슬롯) / 참가자 일괄 저장 (동시 예약과의 경합은 슬롯 행 유니크 제약 → 전체 롤백)
+         * ===================================================== */
+        try {
+            roomReservationRepository.saveAllAndFlush(reservations);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, RoomReservationSlot.UNIQUE_SLOT)) {
+                throw new CustomException(ErrorCode.ROOM_ALREADY_RESERVED, e);
+            }
+            throw e;
+        }
+
+        List<RoomReservationParticipant> participants = new ArrayList<>();
+        for (RoomReservation saved : reservations) {
+            for (Long sid : participantIds) {
+                participants.add(RoomReservationParticipant.of(saved, studentMap.get(sid), sid.equals(req.getRepresentativeStudentId())));
+            }
+        }
+        saveParticipants(participants);
+
+        /* =====================================================
+         * 8) 누적 사용 시간 반영 (단건 예약을 회차 순서대로 한 것과 같은 카운터 상태)
+         * ===================================================== */
+        List<RecurringOccurrenceDto> results = new ArrayList<>();
+        for (int i = 0; i < dates.size(); i++) {
+            if (booked[i] == null) {
+                results.add(RecurringOccurrenceDto.failed(dates.get(i), failures[i]));
+                continue;
+            }
+            for (Student stu : studentMap.values()) {
+                stu.resetIfNeeded(dates.get(i));
+                stu.applyMeetingUsageDelta(req.getDuration());
+            }
+            results.add(RecurringOccurrenceDto.reserved(dates.get(i), booked[i].getId()));
+        }
+
+        return new RecurringReservationResponseDto(reservations.size(), results);
+    }
+
     //리스트 형식으로 전체조회
     @Transactional(readOnly = true)
     public List<ReservationDetailDto> getReservationsByStudentId(Long studentId) {
-        validateStudentId(studentId);
+        StudentIds.validate(studentId);
 
         List<RoomReservation> reservations =
                 roomReservationParticipantRepository.findReservationsByStudentId(studentId);
@@ -202,46 +378,70 @@ public class RoomReservationService {
                 .toList();
     }
 
-    //회의실 조회 리스트
+    //내 회의실 예약 페이지 조회 (키셋 커서, 다가오는 예약 / 지난 예약)
     @Transactional(readOnly = true)
-    public List<RoomScheduleDto> getRoomSchedules(LocalDate date) {
+    public CursorPageDto<ReservationDetailDto> getReservationsByStudentId(
+            Long studentId, ReservationScope scope, String cursor, int size) {
 
-        // 전체 회의실 조회
-        List<Room> rooms = roomRepository.findAll();
+        StudentIds.validate(studentId);
+        Pageable limit = CursorPageDto.fetchLimit(size);
+        ReservationCursor after = ReservationCursor.decode(cursor);
 
-        List<RoomScheduleDto> result = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDate cursorDate = after == null ? null : after.getDate();
+        LocalTime cursorTime = after == null ? null : after.getStartTime();
+        Long cursorId = after == null ? null : after.getId();
 
-        for (Room room : rooms) {
+        List<ReservationDetailDto> rows = scope == ReservationScope.PAST
+                ? roomReservationParticipantRepository.findPastPage(studentId, now.toLocalDate(), now.toLocalTime(),
+                        cursorDate, cursorTime, cursorId, limit)
+                : roomReservationParticipantRepository.findUpcomingPage(studentId, now.toLocalDate(), now.toLocalTime(),
+                        cursorDate, cursorTime, cursorId, limit);
 
-            // 해당 회의실 + 날짜의 예약들 가져오기
-            List<RoomReservation> reservations =
-                    roomReservationRepository.findByRoom_IdAndDate(room.getId(), date);
+        return CursorPageDto.of(rows, size, ReservationDetailDto::cursor);
+    }
 
-            // 시간 정보 DTO로 변환
-            List<RoomReservationTimeDto> reservationDtos = reservations.stream()
-                    .map(r -> new RoomReservationTimeDto(
-                            r.getId(),
-                            r.getStartTime(),
-                            r.getEndTime(),
-                            r.getLeaderStudentId()
-                    ))
-                    .toList();
+    //회의실 조회 리스트 (날짜별 캐시, 캐시 미스 시 projection 쿼리 1회)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<RoomScheduleDto> getRoomSchedules(LocalDate date) {
+        return roomScheduleCache.get(date, () -> loadRoomSchedules(date));
+    }
+
+    private List<RoomScheduleDto> loadRoomSchedules(LocalDate date) {
 
-            // 회의실 일정표 DTO 생성
-            result.add(new RoomScheduleDto(
-                    room.getId(),
-                    reservationDtos
-            ));
+        // 회의실 + 해당 날짜 예약을 한 번에 조회 (회의실 id, 시작 시간 순)
+        List<RoomScheduleRowDto> rows = roomRepository.findScheduleRows(date);
+
+        List<RoomScheduleDto> result = new ArrayList<>();
+        Long currentRoomId = null;
+        List<RoomReservationTimeDto> reservationDtos = null;
+
+        for (RoomScheduleRowDto row : rows) {
+            if (!row.getRoomId().equals(currentRoomId)) {
+                currentRoomId = row.getRoomId();
+                reservationDtos = new ArrayList<>();
+                result.add(new RoomScheduleDto(currentRoomId, Collections.unmodifiableList(reservationDtos)));
+            }
+            // 예약이 없는 회의실은 left join 결과 reservationId 가 null
+            if (row.getReservationId() != null) {
+                reservationDtos.add(new RoomReservationTimeDto(
+                        row.getReservationId(),
+                        row.getStartTime(),
+                        row.getEndTime(),
+                        row.getLeaderStudentId(),
+                        row.getStatus()
+                ));
+            }
         }
 
-        return result;
+        return Collections.unmodifiableList(result);
     }
 
     //회의실에서 예약 취소 업데이트
     @Transactional
     public void cancelMeetingReservation(Long reservationId, Long studentId) {
 
-        validateStudentId(studentId);
+        StudentIds.validate(studentId);
 
         //예약이 있는지 확인.
         RoomReservation reservation = roomReservationRepository.findById(reservationId)
@@ -250,7 +450,8 @@ public class RoomReservationService {
         // 이미 취소된 예약이면 방어
         if (reservation.getStatus() == RoomReservationStatus.CANCELED
                 || reservation.getStatus() == RoomReservationStatus.CANCELED_REFUND
-                || reservation.getStatus() == RoomReservationStatus.CANCELED_PENALTY) {
+                || reservation.getStatus() == RoomReservationStatus.CANCELED_PENALTY
+                || reservation.getStatus() == RoomReservationStatus.NO_SHOW) {
             throw new CustomException(ErrorCode.ALREADY_CANCELED_RESERVATION);
         }
 
@@ -297,8 +498,13 @@ public class RoomReservationService {
         for (RoomReservationParticipant p : participants) {
             Student s = p.getStudent();
 
+            // 취소가 커밋되면 참가자 타임라인에서 회의실 슬롯 해제
+            studentTimeline.vacateAfterCommit(s.getStudentId(), reservation.getDate(),
+                    StudentTimeline.Kind.ROOM, reservation.getStartTime(), reservation.getEndTime());
+
             resetMeetingUsageIfNeeded(s, today, weekStart);
             s.applyMeetingUsageDelta(delta);
+            p.releaseSlots();
         }
 
         reservation.cancel(
@@ -306,18 +512,49 @@ public class RoomReservationService {
                         ? RoomReservationStatus.CANCELED_REFUND
                         : RoomReservationStatus.CANCELED_PENALTY
         );
+
+        // 커밋 후 빈 시간대를 대기열에 넘긴다 (WaitlistPromoter, 비동기)
+        eventPublisher.publishEvent(new ReservationCanceledEvent(
+                WaitlistResourceType.ROOM,
+                reservation.getRoom().getId(),
+                reservation.getDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime()));
     }
 
-    private void validateStudentId(Long studentId) {
-        if (studentId == null) {
-            throw new CustomException(ErrorCode.INVALID_STUDENT_ID);
-        }
-        // 하드코딩 무효 학번
-        if (studentId == 202099999L || studentId == 202288888L) {
-            throw new CustomException(ErrorCode.INVALID_STUDENT_ID);
+    // 참가자(+학생 슬롯 행) 일괄 저장. 메모리 타임라인을 거치지 않은 겹침은 학생 슬롯 유니크 제약에서 걸러짐
+    private void saveParticipants(List<RoomReservationParticipant> participants) {
+        try {
+            roomReservationParticipantRepository.saveAllAndFlush(participants);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, StudentReservationSlot.UNIQUE_SLOT)) {
+                throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION, e);
+            }
+            throw e;
         }
     }
 
+    // Student 누적 카운터 기준 회의실 사용량 (createRoomReservation 의 resetIfNeeded 와 같은 기준: 같은 날짜/주일 때만 유효)
+    static int meetingDailyUsage(Student s, LocalDate date) {
+        return date.equals(s.getUsageDate()) ? s.getMeetingDailyUsedHours() : 0;
+    }
+
+    static int meetingWeeklyUsage(Student s, LocalDate date) {
+        return weekStartOf(date).equals(s.getUsageWeekStart()) ? s.getMeetingWeeklyUsedHours() : 0;
+    }
+
+    private static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static void addUsage(Map<Long, Map<LocalDate, Integer>> usage, Long studentId, LocalDate key, int hours) {
+        usage.computeIfAbsent(studentId, k -> new HashMap<>()).merge(key, hours, Integer::sum);
+    }
+
+    private static int usageOf(Map<Long, Map<LocalDate, Integer>> usage, Long studentId, LocalDate key) {
+        return usage.getOrDefault(studentId, Collections.emptyMap()).getOrDefault(key, 0);
+    }
+
     private void resetMeetingUsageIfNeeded(Student s,
                                            LocalDate today,
                                            LocalDate weekStart) {
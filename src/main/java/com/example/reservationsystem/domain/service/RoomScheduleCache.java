@@ -0,0 +1,56 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.domain.dto.RoomScheduleDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 날짜별 회의실 일정표 캐시
+// - 예약 생성/취소(RoomScheduleCacheListener)가 커밋되면 해당 날짜를 무효화
+// - 조회 도중 무효화가 끼어들면 세대(generation) 값이 바뀌므로 오래된 결과를 캐시에 넣지 않는다
+@Component
+public class RoomScheduleCache {
+
+    private static final int MAX_DATES = 90;
+
+    private final ConcurrentMap<LocalDate, List<RoomScheduleDto>> schedules = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LocalDate, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public List<RoomScheduleDto> get(LocalDate date, Supplier<List<RoomScheduleDto>> loader) {
+        List<RoomScheduleDto> cached = schedules.get(date);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = stamp(date);
+        List<RoomScheduleDto> loaded = loader.get();
+
+        if (schedules.size() >= MAX_DATES) {
+            schedules.clear();
+        }
+        schedules.compute(date, (d, current) -> stamp(d) == stamp ? loaded : current);
+        return loaded;
+    }
+
+    public void evict(LocalDate date) {
+        generations.merge(date, 1L, Long::sum);
+        schedules.remove(date);
+    }
+
+    // 회의실 자체가 추가/삭제된 경우
+    public void evictAll() {
+        epoch.incrementAndGet();
+        schedules.clear();
+    }
+
+    // 두 값 모두 증가만 하므로 합이 같으면 둘 다 변하지 않은 것
+    private long stamp(LocalDate date) {
+        return epoch.get() + generations.getOrDefault(date, 0L);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.util.TransactionCallbacks;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.RoomReservation;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// 회의실 예약 생성/상태 변경(취소)/삭제, 회의실 추가/삭제가 커밋되면 일정표 캐시를 무효화한다.
+@Component
+@RequiredArgsConstructor
+public class RoomScheduleCacheListener {
+
+    private final ObjectProvider<RoomScheduleCache> cache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof RoomReservation reservation) {
+            LocalDate date = reservation.getDate();
+            TransactionCallbacks.afterCommit(() -> cache.getObject().evict(date));
+        } else if (entity instanceof Room) {
+            TransactionCallbacks.afterCommit(() -> cache.getObject().evictAll());
+        }
+    }
+}
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Builder
 @Service
 @RequiredArgsConstructor
@@ -19,8 +21,10 @@ public class RoomService {
 
         if (roomRepository.count() > 0) return;
 
-        roomRepository.save(Room.builder().build());
-        roomRepository.save(Room.builder().build());
-        roomRepository.save(Room.builder().build());
+        roomRepository.saveAll(List.of(
+                Room.builder().build(),
+                Room.builder().build(),
+                Room.builder().build()
+        ));
     }
 }
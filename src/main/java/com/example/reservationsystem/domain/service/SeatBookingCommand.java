@@ -0,0 +1,14 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 일괄 처리 대상 좌석 예약 요청 (random = 랜덤 좌석 예약)
+@Getter
+@RequiredArgsConstructor
+public class SeatBookingCommand {
+
+    private final SeatReservationRequestDto request;
+    private final boolean random;
+}
@@ -0,0 +1,14 @@
+package com.example.reservationsystem.domain.service;
+
+// 좌석 예약 생성 실행 방식 (reservation.seat.booking-mode)
+public enum SeatBookingMode {
+
+    // 요청마다 트랜잭션 하나 (기본값)
+    TRANSACTIONAL,
+
+    // 동시에 들어온 요청을 writer 스레드 하나가 모아 한 트랜잭션으로 저장
+    PIPELINE,
+
+    // 좌석 구간별 단일 스레드(가상 스레드) 파티션이 선점을 판정하고, 저장은 뒤에서 비동기로
+    PARTITIONED
+}
@@ -0,0 +1,37 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.BaseCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatResponseDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 일괄 처리 결과 한 건: 성공 응답 또는 에러 코드
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SeatBookingOutcome {
+
+    private final SeatResponseDto response;
+    private final BaseCode errorCode;
+
+    public static SeatBookingOutcome success(SeatResponseDto response) {
+        return new SeatBookingOutcome(response, null);
+    }
+
+    public static SeatBookingOutcome failure(BaseCode errorCode) {
+        return new SeatBookingOutcome(null, errorCode);
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+
+    // 성공이면 응답, 실패면 단건 처리와 같은 CustomException
+    public SeatResponseDto getOrThrow() {
+        if (errorCode != null) {
+            throw new CustomException(errorCode);
+        }
+        return response;
+    }
+}
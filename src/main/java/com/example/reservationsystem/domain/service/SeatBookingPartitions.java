@@ -0,0 +1,224 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// 좌석 구간 파티션 (booking-mode=PARTITIONED 일 때만 시작)
+// - 좌석 1~70 을 partitions 개 구간으로 나누고, 구간마다 메일박스 + 가상 스레드 하나가 이 경로의 선점 판정을 맡는다
+//   → 이 경로로 들어온 같은 구간 요청끼리는 도착 순서대로 하나씩 판정되어 서로 CAS 재시도를 하지 않는다
+// - 파티션이 좌석 상태를 독점 소유하지는 않는다 (단일 소유 액터 모델을 이 구조에 맞춘 변형).
+//   좌석 비트맵은 SeatOccupancyEngine 하나를 다른 경로(홀드 확정, 취소/노쇼 해제, 커밋 후 리스너, 롤백 해제)와 함께 쓰므로
+//   파티션 안에서도 선점은 엔진 CAS 로 하고, 최종 중복 방지는 좌석 슬롯 행 유니크 제약이 맡는다
+// - 지정 좌석은 seatId 로, 랜덤 좌석은 해당 시간대 빈 좌석이 가장 많은 구간부터 보낸다
+// - 판정 직후 파티션은 다음 메시지로 넘어가고, 저장(한도/겹침 검증 포함)은 별도 가상 스레드에서 진행
+//   저장이 실패하면 선점 해제도 소유 파티션에 메시지로 맡긴다
+@Slf4j
+@Component
+public class SeatBookingPartitions {
+
+    private final SeatReservationService seatReservationService;
+    private final SeatOccupancyEngine seatOccupancyEngine;
+    private final boolean enabled;
+    private final int partitionCount;
+
+    private final List<Partition> partitions = new ArrayList<>();
+    private ExecutorService persisters;
+    private volatile boolean running;
+
+    public SeatBookingPartitions(
+            SeatReservationService seatReservationService,
+            SeatOccupancyEngine seatOccupancyEngine,
+            @Value("${reservation.seat.booking-mode:TRANSACTIONAL}") SeatBookingMode mode,
+            @Value("${reservation.seat.partitions:7}") int partitionCount
+    ) {
+        this.seatReservationService = seatReservationService;
+        this.seatOccupancyEngine = seatOccupancyEngine;
+        this.enabled = mode == SeatBookingMode.PARTITIONED;
+        this.partitionCount = Math.max(1, Math.min(partitionCount, SeatOccupancyEngine.SEAT_COUNT));
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        persisters = Executors.newVirtualThreadPerTaskExecutor();
+        int size = (SeatOccupancyEngine.SEAT_COUNT + partitionCount - 1) / partitionCount;
+        for (int from = 1, i = 0; from <= SeatOccupancyEngine.SEAT_COUNT; from += size, i++) {
+            Partition p = new Partition(from, Math.min(from + size - 1, SeatOccupancyEngine.SEAT_COUNT));
+            p.thread = Thread.ofVirtual().name("seat-partition-" + i).start(p::run);
+            partitions.add(p);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        partitions.forEach(p -> p.thread.interrupt());
+        if (persisters != null) {
+            persisters.shutdown();
+        }
+    }
+
+    public CompletableFuture<SeatBookingOutcome> submit(SeatReservationRequestDto req, boolean random) {
+        if (!running) {
+            throw new IllegalStateException("seat booking partitions are not running");
+        }
+        CompletableFuture<SeatBookingOutcome> result = new CompletableFuture<>();
+
+        // 입력 검증은 파티션에 넣기 전에 (DB 조회 없음)
+        LocalTime end;
+        try {
+            end = seatReservationService.validateBooking(new SeatBookingCommand(req, random));
+        } catch (CustomException e) {
+            result.complete(SeatBookingOutcome.failure(e.getErrorCode()));
+            return result;
+        }
+
+        if (!random) {
+            Partition owner = partitionOf(req.getSeatId());
+            owner.tell(result, () -> claimSeat(owner, req, end, result));
+            return result;
+        }
+
+        // 빈 좌석 수는 한 번만 세어 두고 그 값으로 정렬한다 (정렬 중 다시 세면 비교 결과가 흔들린다)
+        List<FreeCount> counts = new ArrayList<>();
+        for (Partition p : partitions) {
+            int free = seatOccupancyEngine.freeSeatCount(req.getDate(), req.getStartTime(), end, p.fromSeat, p.toSeat);
+            if (free > 0) {
+                counts.add(new FreeCount(p, free));
+            }
+        }
+        counts.sort(Comparator.comparingInt(FreeCount::free).reversed());
+        List<Partition> order = counts.stream().map(FreeCount::partition).toList();
+        claimRandomIn(order, 0, req, end, result);
+        return result;
+    }
+
+    // 파티션 스레드에서 실행
+    private void claimSeat(Partition owner, SeatReservationRequestDto req, LocalTime end,
+                           CompletableFuture<SeatBookingOutcome> result) {
+        if (!seatOccupancyEngine.tryClaim(req.getDate(), req.getSeatId(), req.getStartTime(), end)) {
+            result.complete(SeatBookingOutcome.failure(ErrorCode.SEAT_ALREADY_RESERVED));
+            return;
+        }
+        persist(owner, req, req.getSeatId(), end, result);
+    }
+
+    // order[index] 파티션에서 랜덤 선점, 그 사이 구간이 다 찼으면 다음으로 빈 좌석이 많은 구간으로 넘긴다
+    private void claimRandomIn(List<Partition> order, int index, SeatReservationRequestDto req, LocalTime end,
+                               CompletableFuture<SeatBookingOutcome> result) {
+        if (index >= order.size()) {
+            result.complete(SeatBookingOutcome.failure(ErrorCode.NO_AVAILABLE_SEATS));
+            return;
+        }
+        Partition p = order.get(index);
+        p.tell(result, () -> {
+            long seatId = seatOccupancyEngine.claimRandom(req.getDate(), req.getStartTime(), end, p.fromSeat, p.toSeat);
+            if (seatId == 0) {
+                claimRandomIn(order, index + 1, req, end, result);
+                return;
+            }
+            persist(p, req, seatId, end, result);
+        });
+    }
+
+    private void persist(Partition owner, SeatReservationRequestDto req, long seatId, LocalTime end,
+                         CompletableFuture<SeatBookingOutcome> result) {
+        persisters.execute(() -> {
+            try {
+                result.complete(SeatBookingOutcome.success(
+                        seatReservationService.persistClaimedSeatReservation(req, seatId)));
+            } catch (CustomException e) {
+                release(owner, req.getDate(), seatId, req.getStartTime(), end);
+                result.complete(SeatBookingOutcome.failure(e.getErrorCode()));
+            } catch (RuntimeException e) {
+                log.warn("seat reservation persist failed: seatId={}, date={}", seatId, req.getDate(), e);
+                release(owner, req.getDate(), seatId, req.getStartTime(), end);
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void release(Partition owner, LocalDate date, long seatId, LocalTime start, LocalTime end) {
+        owner.tell(null, () -> seatOccupancyEngine.vacate(date, seatId, start, end));
+    }
+
+    private Partition partitionOf(long seatId) {
+        for (Partition p : partitions) {
+            if (seatId <= p.toSeat) {
+                return p;
+            }
+        }
+        return partitions.get(partitions.size() - 1);
+    }
+
+    private record FreeCount(Partition partition, int free) {
+    }
+
+    private final class Partition {
+
+        private final int fromSeat;
+        private final int toSeat;
+        private final LinkedBlockingQueue<Message> mailbox = new LinkedBlockingQueue<>();
+        private Thread thread;
+
+        private Partition(int fromSeat, int toSeat) {
+            this.fromSeat = fromSeat;
+            this.toSeat = toSeat;
+        }
+
+        // result 가 있으면 처리 중 예외를 호출자에게 전달한다
+        private void tell(CompletableFuture<SeatBookingOutcome> result, Runnable action) {
+            mailbox.add(new Message(result, action));
+        }
+
+        private void run() {
+            while (running) {
+                Message message;
+                try {
+                    message = mailbox.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    message.action.run();
+                } catch (RuntimeException e) {
+                    log.error("seat partition {}-{} message failed", fromSeat, toSeat, e);
+                    if (message.result != null) {
+                        message.result.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Message {
+
+        private final CompletableFuture<SeatBookingOutcome> result;
+        private final Runnable action;
+
+        private Message(CompletableFuture<SeatBookingOutcome> result, Runnable action) {
+            this.result = result;
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 그룹 커밋 파이프라인 (booking-mode=PIPELINE 일 때만 writer 스레드 시작)
+// - 요청은 큐에 쌓이고, writer 하나가 window 동안(또는 max-batch 건까지) 모아 한 트랜잭션으로 처리
+// - 요청별 결과로 각자의 CompletableFuture 를 완료한다
+// - 배치 전체가 실패하면(슬롯 경합 등) 같은 요청들을 단건 트랜잭션 경로로 다시 처리
+@Slf4j
+@Component
+public class SeatBookingPipeline {
+
+    private final SeatReservationService seatReservationService;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatch;
+
+    private final LinkedBlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private Thread writer;
+    private volatile boolean running;
+
+    public SeatBookingPipeline(
+            SeatReservationService seatReservationService,
+            @Value("${reservation.seat.booking-mode:TRANSACTIONAL}") SeatBookingMode mode,
+            @Value("${reservation.seat.pipeline.window:PT0.002S}") Duration window,
+            @Value("${reservation.seat.pipeline.max-batch:64}") int maxBatch
+    ) {
+        this.seatReservationService = seatReservationService;
+        this.enabled = mode == SeatBookingMode.PIPELINE;
+        this.windowNanos = window.toNanos();
+        this.maxBatch = maxBatch;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "seat-booking-pipeline");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+        }
+    }
+
+    public CompletableFuture<SeatBookingOutcome> submit(SeatReservationRequestDto request, boolean random) {
+        if (!running) {
+            throw new IllegalStateException("seat booking pipeline is not running");
+        }
+        Pending pending = new Pending(new SeatBookingCommand(request, random));
+        queue.add(pending);
+        return pending.result;
+    }
+
+    private void runWriter() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        // 종료 시 남은 요청은 단건 경로로 처리
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(this::processOne);
+    }
+
+    private void process(List<Pending> batch) {
+        List<SeatBookingCommand> commands = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            commands.add(p.command);
+        }
+
+        List<SeatBookingOutcome> outcomes;
+        try {
+            outcomes = seatReservationService.createSeatReservations(commands);
+        } catch (RuntimeException e) {
+            log.warn("seat booking batch of {} rolled back, retrying one by one: {}", batch.size(), e.toString());
+            batch.forEach(this::processOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(outcomes.get(i));
+        }
+    }
+
+    private void processOne(Pending pending) {
+        SeatReservationRequestDto req = pending.command.getRequest();
+        try {
+            pending.result.complete(SeatBookingOutcome.success(pending.command.isRandom()
+                    ? seatReservationService.createRandomSeatReservation(req)
+                    : seatReservationService.createSeatReservation(req)));
+        } catch (CustomException e) {
+            pending.result.complete(SeatBookingOutcome.failure(e.getErrorCode()));
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private static final class Pending {
+
+        private final SeatBookingCommand command;
+        private final CompletableFuture<SeatBookingOutcome> result = new CompletableFuture<>();
+
+        private Pending(SeatBookingCommand command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.util.HashedTimingWheel;
+import com.example.reservationsystem.common.util.StudentIds;
+import com.example.reservationsystem.domain.dto.SeatHoldDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatResponseDto;
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 좌석 2단계 예약: 선점(hold) → 확정(confirm)
+// - 선점은 SeatOccupancyEngine 비트맵에만 슬롯을 잡는다 (DB 작업 없음) → /availability, 랜덤 배정, 다른 학생의 지정 예약에서 바로 제외
+// - 확정은 이미 잡아 둔 슬롯으로 persistClaimedSeatReservation (한도/일정 겹침 검사 + 저장)
+// - 만료는 해시 타이밍 휠 워커 1개가 처리하고, 해제된 시간대는 예약 대기열에 넘긴다
+// - 학생당 동시에 1개만 선점 가능 (좌석 사재기 방지)
+// 선점은 인메모리 상태이므로 재기동(rebuild) 시 사라진다.
+@Service
+public class SeatHoldService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final SeatOccupancyEngine seatOccupancyEngine;
+    private final StudentTimeline studentTimeline;
+    private final SeatReservationService seatReservationService;
+    private final ConflictAlternativesService conflictAlternativesService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+    private final HashedTimingWheel wheel;
+
+    private final ConcurrentMap<String, Hold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> holdIdByStudent = new ConcurrentHashMap<>();
+
+    public SeatHoldService(
+            SeatOccupancyEngine seatOccupancyEngine,
+            StudentTimeline studentTimeline,
+            SeatReservationService seatReservationService,
+            ConflictAlternativesService conflictAlternativesService,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.seat.hold.ttl:PT2M}") Duration ttl,
+            @Value("${reservation.seat.hold.tick:PT1S}") Duration tick,
+            @Value("${reservation.seat.hold.wheel-size:128}") int wheelSize
+    ) {
+        this.seatOccupancyEngine = seatOccupancyEngine;
+        this.studentTimeline = studentTimeline;
+        this.seatReservationService = seatReservationService;
+        this.conflictAlternativesService = conflictAlternativesService;
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+        this.wheel = new HashedTimingWheel("seat-hold-expiry", tick, wheelSize);
+
+        Gauge.builder("reservation.seat.holds.active", holds, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        wheel.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        wheel.stop();
+    }
+
+    public SeatHoldDto hold(SeatReservationRequestDto req) {
+
+        // 1) 입력 검증 (createSeatReservation 과 같은 기준)
+        StudentIds.validate(req.getStudentId());
+        if (req.getSeatId() == null || req.getSeatId() < 1 || req.getSeatId() > SeatOccupancyEngine.SEAT_COUNT) {
+            throw new CustomException(ErrorCode.INVALID_SEAT_ID);
+        }
+        if (req.getDate() == null || req.getStartTime() == null) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+        int duration = req.getDurationHours();
+        if (duration != 1 && duration != 2) {
+            throw new CustomException(ErrorCode.INVALID_DURATION_HOURS);
+        }
+        LocalTime endTime = req.getStartTime().plusHours(duration);
+        if (req.getStartTime().isBefore(TimeSlots.OPEN) ||
+                endTime.isAfter(TimeSlots.CLOSE) ||
+                !req.getStartTime().isBefore(endTime)) {
+            throw new CustomException(ErrorCode.OUT_OF_OPERATING_HOURS1);
+        }
+        LocalDateTime now = LocalDateTime.now(KST);
+        if (!LocalDateTime.of(req.getDate(), req.getStartTime()).isAfter(now)) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+
+        // 2) 내 일정과 겹치면 확정해도 실패하므로 선점하지 않는다 (타임라인 조회만, 선점은 확정 시)
+        if ((studentTimeline.busyMask(req.getStudentId(), req.getDate())
+                & TimeSlots.mask(req.getStartTime(), endTime)) != 0) {
+            throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION);
+        }
+
+        // 3) 학생당 1개
+        String holdId = UUID.randomUUID().toString();
+        if (holdIdByStudent.putIfAbsent(req.getStudentId(), holdId) != null) {
+            throw new CustomException(ErrorCode.SEAT_HOLD_LIMIT_EXCEEDED);
+        }
+
+        // 4) 좌석 슬롯 선점 (트랜잭션 밖이므로 만료/해제/확정 실패 시 직접 해제)
+        if (!seatOccupancyEngine.tryClaim(req.getDate(), req.getSeatId(), req.getStartTime(), endTime)) {
+            holdIdByStudent.remove(req.getStudentId(), holdId);
+            throw conflictAlternativesService.withSeatAlternatives(
+                    new CustomException(ErrorCode.SEAT_ALREADY_RESERVED), req);
+        }
+
+        Hold hold = new Hold(holdId, req, now.plus(ttl));
+        hold.timeout = wheel.schedule(() -> expire(hold), ttl);
+        holds.put(holdId, hold);
+        if (!hold.active.get()) {
+            // 등록 전에 이미 만료됨 (ttl 이 틱보다 짧은 경우)
+            holds.remove(holdId, hold);
+        }
+
+        return new SeatHoldDto(holdId, req.getSeatId(), req.getDate(), req.getStartTime(), endTime, hold.expiresAt);
+    }
+
+    // 선점을 예약으로 확정한다. 한도/일정 검사에 실패하면 선점도 해제된다.
+    public SeatResponseDto confirm(String holdId, Long studentId) {
+        Hold hold = take(holdId, studentId);
+        hold.timeout.cancel();
+        try {
+            return seatReservationService.persistClaimedSeatReservation(hold.request, hold.request.getSeatId());
+        } catch (RuntimeException e) {
+            vacate(hold);
+            throw e;
+        }
+    }
+
+    public void release(String holdId, Long studentId) {
+        Hold hold = take(holdId, studentId);
+        hold.timeout.cancel();
+        vacate(hold);
+    }
+
+    // 타이밍 휠 워커에서 실행
+    private void expire(Hold hold) {
+        if (finish(hold)) {
+            vacate(hold);
+        }
+    }
+
+    // 본인의 살아 있는 선점을 가져온다 (만료/확정과 경합하면 먼저 끝낸 쪽만 성공)
+    private Hold take(String holdId, Long studentId) {
+        Hold hold = holdId == null ? null : holds.get(holdId);
+        if (hold == null || !hold.request.getStudentId().equals(studentId) || !finish(hold)) {
+            throw new CustomException(ErrorCode.SEAT_HOLD_NOT_FOUND);
+        }
+        return hold;
+    }
+
+    private boolean finish(Hold hold) {
+        if (!hold.active.compareAndSet(true, false)) {
+            return false;
+        }
+        holds.remove(hold.id, hold);
+        holdIdByStudent.remove(hold.request.getStudentId(), hold.id);
+        return true;
+    }
+
+    // 슬롯을 돌려주고 빈 시간대를 예약 대기열에 알린다
+    private void vacate(Hold hold) {
+        SeatReservationRequestDto req = hold.request;
+        LocalTime endTime = req.getStartTime().plusHours(req.getDurationHours());
+        seatOccupancyEngine.vacate(req.getDate(), req.getSeatId(), req.getStartTime(), endTime);
+        eventPublisher.publishEvent(new ReservationCanceledEvent(
+                WaitlistResourceType.SEAT, req.getSeatId(), req.getDate(), req.getStartTime(), endTime));
+    }
+
+    private static final class Hold {
+
+        private final String id;
+        private final SeatReservationRequestDto request;
+        private final LocalDateTime expiresAt;
+        private final AtomicBoolean active = new AtomicBoolean(true);
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        private Hold(String id, SeatReservationRequestDto request, LocalDateTime expiresAt) {
+            this.id = id;
+            this.request = request;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 좌석 예약 생성 진입점: reservation.seat.booking-mode 에 따라 실행 방식을 고른다.
+// 어떤 방식이든 결과/에러 코드는 SeatReservationService 단건 호출과 같다.
+// 지정 좌석 충돌(SEAT_ALREADY_RESERVED)은 처리가 끝난(롤백된) 뒤 대안 시간대를 붙여 다시 던진다.
+// 파이프라인/파티션 결과는 await-timeout 까지만 기다린다. 초과 시 503 이지만 작업은 계속되므로 커밋될 수 있다.
+@Component
+public class SeatReservationDispatcher {
+
+    private final SeatReservationService seatReservationService;
+    private final SeatBookingPipeline seatBookingPipeline;
+    private final SeatBookingPartitions seatBookingPartitions;
+    private final ConflictAlternativesService conflictAlternativesService;
+    private final SeatBookingMode mode;
+    private final Duration awaitTimeout;
+
+    public SeatReservationDispatcher(
+            SeatReservationService seatReservationService,
+            SeatBookingPipeline seatBookingPipeline,
+            SeatBookingPartitions seatBookingPartitions,
+            ConflictAlternativesService conflictAlternativesService,
+            @Value("${reservation.seat.booking-mode:TRANSACTIONAL}") SeatBookingMode mode,
+            @Value("${reservation.seat.await-timeout:PT5S}") Duration awaitTimeout
+    ) {
+        this.seatReservationService = seatReservationService;
+        this.seatBookingPipeline = seatBookingPipeline;
+        this.seatBookingPartitions = seatBookingPartitions;
+        this.conflictAlternativesService = conflictAlternativesService;
+        this.mode = mode;
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    public SeatResponseDto createSeatReservation(SeatReservationRequestDto req) {
+        try {
+            return switch (mode) {
+                case TRANSACTIONAL -> seatReservationService.createSeatReservation(req);
+                case PIPELINE -> await(seatBookingPipeline.submit(req, false));
+                case PARTITIONED -> await(seatBookingPartitions.submit(req, false));
+            };
+        } catch (CustomException e) {
+            throw conflictAlternativesService.withSeatAlternatives(e, req);
+        }
+    }
+
+    public SeatResponseDto createRandomSeatReservation(SeatReservationRequestDto req) {
+        return switch (mode) {
+            case TRANSACTIONAL -> seatReservationService.createRandomSeatReservation(req);
+            case PIPELINE -> await(seatBookingPipeline.submit(req, true));
+            case PARTITIONED -> await(seatBookingPartitions.submit(req, true));
+        };
+    }
+
+    private SeatResponseDto await(CompletableFuture<SeatBookingOutcome> future) {
+        SeatBookingOutcome outcome;
+        try {
+            outcome = future.get(awaitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.SEAT_BOOKING_TIMEOUT, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SEAT_BOOKING_TIMEOUT, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return outcome.getOrThrow();
+    }
+}
@@ -2,24 +2,37 @@ package com.example.reservationsystem.domain.service;
 
 import com.example.reservationsystem.common.enums.ErrorCode;
 import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.util.ConstraintViolations;
+import com.example.reservationsystem.common.util.StudentIds;
+import com.example.reservationsystem.domain.dto.CursorPageDto;
+import com.example.reservationsystem.domain.dto.ReservationCursor;
+import com.example.reservationsystem.domain.dto.ReservationScope;
 import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
 import com.example.reservationsystem.domain.dto.SeatReservationResponseDto;
 import com.example.reservationsystem.domain.dto.SeatResponseDto;
 import com.example.reservationsystem.domain.entity.Seat;
 import com.example.reservationsystem.domain.entity.SeatReservation;
+import com.example.reservationsystem.domain.entity.SeatReservationSlot;
 import com.example.reservationsystem.domain.entity.Student;
+import com.example.reservationsystem.domain.entity.StudentReservationSlot;
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
 import com.example.reservationsystem.domain.repository.SeatRepository;
 import com.example.reservationsystem.domain.repository.SeatReservationRepository;
+import com.example.reservationsystem.domain.repository.SeatReservationSlotRepository;
 import com.example.reservationsystem.domain.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
-import java.util.stream.IntStream;
+import java.util.*;
 
 //회의실 예약
 @Service
@@ -29,22 +42,27 @@ public class SeatReservationService {
 
     private static final LocalTime OPEN = LocalTime.of(9, 0);
     private static final LocalTime CLOSE = LocalTime.of(18, 0);
+    static final int SEAT_DAILY_LIMIT_HOURS = 4;
 
     private final StudentRepository studentRepository;
+    private final StudentService studentService;
     private final SeatReservationRepository seatReservationRepository;
+    private final SeatReservationSlotRepository seatReservationSlotRepository;
     private final SeatRepository seatRepository;
+    private final SeatOccupancyEngine seatOccupancyEngine;
+    private final StudentTimeline studentTimeline;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SeatResponseDto createSeatReservation(SeatReservationRequestDto req) {
 
         // 1) 학번 검증 + Student 조회 or 생성
-        validateStudentId(req.getStudentId());
+        StudentIds.validate(req.getStudentId());
 
         Seat seat = seatRepository.findById(req.getSeatId())
                 .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
 
-        Student student = studentRepository.findByStudentId(req.getStudentId())
-                .orElseGet(() -> studentRepository.save(Student.of(req.getStudentId())));
+        Student student = studentService.loadOrCreate(req.getStudentId());
 
         // 2) 종료시간
         LocalTime endTime = req.getStartTime().plusHours(req.getDurationHours());
@@ -61,49 +79,42 @@ public class SeatReservationService {
             throw new CustomException(ErrorCode.INVALID_SEAT_ID);
         }
 
-        // 5) 날짜 변경 시 daily / weekly reset
-        student.resetSeatIfNeeded(req.getDate());
-
-        // 6) 하루 / 주간 누적 시간 한도 검증 (일 4시간, 한 번 예약할 때 2시간씩만 가능)
+        // 5) 이용 시간 검증 (한 번 예약할 때 1~2시간)
         int duration = req.getDurationHours();
         if (duration != 1 && duration != 2) {
             throw new CustomException(ErrorCode.INVALID_DURATION_HOURS);
         }
 
-        int daily = student.getSeatDailyUsedHours();
-        if (daily + duration > 4) {
-            throw new CustomException(ErrorCode.SEAT_DAILY_LIMIT_EXCEEDED);
-        }
+        // 6) 일일 한도(4시간) 검증 + 누적 시간 반영을 조건부 UPDATE 한 번으로 처리 (날짜 변경 시 리셋 포함)
+        reserveSeatQuota(req.getStudentId(), req.getDate(), duration);
 
-        // 7) 좌석 중복 예약 여부 검사
-        if (seatReservationRepository.existsSeatOverlap(
-                req.getSeatId(),
+        // 7) 좌석 슬롯 선점 (검사와 점유를 한 번의 CAS 로 처리 → 동시 요청 이중 예약 방지, 롤백 시 해제)
+        if (!seatOccupancyEngine.tryClaim(
                 req.getDate(),
+                req.getSeatId(),
                 req.getStartTime(),
                 endTime))
         {
             throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
         }
 
-        // 8) 사용자의 기존 좌석 예약과 겹침 여부 검사
-        if (seatReservationRepository.existsStudentOverlap(
+        // 8) 사용자의 기존 좌석/회의실 예약과 겹침 검사 + 선점 (학생 타임라인 CAS 1회, 롤백 시 해제)
+        if (studentTimeline.tryClaim(
                 req.getStudentId(),
                 req.getDate(),
+                StudentTimeline.Kind.SEAT,
                 req.getStartTime(),
-                endTime))
+                endTime) == null)
         {
             throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION);
         }
 
-        // 9) 좌석 예약 저장
-        SeatReservation saved = seatReservationRepository.save(
+        // 9) 좌석 예약 저장 (슬롯 행 유니크 제약 위반 = 다른 인스턴스와의 경합)
+        SeatReservation saved = saveSeatReservation(
                 SeatReservation.of(seat, student, req.getDate(), req.getStartTime(), req.getDurationHours())
         );
 
-        // 10) 누적 시간 반영
-        student.applySeatUsageDelta(req.getDurationHours());
-
-        // 11) 응답
+        // 10) 응답
         return SeatResponseDto.from(saved);
     }
 
@@ -111,9 +122,8 @@ public class SeatReservationService {
     public SeatResponseDto createRandomSeatReservation(SeatReservationRequestDto req) {
 
         // 1) 학번 검증 + Student 조회 or 생성
-        validateStudentId(req.getStudentId());
-        Student student = studentRepository.findByStudentId(req.getStudentId())
-                .orElseGet(() -> studentRepository.save(Student.of(req.getStudentId())));
+        StudentIds.validate(req.getStudentId());
+        Student student = studentService.loadOrCreate(req.getStudentId());
 
         // 2) 종료 시간 계산
         LocalTime endTime = req.getStartTime().plusHours(req.getDurationHours());
@@ -125,65 +135,201 @@ public class SeatReservationService {
             throw new CustomException(ErrorCode.OUT_OF_OPERATING_HOURS1);
         }
 
-        // 4) 날짜 변경 시 daily / weekly reset
-        student.resetSeatIfNeeded(req.getDate());
-
-        // 5) 이용 시간 검증 (2 또는 4)
+        // 4) 이용 시간 검증 (1 또는 2)
         int duration = req.getDurationHours();
         if (duration != 1 && duration != 2) {
             throw new CustomException(ErrorCode.INVALID_DURATION_HOURS);
         }
 
-        int daily = student.getSeatDailyUsedHours();
-        if (daily + duration > 4) {
-            throw new CustomException(ErrorCode.SEAT_DAILY_LIMIT_EXCEEDED);
-        }
-
+        // 5) 일일 한도 검증 + 누적 시간 반영 (조건부 UPDATE, 이후 단계 실패 시 롤백)
+        reserveSeatQuota(req.getStudentId(), req.getDate(), duration);
 
-        // 7) 사용자의 기존 예약과 시간 겹침 체크
-        if (seatReservationRepository.existsStudentOverlap(
-                req.getStudentId(), req.getDate(), req.getStartTime(), endTime)) {
+        // 6) 사용자의 기존 좌석/회의실 예약과 시간 겹침 체크 + 선점 (롤백 시 해제)
+        if (studentTimeline.tryClaim(req.getStudentId(), req.getDate(), StudentTimeline.Kind.SEAT,
+                req.getStartTime(), endTime) == null) {
             throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION);
         }
 
-        List<Long> reservedSeatIds =
-                seatReservationRepository.findReservedSeatIds(
-                        req.getDate(),
-                        req.getStartTime(),
-                        endTime
-                );
-
-        // 전체 좌석(1~70)
-        List<Long> allSeats = IntStream.rangeClosed(1, 70)
-                .mapToLong(i -> i)
-                .boxed()
-                .toList();
+        // 7) 빈 좌석 중 균등 랜덤 선택 + 원자적 선점 (롤백 시 선점 해제)
+        long selectedSeatId = seatOccupancyEngine.claimRandom(req.getDate(), req.getStartTime(), endTime);
 
-        // 예약 가능한 좌석 필터링
-        List<Long> availableSeats = allSeats.stream()
-                .filter(seatId -> !reservedSeatIds.contains(seatId))
-                .toList();
-
-        // 9) 예약 가능한 좌석이 하나도 없으면 에러
-        if (availableSeats.isEmpty()) {
+        // 8) 예약 가능한 좌석이 하나도 없으면 에러
+        if (selectedSeatId == 0) {
             throw new CustomException(ErrorCode.NO_AVAILABLE_SEATS);
         }
 
-        // 10) 랜덤 선택
-        Long selectedSeatId = availableSeats.get(new Random().nextInt(availableSeats.size()));
-
+        // 9) 좌석 1~70 은 seatId == PK. 비트맵은 좌석 행 존재를 모르므로 PK 조회로 확인 (없으면 롤백 시 선점 해제)
         Seat seat = seatRepository.findById(selectedSeatId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
 
-        // 11) 좌석 예약 저장
-        SeatReservation saved = seatReservationRepository.save(
+        // 10) 좌석 예약 저장
+        SeatReservation saved = saveSeatReservation(
                 SeatReservation.of(seat, student, req.getDate(), req.getStartTime(), duration)
         );
 
-        // 12) 누적 시간 증가
-        student.applySeatUsageDelta(duration);
+        // 11) 응답 생성
+        return SeatResponseDto.from(saved);
+    }
+
+    // 파이프라인 모드: 여러 요청을 한 트랜잭션에서 판정하고 한 번의 saveAll(JDBC 배치)로 저장한다.
+    // - 요청별 검증 실패는 해당 결과에만 기록하고 나머지는 계속 처리
+    // - 저장 단계 예외(다른 인스턴스와의 슬롯 경합, 한도 스냅샷 불일치)는 전체 롤백 → 호출자가 단건 경로로 재처리
+    @Transactional
+    public List<SeatBookingOutcome> createSeatReservations(List<SeatBookingCommand> commands) {
+
+        int size = commands.size();
+        SeatBookingOutcome[] outcomes = new SeatBookingOutcome[size];
+        LocalTime[] endTimes = new LocalTime[size];
+
+        // 1) 요청별 입력 검증 (학번, 운영시간, 좌석 번호, 이용 시간)
+        for (int i = 0; i < size; i++) {
+            try {
+                endTimes[i] = validateBooking(commands.get(i));
+            } catch (CustomException e) {
+                outcomes[i] = SeatBookingOutcome.failure(e.getErrorCode());
+            }
+        }
+
+        Set<Long> seatIds = new HashSet<>();
+        Set<Long> studentIds = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            SeatBookingCommand c = commands.get(i);
+            if (!c.isRandom()) {
+                seatIds.add(c.getRequest().getSeatId());
+            }
+            studentIds.add(c.getRequest().getStudentId());
+        }
+        if (studentIds.isEmpty()) {
+            return Arrays.asList(outcomes);
+        }
+
+        // 2) 지정 좌석 / 학생 일괄 조회 (IN 쿼리 각 1회, 없는 학생은 한 번에 저장)
+        Map<Long, Seat> seats = new HashMap<>();
+        for (Seat s : seatRepository.findAllById(seatIds)) {
+            seats.put(s.getId(), s);
+        }
+        Map<Long, Student> students = studentService.loadOrCreateAll(studentIds);
+        // 랜덤 좌석이 고른 번호가 실제 좌석 행인지 확인용 (랜덤 요청이 있을 때만 id 조회 1회)
+        Set<Long> existingSeatIds = null;
+
+        // 3) 한도 / 겹침 / 좌석 선점을 메모리에서 순서대로 판정 (배치 안의 앞선 요청도 반영)
+        //    겹침은 학생 타임라인 선점으로 판정하므로 배치 안 / 다른 요청 / 회의실 예약이 한 번에 걸러진다
+        Map<Long, Map<LocalDate, Integer>> used = new HashMap<>();
+        Map<Long, Map<LocalDate, Integer>> quotaDelta = new LinkedHashMap<>();
+        List<SeatReservation> toSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            SeatBookingCommand c = commands.get(i);
+            SeatReservationRequestDto req = c.getRequest();
+            Student student = students.get(req.getStudentId());
+            int hours = req.getDurationHours();
+
+            if (!c.isRandom() && !seats.containsKey(req.getSeatId())) {
+                outcomes[i] = SeatBookingOutcome.failure(ErrorCode.SEAT_NOT_FOUND);
+                continue;
+            }
+
+            Map<LocalDate, Integer> usedByDate = used.computeIfAbsent(req.getStudentId(), k -> new HashMap<>());
+            int usedHours = usedByDate.computeIfAbsent(req.getDate(), d -> seatDailyUsage(student, d));
+            if (usedHours + hours > SEAT_DAILY_LIMIT_HOURS) {
+                outcomes[i] = SeatBookingOutcome.failure(ErrorCode.SEAT_DAILY_LIMIT_EXCEEDED);
+                continue;
+            }
+
+            StudentTimeline.Hold hold = studentTimeline.tryClaim(
+                    req.getStudentId(), req.getDate(), StudentTimeline.Kind.SEAT, req.getStartTime(), endTimes[i]);
+            if (hold == null) {
+                outcomes[i] = SeatBookingOutcome.failure(ErrorCode.OVERLAPPING_RESERVATION);
+                continue;
+            }
+
+            // 좌석 선점 실패 시 이 요청만 실패하고 배치는 커밋되므로 학생 선점은 바로 돌려놓는다
+            Seat seat;
+            if (c.isRandom()) {
+                long seatId = seatOccupancyEngine.claimRandom(req.getDate(), req.getStartTime(), endTimes[i]);
+                if (seatId == 0) {
+                    hold.release();
+                    outcomes[i] = SeatBookingOutcome.failure(ErrorCode.NO_AVAILABLE_SEATS);
+                    continue;
+                }
+                if (existingSeatIds == null) {
+                    existingSeatIds = seatRepository.findAllIds();
+                }
+                if (!existingSeatIds.contains(seatId)) {
+                    seatOccupancyEngine.vacate(req.getDate(), seatId, req.getStartTime(), endTimes[i]);
+                    hold.release();
+                    outcomes[i] = SeatBookingOutcome.failure(ErrorCode.SEAT_NOT_FOUND);
+                    continue;
+                }
+                seat = seatRepository.getReferenceById(seatId);
+            } else {
+                if (!seatOccupancyEngine.tryClaim(req.getDate(), req.getSeatId(), req.getStartTime(), endTimes[i])) {
+                    hold.release();
+                    outcomes[i] = SeatBookingOutcome.failure(ErrorCode.SEAT_ALREADY_RESERVED);
+                    continue;
+                }
+                seat = seats.get(req.getSeatId());
+            }
+
+            usedByDate.put(req.getDate(), usedHours + hours);
+            quotaDelta.computeIfAbsent(req.getStudentId(), k -> new LinkedHashMap<>())
+                    .merge(req.getDate(), hours, Integer::sum);
+            toSave.add(SeatReservation.of(seat, student, req.getDate(), req.getStartTime(), hours));
+            savedIndexes.add(i);
+        }
+
+        // 4) 한도 반영: (학번, 날짜) 별 합계로 조건부 UPDATE (스냅샷 이후 사용량이 바뀌었으면 전체 롤백)
+        quotaDelta.forEach((studentId, byDate) -> byDate.forEach((date, hours) -> {
+            if (studentRepository.addSeatUsageWithinLimit(studentId, date, hours, SEAT_DAILY_LIMIT_HOURS) == 0) {
+                throw new IllegalStateException("seat usage changed during batch: studentId=" + studentId);
+            }
+        }));
+
+        // 5) 한 번의 saveAll + flush (시퀀스 ID 라 INSERT 가 JDBC 배치로 전송된다)
+        List<SeatReservation> saved = seatReservationRepository.saveAll(toSave);
+        seatReservationRepository.flush();
+
+        for (int j = 0; j < saved.size(); j++) {
+            outcomes[savedIndexes.get(j)] = SeatBookingOutcome.success(SeatResponseDto.from(saved.get(j)));
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    // 메모리에서 이미 선점한 좌석(seatId)의 예약을 저장한다 (파티션 모드 등).
+    // 좌석 충돌 판정은 호출자가 끝냈으므로 학생 단위 검증(한도, 겹침)과 저장만 한다.
+    // 실패 시 선점 해제는 호출자 책임이다.
+    @Transactional
+    public SeatResponseDto persistClaimedSeatReservation(SeatReservationRequestDto req, long seatId) {
+
+        // 1) 학번 검증 + Student 조회 or 생성
+        StudentIds.validate(req.getStudentId());
+        Student student = studentService.loadOrCreate(req.getStudentId());
+
+        LocalTime endTime = req.getStartTime().plusHours(req.getDurationHours());
+
+        // 2) 일일 한도 검증 + 누적 시간 반영
+        reserveSeatQuota(req.getStudentId(), req.getDate(), req.getDurationHours());
+
+        // 3) 사용자의 기존 좌석/회의실 예약과 겹침 검사 + 선점 (롤백 시 해제)
+        if (studentTimeline.tryClaim(req.getStudentId(), req.getDate(), StudentTimeline.Kind.SEAT,
+                req.getStartTime(), endTime) == null) {
+            throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION);
+        }
 
-        // 13) 응답 생성
+        // 4) 저장 (seatId == PK, 메모리 선점은 좌석 행 존재를 보장하지 않으므로 PK 조회로 확인)
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
+        SeatReservation saved = saveSeatReservation(
+                SeatReservation.of(seat, student,
+                        req.getDate(), req.getStartTime(), req.getDurationHours())
+        );
         return SeatResponseDto.from(saved);
     }
 
@@ -191,7 +337,7 @@ public class SeatReservationService {
     @Transactional(readOnly = true)
     public List<SeatReservationResponseDto> getReservationsByStudentId(Long studentId) {
 
-        validateStudentId(studentId);
+        StudentIds.validate(studentId);
 
         //해당 학생의 좌석 예약 리스트 조회
         List<SeatReservation> reservations =
@@ -207,35 +353,60 @@ public class SeatReservationService {
                 .toList();
     }
 
-    //
+    //내 좌석 예약 페이지 조회 (키셋 커서, 다가오는 예약 / 지난 예약)
     @Transactional(readOnly = true)
+    public CursorPageDto<SeatReservationResponseDto> getReservationsByStudentId(
+            Long studentId, ReservationScope scope, String cursor, int size) {
+
+        StudentIds.validate(studentId);
+        Pageable limit = CursorPageDto.fetchLimit(size);
+        ReservationCursor after = ReservationCursor.decode(cursor);
+
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDate cursorDate = after == null ? null : after.getDate();
+        LocalTime cursorTime = after == null ? null : after.getStartTime();
+        Long cursorId = after == null ? null : after.getId();
+
+        List<SeatReservationResponseDto> rows = scope == ReservationScope.PAST
+                ? seatReservationRepository.findPastPage(studentId, now.toLocalDate(), now.toLocalTime(),
+                        cursorDate, cursorTime, cursorId, limit)
+                : seatReservationRepository.findUpcomingPage(studentId, now.toLocalDate(), now.toLocalTime(),
+                        cursorDate, cursorTime, cursorId, limit);
+
+        return CursorPageDto.of(rows, size, SeatReservationResponseDto::cursor);
+    }
+
+    //좌석 예약 현황 조회 (인메모리 점유 비트맵, DB 조회 없음)
+    // 비트맵은 기동일 이후만 적재하므로 그 이전 날짜는 슬롯 행에서 조회한다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<Integer> getReservedSeatIds(LocalDate date, LocalTime startTime, int durationHours) {
 
         LocalTime endTime = startTime.plusHours(durationHours);
 
-        // 해당 날짜의 모든 좌석 예약 조회
-        List<SeatReservation> reservations =
-                seatReservationRepository.findByDate(date);
-
-        // 겹치는 예약만 seatId 리스트로 반환
-        return reservations.stream()
-                .filter(r ->
-                        r.getStartTime().isBefore(endTime) &&
-                                r.getEndTime().isAfter(startTime))
-                .map(r -> r.getSeat().getId().intValue())
-                .distinct()
-                .toList();
+        if (!seatOccupancyEngine.covers(date)) {
+            int mask = TimeSlots.mask(startTime, endTime);
+            if (mask == 0) {
+                return List.of();
+            }
+            return seatReservationSlotRepository
+                    .findReservedSeatIds(date, TimeSlots.fromSlot(mask), TimeSlots.toSlot(mask))
+                    .stream()
+                    .map(Long::intValue)
+                    .sorted()
+                    .toList();
+        }
+        return seatOccupancyEngine.reservedSeatIds(date, startTime, endTime);
     }
 
     @Transactional
     public String cancelSeatReservation(Long reservationId, Long studentId) {
 
         // 1. 학번 검증
-        validateStudentId(studentId);
+        StudentIds.validate(studentId);
 
         // 2. 좌석 예약 존재 여부 확인
         //예약된 내역이 없습니다.
-        SeatReservation reservation = seatReservationRepository.findById(reservationId)
+        SeatReservation reservation = seatReservationRepository.findWithStudentById(reservationId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SEAT_RESERVATION_NOT_FOUND1));
 
         // 3. 본인 예약인지 확인
@@ -260,32 +431,72 @@ public class SeatReservationService {
             throw new CustomException(ErrorCode.SEAT_ALREADY_IN_USE);
         }
 
-        // 6. 환급 처리 (하루 사용 시간 복구)
-        Student student = reservation.getStudent();
-
-        // 날짜 기준 리셋
-        student.resetSeatIfNeeded(reservation.getDate());
-
+        // 6. 환급 처리 (하루 사용 시간 복구, 같은 날짜 집계일 때만 조건부 UPDATE)
         int durationHours = (int) Duration
                 .between(reservation.getStartTime(), reservation.getEndTime())
                 .toHours();
 
-        // 사용 시간 환급
-        student.applySeatUsageDelta(-durationHours);
+        studentRepository.refundSeatUsage(studentId, reservation.getDate(), durationHours);
 
         // 7. 예약 삭제 (좌석은 자동으로 예약 가능 상태)
         seatReservationRepository.delete(reservation);
 
+        // 8. 커밋 후 빈 시간대를 대기열에 넘긴다 (WaitlistPromoter, 비동기)
+        eventPublisher.publishEvent(new ReservationCanceledEvent(
+                WaitlistResourceType.SEAT,
+                reservation.getSeat().getId(),
+                reservation.getDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime()));
+
         return beforeStart ? "시간 환급" : "환급 안 됨";
     }
 
-    private void validateStudentId(Long studentId) {
-        if (studentId == null) {
-            throw new CustomException(ErrorCode.INVALID_STUDENT_ID);
+    // 영향받은 행이 0 이면 한도 초과 (같은 학생 동시 요청도 UPDATE 행 잠금으로 순서대로 판정)
+    private void reserveSeatQuota(Long studentId, LocalDate date, int hours) {
+        if (studentRepository.addSeatUsageWithinLimit(studentId, date, hours, SEAT_DAILY_LIMIT_HOURS) == 0) {
+            throw new CustomException(ErrorCode.SEAT_DAILY_LIMIT_EXCEEDED);
         }
-        // 하드코딩 무효 학번
-        if (studentId == 202099999L || studentId == 202288888L) {
-            throw new CustomException(ErrorCode.INVALID_STUDENT_ID);
+    }
+
+    // 일괄/파티션 처리용 입력 검증 (단건 경로의 검증 단계와 같은 에러 코드, DB 조회 없음). 반환값 = 종료 시간
+    public LocalTime validateBooking(SeatBookingCommand command) {
+        SeatReservationRequestDto req = command.getRequest();
+        StudentIds.validate(req.getStudentId());
+
+        LocalTime endTime = req.getStartTime().plusHours(req.getDurationHours());
+        if (req.getStartTime().isBefore(OPEN) ||
+                endTime.isAfter(CLOSE) ||
+                !req.getStartTime().isBefore(endTime)) {
+            throw new CustomException(ErrorCode.OUT_OF_OPERATING_HOURS1);
+        }
+        if (!command.isRandom() && (req.getSeatId() == null || req.getSeatId() < 1 || req.getSeatId() > 70)) {
+            throw new CustomException(ErrorCode.INVALID_SEAT_ID);
+        }
+        int duration = req.getDurationHours();
+        if (duration != 1 && duration != 2) {
+            throw new CustomException(ErrorCode.INVALID_DURATION_HOURS);
+        }
+        return endTime;
+    }
+
+    // Student 누적 카운터 기준 좌석 사용량 (addSeatUsageWithinLimit 와 같은 기준: 같은 날짜일 때만 유효)
+    static int seatDailyUsage(Student s, LocalDate date) {
+        return date.equals(s.getSeatUsageDate()) ? s.getSeatDailyUsedHours() : 0;
+    }
+
+    private SeatReservation saveSeatReservation(SeatReservation reservation) {
+        try {
+            return seatReservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, SeatReservationSlot.UNIQUE_SLOT)) {
+                throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED, e);
+            }
+            // 다른 인스턴스 등 메모리 타임라인을 거치지 않은 겹침은 학생 슬롯 행 유니크 제약에서 걸러짐
+            if (ConstraintViolations.isViolationOf(e, StudentReservationSlot.UNIQUE_SLOT)) {
+                throw new CustomException(ErrorCode.OVERLAPPING_RESERVATION, e);
+            }
+            throw e;
         }
     }
 
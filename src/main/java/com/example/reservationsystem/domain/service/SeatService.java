@@ -7,6 +7,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.reservationsystem.domain.entity.Seat;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Builder
 @Service
 @RequiredArgsConstructor
@@ -19,10 +22,13 @@ public class SeatService {
 
         // if (seatRepository.count() > 0) return; // 중복 생성 방지
 
+        // 시퀀스 ID + JDBC 배치 → 70개 INSERT 를 batch_size 단위로 묶어 전송
+        List<Seat> seats = new ArrayList<>();
         for (int i = 1; i <= 70; i++) {
-            seatRepository.save(Seat.builder()
+            seats.add(Seat.builder()
                     .seatNumber(i)
                     .build());
         }
+        seatRepository.saveAll(seats);
     }
 }
@@ -0,0 +1,47 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.domain.entity.Student;
+import com.example.reservationsystem.domain.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 예약 흐름에서 학번으로 Student 를 찾고, 처음 보는 학번이면 만든다 (호출자 트랜잭션에 참여)
+@Service
+@RequiredArgsConstructor
+public class StudentService {
+
+    private final StudentRepository studentRepository;
+
+    @Transactional
+    public Student loadOrCreate(Long studentId) {
+        return studentRepository.findByStudentId(studentId)
+                .orElseGet(() -> studentRepository.save(Student.of(studentId)));
+    }
+
+    // 학번 목록의 Student 를 IN 조회 1회로 가져오고, 없는 학생은 한 번에 저장한다.
+    @Transactional
+    public Map<Long, Student> loadOrCreateAll(Collection<Long> studentIds) {
+        Map<Long, Student> students = new HashMap<>();
+        for (Student s : studentRepository.findAllByStudentIdIn(studentIds)) {
+            students.put(s.getStudentId(), s);
+        }
+
+        List<Student> missing = new ArrayList<>();
+        for (Long sid : studentIds) {
+            if (!students.containsKey(sid)) {
+                missing.add(Student.of(sid));
+            }
+        }
+        for (Student s : studentRepository.saveAll(missing)) {
+            students.put(s.getStudentId(), s);
+        }
+        return students;
+    }
+}
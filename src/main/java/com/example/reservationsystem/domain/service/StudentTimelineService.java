@@ -0,0 +1,81 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.util.StudentIds;
+import com.example.reservationsystem.domain.dto.StudentSlotRowDto;
+import com.example.reservationsystem.domain.dto.StudentTimelineBlockDto;
+import com.example.reservationsystem.domain.dto.StudentTimelineDto;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.repository.StudentReservationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// 내 하루 일정: 좌석/회의실 목록을 따로 조회해 합치지 않고 학생 슬롯 행 한 번의 인덱스 조회로 만든다
+// - 구간마다 예약 id 와 좌석/회의실 id 를 함께 내려 화면이 예약별 목록 조회 없이 바로 이동/취소할 수 있다
+// - StudentTimeline 이 적재한 날짜(오늘 이후)에 일정이 하나도 없으면 DB 조회 없이 빈 하루를 돌려준다
+// - 지난 날짜는 타임라인에서 정리되므로 항상 슬롯 행으로 답한다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudentTimelineService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String FREE = "FREE";
+
+    private final StudentTimeline studentTimeline;
+    private final StudentReservationSlotRepository studentReservationSlotRepository;
+
+    public StudentTimelineDto getTimeline(Long studentId, LocalDate date) {
+
+        StudentIds.validate(studentId);
+
+        StudentSlotRowDto[] bySlot = new StudentSlotRowDto[TimeSlots.SLOT_COUNT];
+        boolean loaded = !date.isBefore(LocalDate.now(KST));
+        if (!loaded || studentTimeline.busyMask(studentId, date) != 0) {
+            for (StudentSlotRowDto row : studentReservationSlotRepository.findSlotRows(studentId, date)) {
+                if (row.getSlot() >= 0 && row.getSlot() < TimeSlots.SLOT_COUNT) {
+                    bySlot[row.getSlot()] = row;
+                }
+            }
+        }
+
+        // 같은 예약(또는 빈 시간)이 이어지는 슬롯은 하나의 구간으로 합친다
+        List<StudentTimelineBlockDto> blocks = new ArrayList<>();
+        int from = 0;
+        for (int slot = 1; slot <= TimeSlots.SLOT_COUNT; slot++) {
+            if (slot == TimeSlots.SLOT_COUNT || !sameBlock(bySlot[from], bySlot[slot])) {
+                blocks.add(block(from, slot, bySlot[from]));
+                from = slot;
+            }
+        }
+
+        return new StudentTimelineDto(studentId, date, blocks);
+    }
+
+    private static boolean sameBlock(StudentSlotRowDto a, StudentSlotRowDto b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Objects.equals(a.getSeatReservationId(), b.getSeatReservationId())
+                && Objects.equals(a.getRoomReservationId(), b.getRoomReservationId());
+    }
+
+    private static StudentTimelineBlockDto block(int from, int to, StudentSlotRowDto row) {
+        if (row == null) {
+            return new StudentTimelineBlockDto(TimeSlots.startOf(from), TimeSlots.startOf(to), FREE, null, null, null);
+        }
+        if (row.getSeatReservationId() != null) {
+            return new StudentTimelineBlockDto(TimeSlots.startOf(from), TimeSlots.startOf(to),
+                    StudentTimeline.Kind.SEAT.name(), row.getSeatReservationId(), row.getSeatId(), null);
+        }
+        return new StudentTimelineBlockDto(TimeSlots.startOf(from), TimeSlots.startOf(to),
+                StudentTimeline.Kind.ROOM.name(), row.getRoomReservationId(), null, row.getRoomId());
+    }
+}
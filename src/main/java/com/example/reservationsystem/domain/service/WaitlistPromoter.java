@@ -0,0 +1,156 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.WaitlistEntry;
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import com.example.reservationsystem.domain.entity.WaitlistStatus;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.repository.WaitlistEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 예약 취소 커밋 후(또는 좌석 선점 만료/해제 후) 비게 된 시간대를 대기열 앞에서부터 예약으로 승격한다.
+// - 취소 요청 스레드가 아닌 비동기 스레드에서 실행 → 취소 응답 지연 없음
+// - 후보: 같은 종류·날짜의 WAITING 항목 중 같은 자원(아무 좌석 포함)이고 빈 시간과 겹치는 것, 신청 순
+// - 인메모리 점유 비트맵으로 지금 비어 있는 항목만 예약 서비스에 넘기고, 한도/일정 겹침은 예약 서비스가 다시 판정
+// - 예약 저장 + 대기 항목 PROMOTED 표시는 한 트랜잭션 (대기 취소와 경합하면 예약도 롤백)
+// - 항목 하나의 예상 못한 실패(DB 오류 등)는 로그만 남기고 WAITING 으로 둔 채 다음 항목으로 넘어간다
+@Slf4j
+@Component
+public class WaitlistPromoter {
+
+    // 자리를 다른 사람이 먼저 가져간 경우 → 다음 취소를 계속 기다린다
+    private static final Set<ErrorCode> RESOURCE_TAKEN = EnumSet.of(
+            ErrorCode.SEAT_ALREADY_RESERVED,
+            ErrorCode.ROOM_ALREADY_RESERVED,
+            ErrorCode.NO_AVAILABLE_SEATS
+    );
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final WaitlistService waitlistService;
+    private final SeatReservationService seatReservationService;
+    private final RoomReservationService roomReservationService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 취소가 동시에 여러 건 와도 같은 대기 항목을 두 번 시도하지 않도록 한 번에 하나씩 처리 (취소는 드물다)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public WaitlistPromoter(
+            WaitlistEntryRepository waitlistEntryRepository,
+            WaitlistService waitlistService,
+            SeatReservationService seatReservationService,
+            RoomReservationService roomReservationService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.waitlistService = waitlistService;
+        this.seatReservationService = seatReservationService;
+        this.roomReservationService = roomReservationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 좌석 선점 만료/해제는 트랜잭션 밖에서 발행되므로 fallbackExecution 으로 바로 받는다
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationCanceled(ReservationCanceledEvent event) {
+        lock.lock();
+        try {
+            promote(event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void promote(ReservationCanceledEvent event) {
+        int freed = TimeSlots.mask(event.getStartTime(), event.getEndTime());
+        LocalDateTime now = LocalDateTime.now(KST);
+
+        for (WaitlistEntry entry : waitlistEntryRepository.findByResourceTypeAndDateAndStatusOrderByIdAsc(
+                event.getResourceType(), event.getDate(), WaitlistStatus.WAITING)) {
+
+            // 다른 자원이거나 빈 시간과 겹치지 않으면 이번 취소와 무관
+            if (entry.getResourceId() != null && !entry.getResourceId().equals(event.getResourceId())) {
+                continue;
+            }
+            if ((entry.slotMask() & freed) == 0) {
+                continue;
+            }
+            try {
+                promoteEntry(entry, now);
+            } catch (RuntimeException e) {
+                log.warn("waitlist entry {} promotion failed, leaving it waiting", entry.getId(), e);
+            }
+        }
+    }
+
+    private void promoteEntry(WaitlistEntry entry, LocalDateTime now) {
+        // 이미 시작 시간이 지난 대기는 더 기다려도 예약할 수 없다
+        if (!LocalDateTime.of(entry.getDate(), entry.getStartTime()).isAfter(now)) {
+            markFailed(entry, ErrorCode.RESERVATION_ALREADY_FINISHED);
+            return;
+        }
+        // 앞 순번이 방금 가져갔거나 나머지 시간이 아직 차 있음
+        if (!waitlistService.isResourceFree(entry)) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Long reservationId = book(entry);
+                if (waitlistEntryRepository.markPromoted(entry.getId(), reservationId) == 0) {
+                    // 그 사이 본인이 대기를 취소함 → 예약도 남기지 않는다
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (CustomException e) {
+            if (!RESOURCE_TAKEN.contains(e.getErrorCode())) {
+                // 한도 초과 / 일정 겹침 등 신청자 쪽 사유 → 대기 종료
+                markFailed(entry, e.getErrorCode());
+            }
+        }
+    }
+
+    // 일반 예약과 같은 서비스 메서드로 예약 (현재 트랜잭션에 참여)
+    private Long book(WaitlistEntry entry) {
+        if (entry.getResourceType() == WaitlistResourceType.ROOM) {
+            return roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                    .roomId(entry.getResourceId())
+                    .date(entry.getDate())
+                    .startTime(entry.getStartTime())
+                    .duration(entry.getDuration())
+                    .representativeStudentId(entry.getStudentId())
+                    .participantStudentIds(entry.participantIds())
+                    .build()).getId();
+        }
+
+        SeatReservationRequestDto req = SeatReservationRequestDto.builder()
+                .seatId(entry.getResourceId())
+                .date(entry.getDate())
+                .startTime(entry.getStartTime())
+                .durationHours(entry.getDuration())
+                .studentId(entry.getStudentId())
+                .build();
+        return entry.getResourceId() == null
+                ? seatReservationService.createRandomSeatReservation(req).getId()
+                : seatReservationService.createSeatReservation(req).getId();
+    }
+
+    private void markFailed(WaitlistEntry entry, ErrorCode code) {
+        transactionTemplate.executeWithoutResult(status -> waitlistEntryRepository.markFailed(entry.getId(), code));
+    }
+}
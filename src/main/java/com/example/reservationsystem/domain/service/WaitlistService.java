@@ -0,0 +1,174 @@
+package com.example.reservationsystem.domain.service;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.util.ConstraintViolations;
+import com.example.reservationsystem.common.util.StudentIds;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.dto.WaitlistEntryDto;
+import com.example.reservationsystem.domain.entity.WaitlistEntry;
+import com.example.reservationsystem.domain.entity.WaitlistResourceType;
+import com.example.reservationsystem.domain.entity.WaitlistStatus;
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.repository.RoomRepository;
+import com.example.reservationsystem.domain.repository.WaitlistEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 예약 대기 신청 / 조회 / 취소
+// 신청 시에는 입력 형식과 "지금 자리가 없는지"만 확인하고, 한도/일정 겹침은 승격 시점에 예약 서비스가 다시 판정한다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WaitlistService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final RoomRepository roomRepository;
+    private final SeatOccupancyEngine seatOccupancyEngine;
+    private final RoomOccupancyEngine roomOccupancyEngine;
+
+    @Transactional
+    public WaitlistEntryDto joinRoomWaitlist(ReservationRequestDto req) {
+
+        // 1) 학번 / 참가자 수 검증 (createRoomReservation 과 같은 기준)
+        Set<Long> studentIds = new LinkedHashSet<>();
+        studentIds.add(req.getRepresentativeStudentId());
+        if (req.getParticipantStudentIds() != null) {
+            studentIds.addAll(req.getParticipantStudentIds());
+        }
+        for (Long sid : studentIds) {
+            StudentIds.validate(sid);
+        }
+        if (studentIds.size() < 3) {
+            throw new CustomException(ErrorCode.INVALID_PARTICIPANT_COUNT);
+        }
+
+        // 2) 시간 검증
+        validateSlot(req.getDate(), req.getStartTime(), req.getDuration(), ErrorCode.OUT_OF_OPERATING_HOURS);
+
+        // 3) 회의실 존재 확인
+        if (req.getRoomId() == null || !roomRepository.existsById(req.getRoomId())) {
+            throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+        }
+
+        List<Long> participants = new ArrayList<>(studentIds);
+        participants.remove(req.getRepresentativeStudentId());
+
+        return join(WaitlistEntry.ofRoom(
+                req.getRoomId(),
+                req.getDate(),
+                req.getStartTime(),
+                req.getDuration(),
+                req.getRepresentativeStudentId(),
+                participants,
+                LocalDateTime.now(KST)));
+    }
+
+    // seatId 가 없으면 같은 시간대 아무 좌석 대기
+    @Transactional
+    public WaitlistEntryDto joinSeatWaitlist(SeatReservationRequestDto req) {
+
+        // 1) 학번 검증
+        StudentIds.validate(req.getStudentId());
+
+        // 2) 좌석 번호 / 이용 시간 검증 (createSeatReservation 과 같은 기준)
+        if (req.getSeatId() != null && (req.getSeatId() < 1 || req.getSeatId() > SeatOccupancyEngine.SEAT_COUNT)) {
+            throw new CustomException(ErrorCode.INVALID_SEAT_ID);
+        }
+        if (req.getDurationHours() != 1 && req.getDurationHours() != 2) {
+            throw new CustomException(ErrorCode.INVALID_DURATION_HOURS);
+        }
+        validateSlot(req.getDate(), req.getStartTime(), req.getDurationHours(), ErrorCode.OUT_OF_OPERATING_HOURS1);
+
+        return join(WaitlistEntry.ofSeat(
+                req.getSeatId(),
+                req.getDate(),
+                req.getStartTime(),
+                req.getDurationHours(),
+                req.getStudentId(),
+                LocalDateTime.now(KST)));
+    }
+
+    public List<WaitlistEntryDto> getMyWaitlist(Long studentId) {
+        StudentIds.validate(studentId);
+        return waitlistEntryRepository.findByStudentIdOrderByIdDesc(studentId).stream()
+                .map(WaitlistEntryDto::from)
+                .toList();
+    }
+
+    // 본인의 WAITING 항목만 취소 (이미 승격/실패/취소된 항목은 없는 것으로 본다)
+    @Transactional
+    public void cancelWaitlist(Long entryId, Long studentId) {
+        StudentIds.validate(studentId);
+        if (waitlistEntryRepository.cancel(entryId, studentId) == 0) {
+            throw new CustomException(ErrorCode.WAITLIST_ENTRY_NOT_FOUND);
+        }
+    }
+
+    // 대기 항목의 자원이 지금 비어 있는지 (인메모리 점유 비트맵, 아무 좌석은 빈 좌석이 하나라도 있는지)
+    boolean isResourceFree(WaitlistEntry entry) {
+        if (entry.getResourceType() == WaitlistResourceType.ROOM) {
+            return (roomOccupancyEngine.mask(entry.getDate(), entry.getResourceId()) & entry.slotMask()) == 0;
+        }
+        if (entry.getResourceId() == null) {
+            return seatOccupancyEngine.freeSeatCount(entry.getDate(), entry.getStartTime(), entry.getEndTime(),
+                    1, SeatOccupancyEngine.SEAT_COUNT) > 0;
+        }
+        return seatOccupancyEngine.isFree(entry.getDate(), entry.getResourceId(), entry.getStartTime(), entry.getEndTime());
+    }
+
+    private WaitlistEntryDto join(WaitlistEntry entry) {
+        // 지금 비어 있으면 대기할 이유가 없다 → 바로 예약하도록 안내
+        if (isResourceFree(entry)) {
+            throw new CustomException(ErrorCode.WAITLIST_SLOT_AVAILABLE);
+        }
+        if (waitlistEntryRepository.existsByResourceTypeAndResourceIdAndDateAndStartTimeAndStudentIdAndStatus(
+                entry.getResourceType(),
+                entry.getResourceId(),
+                entry.getDate(),
+                entry.getStartTime(),
+                entry.getStudentId(),
+                WaitlistStatus.WAITING)) {
+            throw new CustomException(ErrorCode.ALREADY_ON_WAITLIST);
+        }
+        // 같은 신청이 동시에 들어와 위 확인을 둘 다 통과하면 waiting_key 유니크 제약에서 걸러짐
+        try {
+            return WaitlistEntryDto.from(waitlistEntryRepository.saveAndFlush(entry));
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, WaitlistEntry.UNIQUE_WAITING)) {
+                throw new CustomException(ErrorCode.ALREADY_ON_WAITLIST, e);
+            }
+            throw e;
+        }
+    }
+
+    // 운영시간(09:00~18:00) 안의 정시 슬롯이고 아직 시작 전인지
+    private static void validateSlot(LocalDate date, LocalTime startTime, int duration, ErrorCode outOfHours) {
+        if (date == null || startTime == null || duration < 1) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+        LocalTime endTime = startTime.plusHours(duration);
+        if (startTime.isBefore(TimeSlots.OPEN) || endTime.isAfter(TimeSlots.CLOSE) || !startTime.isBefore(endTime)) {
+            throw new CustomException(outOfHours);
+        }
+        if (!LocalDateTime.of(date, startTime).isAfter(LocalDateTime.now(KST))) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.admission.AdaptiveConcurrencyLimiter;
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.RetryAfterException;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 적응형 동시 처리 한도(AIMD) 테스트
+ * - 한도만큼 처리 중이면 좌석/회의실 예약 API 는 기다리지 않고 503 SERVER_OVERLOADED + Retry-After
+ * - 느린 응답(0.2초 초과) → 한도 감소, 빠른 응답이 이어지면 다시 증가
+ * - 한도 / 처리 중 수 / 응답 시간 백분위 메트릭
+ * - 격벽이 켜져 있으면 max-limit(10)은 read + booking-write 격벽 자리 합계(8)로 잘린다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = {
+                "reservation.adaptive-limit.enabled=true",
+                "reservation.adaptive-limit.initial-limit=2",
+                "reservation.adaptive-limit.min-limit=1",
+                "reservation.adaptive-limit.max-limit=10",
+                "reservation.adaptive-limit.latency-threshold=PT0.2S",
+                "reservation.adaptive-limit.retry-after=PT3S",
+                "reservation.bulkhead.enabled=true"
+        }
+)
+class AdaptiveConcurrencyLimitTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+
+    @Autowired AdaptiveConcurrencyLimiter limiter;
+    @Autowired MeterRegistry meterRegistry;
+
+    private static final long STUDENT = 202455501L;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+    }
+
+    private double shed() {
+        return meterRegistry.counter("reservation.concurrency.requests", "outcome", "shed").count();
+    }
+
+    private double latencyCount() {
+        return meterRegistry.get("reservation.concurrency.latency").timer().count();
+    }
+
+    @Test
+    @DisplayName("TC-AL-01 한도만큼 처리 중 → 예약 API 즉시 503 SERVER_OVERLOADED + Retry-After: 3, 반납 후 정상")
+    void TC_AL_01() throws Exception {
+        List<Long> held = new ArrayList<>();
+        try {
+            // 현재 한도만큼 자리를 채운다
+            while (true) {
+                held.add(limiter.acquire());
+            }
+        } catch (RetryAfterException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVER_OVERLOADED);
+        }
+        assertThat(held).isNotEmpty();
+        double shedBefore = shed();
+
+        try {
+            mockMvc.perform(get("/api/seats/reservations").param("studentId", String.valueOf(STUDENT)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "3"))
+                    .andExpect(jsonPath("$.errorCode").value("SERVER_OVERLOADED"));
+            mockMvc.perform(get("/api/meeting/reservations/availability")
+                            .param("representativeStudentId", String.valueOf(STUDENT))
+                            .param("participantStudentIds", (STUDENT + 1) + "," + (STUDENT + 2))
+                            .param("duration", "1"))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            for (long start : held) {
+                limiter.release(start, false);
+            }
+        }
+
+        assertThat(shed()).isEqualTo(shedBefore + 2);
+        assertThat(limiter.inFlight()).isZero();
+        mockMvc.perform(get("/api/seats/reservations").param("studentId", String.valueOf(STUDENT)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("TC-AL-02 느린 응답 → 한도 감소(한 번만), 빠른 응답이 이어지면 다시 증가")
+    void TC_AL_02() throws Exception {
+        // 느린 요청 두 건이 같은 시점에 시작 → 첫 번째만 한도를 줄인다
+        long slowA = limiter.acquire();
+        long slowB;
+        try {
+            slowB = limiter.acquire();
+        } catch (RetryAfterException e) {
+            slowB = -1;
+        }
+        Thread.sleep(250);
+        double before = limiter.limit();
+        limiter.release(slowA, false);
+        double afterFirst = limiter.limit();
+        if (slowB != -1) {
+            limiter.release(slowB, false);
+        }
+        assertThat(afterFirst).isLessThan(before);
+        assertThat(limiter.limit()).isEqualTo(afterFirst);
+
+        double gauge = meterRegistry.get("reservation.concurrency.limit").gauge().value();
+        assertThat(gauge).isEqualTo(afterFirst);
+
+        // 빠른 응답이 이어지면 (한도를 쓰고 있는 동안) 다시 늘어난다
+        for (int i = 0; i < 20; i++) {
+            limiter.release(limiter.acquire(), false);
+        }
+        assertThat(limiter.limit()).isGreaterThan(afterFirst);
+    }
+
+    @Test
+    @DisplayName("TC-AL-04 격벽이 켜져 있으면 max-limit 은 read + booking-write 격벽 자리 합계(4+4)로 잘린다")
+    void TC_AL_04() {
+        // 빠른 응답만 계속 들어와도 격벽 합계를 넘지 않는다
+        for (int i = 0; i < 500; i++) {
+            List<Long> held = new ArrayList<>();
+            try {
+                while (held.size() < 16) {
+                    held.add(limiter.acquire());
+                }
+            } catch (RetryAfterException ignored) {
+                // 한도까지 찼다
+            } finally {
+                held.forEach(start -> limiter.release(start, false));
+            }
+        }
+        assertThat(limiter.limit()).isEqualTo(8);
+
+        // 같은 컨텍스트를 쓰는 다른 테스트를 위해 한도를 초기값 근처로 되돌린다
+        while (limiter.limit() > 2) {
+            limiter.release(limiter.acquire(), true);
+        }
+    }
+
+    @Test
+    @DisplayName("TC-AL-03 응답 시간은 예약 API 만 기록 (대기 API 는 대상 아님), 5xx 응답은 한도 감소로 반영")
+    void TC_AL_03() throws Exception {
+        double countBefore = latencyCount();
+
+        mockMvc.perform(get("/api/seats/reservations").param("studentId", String.valueOf(STUDENT)))
+                .andExpect(status().isOk());
+        assertThat(latencyCount()).isEqualTo(countBefore + 1);
+
+        mockMvc.perform(get("/api/waitlist").param("studentId", String.valueOf(STUDENT)))
+                .andExpect(status().isOk());
+        assertThat(latencyCount()).isEqualTo(countBefore + 1);
+
+        // 앞선 테스트가 한도를 최소(1)까지 줄였을 수 있으므로 빠른 응답으로 최소보다 올려 둔다
+        while (limiter.limit() < 2) {
+            limiter.release(limiter.acquire(), false);
+        }
+        Thread.sleep(5);
+        double before = limiter.limit();
+        limiter.release(limiter.acquire(), true);
+        assertThat(limiter.limit()).isLessThan(before);
+        assertThat(meterRegistry.get("reservation.concurrency.latency").timer().takeSnapshot().percentileValues()).hasSize(3);
+    }
+}
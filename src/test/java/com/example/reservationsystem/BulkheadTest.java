@@ -0,0 +1,158 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.bulkhead.Bulkheads;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 트래픽 종류별 격벽 테스트
+ * - 한 종류의 자리가 모두 차도 다른 종류 요청은 영향 없이 처리
+ * - 자리가 없으면 max-wait 후 503 BULKHEAD_FULL, 포화도/거절 메트릭 반영
+ * - 응답이 끝나면(예외 포함) 자리 반납
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = {
+                "reservation.bulkhead.enabled=true",
+                "reservation.bulkhead.compartments.read.max-concurrent=1",
+                "reservation.bulkhead.compartments.read.max-wait=PT0.05S",
+                "reservation.bulkhead.compartments.booking-write.max-concurrent=2",
+                "reservation.bulkhead.compartments.booking-write.max-wait=PT0.05S",
+                "reservation.bulkhead.compartments.admin.max-concurrent=1",
+                "reservation.bulkhead.compartments.admin.max-wait=PT0.05S"
+        }
+)
+class BulkheadTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired Bulkheads bulkheads;
+    @Autowired MeterRegistry meterRegistry;
+
+
+    private static final long STUDENT = 202444401L;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+    }
+
+    private double rejected(String bulkhead) {
+        return meterRegistry.counter("reservation.bulkhead.requests", "bulkhead", bulkhead, "outcome", "rejected").count();
+    }
+
+    private double gauge(String name, String bulkhead) {
+        return meterRegistry.get(name).tag("bulkhead", bulkhead).gauge().value();
+    }
+
+    private String seatBody(long seatId, LocalDate date) {
+        return """
+                {
+                  "studentId": %d,
+                  "seatId": %d,
+                  "date": "%s",
+                  "startTime": "10:00",
+                  "durationHours": 1
+                }
+                """.formatted(STUDENT, seatId, date);
+    }
+
+    @Test
+    @DisplayName("TC-BH-01 조회 격벽 포화 → 조회 503 BULKHEAD_FULL, 예약 쓰기는 정상 처리, 반납 후 조회 정상")
+    void TC_BH_01() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(1);
+        double rejectedBefore = rejected(Bulkheads.READ);
+
+        Bulkheads.Compartment held = bulkheads.acquire(Bulkheads.READ);
+        try {
+            assertThat(gauge("reservation.bulkhead.saturation", Bulkheads.READ)).isEqualTo(1.0);
+
+            mockMvc.perform(get("/api/seats/reservations").param("studentId", String.valueOf(STUDENT)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.errorCode").value("BULKHEAD_FULL"));
+
+            mockMvc.perform(post("/api/seats/reservations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(seatBody(1L, date)))
+                    .andExpect(status().isOk());
+        } finally {
+            held.release();
+        }
+
+        assertThat(rejected(Bulkheads.READ)).isEqualTo(rejectedBefore + 1);
+        mockMvc.perform(get("/api/seats/reservations").param("studentId", String.valueOf(STUDENT)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("TC-BH-02 관리 격벽(/init) 포화 → 초기화 요청만 503, 조회/예약은 정상")
+    void TC_BH_02() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(2);
+
+        Bulkheads.Compartment held = bulkheads.acquire(Bulkheads.ADMIN);
+        try {
+            mockMvc.perform(post("/api/seats/init"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.errorCode").value("BULKHEAD_FULL"));
+
+            mockMvc.perform(get("/api/seats/reservations").param("studentId", String.valueOf(STUDENT)))
+                    .andExpect(status().isOk());
+            mockMvc.perform(post("/api/seats/reservations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(seatBody(2L, date)))
+                    .andExpect(status().isOk());
+        } finally {
+            held.release();
+        }
+    }
+
+    @Test
+    @DisplayName("TC-BH-03 실패 응답(400/409)이어도 자리 반납 → 사용 중 0")
+    void TC_BH_03() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(3);
+
+        mockMvc.perform(post("/api/seats/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(seatBody(3L, date)))
+                .andExpect(status().isOk());
+        // 같은 학생 같은 시간 → 충돌
+        mockMvc.perform(post("/api/seats/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(seatBody(4L, date)))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/api/seats/reservations").param("studentId", "not-a-number"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(gauge("reservation.bulkhead.active", Bulkheads.READ)).isZero();
+        assertThat(gauge("reservation.bulkhead.active", Bulkheads.BOOKING_WRITE)).isZero();
+    }
+}
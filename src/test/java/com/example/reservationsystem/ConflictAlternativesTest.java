@@ -0,0 +1,235 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyEngine;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 예약 충돌 시 대안 시간대 응답 테스트
+ * - SEAT_ALREADY_RESERVED / ROOM_ALREADY_RESERVED 실패 payload 에 같은 자원의 가까운 시간 + 같은 시간의 다른 자원
+ * - 요청자 일정과 겹치는 시간은 제외되고, 제안된 대안으로 다시 요청하면 성공
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class ConflictAlternativesTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired RoomOccupancyEngine roomOccupancyEngine;
+
+    @Autowired RoomRepository roomRepository;
+
+    private static final long LEADER = 202466601L;
+    private static final long P1 = 202466602L;
+    private static final long P2 = 202466603L;
+    private static final long OTHER = 202466700L;
+
+    // 좌석 1~70 은 seatId == PK
+    private static final long SEAT = 35L;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private Long roomA;
+    private Long roomB;
+    private Long roomC;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+        roomRepository.deleteAll();
+        roomA = roomRepository.save(Room.builder().capacity(4).build()).getId();
+        roomB = roomRepository.save(Room.builder().capacity(4).build()).getId();
+        roomC = roomRepository.save(Room.builder().capacity(4).build()).getId();
+    }
+
+    private void bookSeat(long studentId, long seatId, LocalDate date, LocalTime start, int hours) {
+        seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(start)
+                .durationHours(hours)
+                .build());
+    }
+
+    private void bookRoom(Long roomId, LocalDate date, LocalTime start, int hours, long leader, long p1, long p2) {
+        roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(start)
+                .duration(hours)
+                .representativeStudentId(leader)
+                .participantStudentIds(List.of(p1, p2))
+                .build());
+    }
+
+    private String seatBody(long studentId, long seatId, LocalDate date, String start) {
+        return """
+                {
+                  "studentId": %d,
+                  "seatId": %d,
+                  "date": "%s",
+                  "startTime": "%s",
+                  "durationHours": 1
+                }
+                """.formatted(studentId, seatId, date, start);
+    }
+
+    private String roomBody(Long roomId, LocalDate date, String start) {
+        return """
+                {
+                  "roomId": %d,
+                  "date": "%s",
+                  "startTime": "%s",
+                  "duration": 1,
+                  "representativeStudentId": %d,
+                  "participantStudentIds": [%d, %d]
+                }
+                """.formatted(roomId, date, start, LEADER, P1, P2);
+    }
+
+    @Test
+    @DisplayName("TC-ALT-01 좌석 충돌 → 같은 좌석 가까운 시간(내 일정 제외) + 같은 시간 가까운 좌석, 대안으로 재요청 성공")
+    void TC_ALT_01() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(1);
+        bookSeat(OTHER, SEAT, date, LocalTime.of(10, 0), 2);
+        bookSeat(LEADER, SEAT + 10, date, LocalTime.of(13, 0), 1);
+
+        mockMvc.perform(post("/api/seats/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(seatBody(LEADER, SEAT, date, "10:00")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("SEAT_ALREADY_RESERVED"))
+                .andExpect(jsonPath("$.payload.sameResource.length()").value(3))
+                .andExpect(jsonPath("$.payload.sameResource[0].startTime").value("09:00"))
+                .andExpect(jsonPath("$.payload.sameResource[1].startTime").value("12:00"))
+                .andExpect(jsonPath("$.payload.sameResource[2].startTime").value("14:00"))
+                .andExpect(jsonPath("$.payload.otherResources.length()").value(3))
+                .andExpect(jsonPath("$.payload.otherResources[0].resourceId").value(SEAT - 1))
+                .andExpect(jsonPath("$.payload.otherResources[1].resourceId").value(SEAT + 1))
+                .andExpect(jsonPath("$.payload.otherResources[2].resourceId").value(SEAT - 2))
+                .andExpect(jsonPath("$.payload.otherResources[0].startTime").value("10:00"));
+
+        mockMvc.perform(post("/api/seats/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(seatBody(LEADER, SEAT, date, "12:00")))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/seats/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(seatBody(LEADER, SEAT - 1, date, "10:00")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("TC-ALT-02 회의실 충돌 → 같은 회의실 가까운 시간(참가자 일정 제외) + 같은 시간 다른 회의실, 대안으로 재요청 성공")
+    void TC_ALT_02() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(2);
+        bookRoom(roomA, date, LocalTime.of(13, 0), 2, OTHER, OTHER + 1, OTHER + 2);
+        bookSeat(P1, SEAT, date, LocalTime.of(12, 0), 1);
+
+        mockMvc.perform(post("/api/meeting/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(roomBody(roomA, date, "14:00")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("ROOM_ALREADY_RESERVED"))
+                .andExpect(jsonPath("$.payload.sameResource.length()").value(3))
+                .andExpect(jsonPath("$.payload.sameResource[0].startTime").value("15:00"))
+                .andExpect(jsonPath("$.payload.sameResource[1].startTime").value("16:00"))
+                .andExpect(jsonPath("$.payload.sameResource[2].startTime").value("11:00"))
+                .andExpect(jsonPath("$.payload.otherResources.length()").value(2))
+                .andExpect(jsonPath("$.payload.otherResources[0].resourceId").value(roomB))
+                .andExpect(jsonPath("$.payload.otherResources[1].resourceId").value(roomC));
+
+        mockMvc.perform(post("/api/meeting/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(roomBody(roomB, date, "14:00")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("TC-ALT-03 다른 실패 코드(참가자 수 부족)는 payload 없이 기존 응답 유지")
+    void TC_ALT_03() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(3);
+
+        mockMvc.perform(post("/api/meeting/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "roomId": %d,
+                                  "date": "%s",
+                                  "startTime": "10:00",
+                                  "duration": 1,
+                                  "representativeStudentId": %d,
+                                  "participantStudentIds": [%d]
+                                }
+                                """.formatted(roomA, date, LEADER, P1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_PARTICIPANT_COUNT"))
+                .andExpect(jsonPath("$.payload").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("TC-ALT-04 회의실 충돌 + 참가자 일일 한도 소진 → 같은 길이 대안은 모두 실패하므로 빈 목록")
+    void TC_ALT_04() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(4);
+        // LEADER/P1/P2 는 회의실 일일 한도(2시간)를 다 씀
+        bookRoom(roomB, date, LocalTime.of(9, 0), 2, LEADER, P1, P2);
+        bookRoom(roomA, date, LocalTime.of(14, 0), 1, OTHER, OTHER + 1, OTHER + 2);
+
+        mockMvc.perform(post("/api/meeting/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(roomBody(roomA, date, "14:00")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("ROOM_ALREADY_RESERVED"))
+                .andExpect(jsonPath("$.payload.sameResource.length()").value(0))
+                .andExpect(jsonPath("$.payload.otherResources.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("TC-ALT-05 회의실 비트맵 지난 날짜 정리 → 어제 비트맵만 사라지고 오늘 이후는 유지")
+    void TC_ALT_05() {
+        LocalDate today = LocalDate.now(KST);
+        roomOccupancyEngine.occupy(today.minusDays(1), roomA, 0);
+        roomOccupancyEngine.occupy(today.plusDays(1), roomA, 0);
+
+        roomOccupancyEngine.pruneBefore(today);
+
+        assertThat(roomOccupancyEngine.mask(today.minusDays(1), roomA)).isZero();
+        assertThat(roomOccupancyEngine.mask(today.plusDays(1), roomA)).isEqualTo(1);
+        roomOccupancyEngine.vacate(today.plusDays(1), roomA, 0);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.idempotency.IdempotencyStore;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * Idempotency-Key 재시도 통합테스트
+ * - 같은 키로 재시도 → 저장된 응답 재생, 예약 1건만 생성
+ * - 원 요청 처리 중 동시 재시도 → 모두 같은 결과
+ * - 같은 키 + 다른 본문 → 422, 두 번째 요청은 실행되지 않음
+ * - 5xx(결과 불명) 거절은 저장하지 않음 → 같은 키 재시도가 다시 실행됨, 4xx 거절은 그대로 재생
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class IdempotencyKeyIntegrationTest {
+
+    private MockMvc mockMvc;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired IdempotencyStore idempotencyStore;
+
+    @Autowired SeatReservationRepository seatReservationRepository;
+
+    private static final long STUDENT = 202400777L;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+    }
+
+    private String randomBody(LocalDate date) {
+        return """
+            {
+              "seatId": 1,
+              "date": "%s",
+              "startTime": "%s",
+              "durationHours": 2,
+              "studentId": %d
+            }
+            """.formatted(date, LocalTime.of(10, 0), STUDENT);
+    }
+
+    private long postRandom(LocalDate date, String key) throws Exception {
+        String res = mockMvc.perform(post("/api/seats/reservations/random")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(randomBody(date)))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(res).path("payload").path("id").asLong();
+    }
+
+    @Test
+    @DisplayName("TC-IDEM-01 같은 키로 랜덤 좌석 예약 재시도 → 같은 예약 ID 재생, 좌석 1개만 예약")
+    void TC_IDEM_01() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        long first = postRandom(date, "retry-key-1");
+        long retry = postRandom(date, "retry-key-1");
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(seatReservationRepository.findByDate(date)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("TC-IDEM-02 처리 중인 요청과 같은 키로 동시 재시도 → 모두 같은 결과, 예약 1건")
+    void TC_IDEM_02() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(2);
+        int retries = 8;
+
+        ExecutorService pool = Executors.newFixedThreadPool(retries);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < retries; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return postRandom(date, "retry-key-2");
+            }));
+        }
+        start.countDown();
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<Long> f : futures) {
+            ids.add(f.get(30, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        assertThat(ids).hasSize(1);
+        assertThat(seatReservationRepository.findByDate(date)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("TC-IDEM-03 같은 키로 다른 날짜 본문 재전송 → 422 IDEMPOTENCY_KEY_REUSED, 두 번째 예약 미생성")
+    void TC_IDEM_03() throws Exception {
+        LocalDate first = LocalDate.now().plusDays(3);
+        LocalDate other = LocalDate.now().plusDays(4);
+
+        postRandom(first, "retry-key-3");
+
+        mockMvc.perform(post("/api/seats/reservations/random")
+                        .header("Idempotency-Key", "retry-key-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(randomBody(other)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.isSuccess").value(false))
+                .andExpect(jsonPath("$.message").value(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage()));
+
+        assertThat(seatReservationRepository.findByDate(first)).hasSize(1);
+        assertThat(seatReservationRepository.findByDate(other)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TC-IDEM-04 첫 시도가 503(결과 불명)으로 끝남 → 같은 키 재시도는 다시 실행, 409 같은 확정 거절은 재생")
+    void TC_IDEM_04() {
+        AtomicInteger runs = new AtomicInteger();
+        String body = "same-body";
+
+        assertThatThrownBy(() -> idempotencyStore.execute("test-timeout", "retry-key-4", body, () -> {
+            runs.incrementAndGet();
+            throw new CustomException(ErrorCode.SEAT_BOOKING_TIMEOUT);
+        })).isInstanceOf(CustomException.class);
+
+        Long retried = idempotencyStore.execute("test-timeout", "retry-key-4", body, () -> {
+            runs.incrementAndGet();
+            return 42L;
+        });
+        assertThat(retried).isEqualTo(42L);
+        assertThat(runs).hasValue(2);
+
+        assertThatThrownBy(() -> idempotencyStore.execute("test-conflict", "retry-key-5", body, () -> {
+            runs.incrementAndGet();
+            throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
+        })).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> idempotencyStore.execute("test-conflict", "retry-key-5", body, () -> {
+            runs.incrementAndGet();
+            return 43L;
+        }))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SEAT_ALREADY_RESERVED);
+        assertThat(runs).hasValue(3);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.domain.entity.Student;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import com.example.reservationsystem.testsupport.TcLogger;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 행 단위 INSERT vs JDBC 배치 INSERT 처리량 비교
+ * - 같은 세션 설정에서 배치 크기만 바꿔 Student 행을 저장
+ * - 시퀀스 ID 풀 덕분에 INSERT 전에 ID 를 알 수 있어 배치가 가능하다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest
+class InsertBatchBenchmarkTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired DataSource dataSource;
+    @Autowired RoomReservationParticipantRepository roomReservationParticipantRepository;
+    @Autowired RoomReservationRepository roomReservationRepository;
+    @Autowired SeatReservationRepository seatReservationRepository;
+    @Autowired StudentRepository studentRepository;
+
+    private static final int ROWS = 2000;
+    private static final int FLUSH_EVERY = 500;
+    private static final int BATCH_SIZE = 50;
+    private static final long STUDENT_BASE = 500000000L;
+
+    @BeforeEach
+    void setUp() {
+        roomReservationParticipantRepository.deleteAll();
+        roomReservationRepository.deleteAll();
+        seatReservationRepository.deleteAll();
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("BM-INSERT-01 행 단위 INSERT vs JDBC 배치 INSERT → 저장 건수 동일 + 처리량 출력")
+    void BM_INSERT_01() throws SQLException {
+        // 워밍업 (커넥션/시퀀스 풀/JIT)
+        insertStudents(STUDENT_BASE, 200, BATCH_SIZE);
+        studentRepository.deleteAll();
+
+        long unbatchedNanos = insertStudents(STUDENT_BASE, ROWS, 1);
+        long batchedNanos = insertStudents(STUDENT_BASE + ROWS, ROWS, BATCH_SIZE);
+
+        assertThat(studentRepository.count()).isEqualTo(ROWS * 2L);
+
+        String database;
+        try (Connection connection = dataSource.getConnection()) {
+            database = connection.getMetaData().getDatabaseProductName();
+        }
+        TcLogger.metric("[BM-INSERT-01] db=%s rows=%d batch=1 %.1f rows/s | batch=%d %.1f rows/s (x%.2f)",
+                database, ROWS,
+                rowsPerSecond(unbatchedNanos),
+                BATCH_SIZE, rowsPerSecond(batchedNanos),
+                (double) unbatchedNanos / batchedNanos);
+    }
+
+    private long insertStudents(long firstStudentId, int rows, int batchSize) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long begin = System.nanoTime();
+        tx.executeWithoutResult(status -> {
+            em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (int i = 0; i < rows; i++) {
+                em.persist(Student.of(firstStudentId + i));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+        return System.nanoTime() - begin;
+    }
+
+    private static double rowsPerSecond(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.reservationsystem;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * InsertBatchBenchmarkTest 를 실제 MySQL 에서 실행 (Docker 가 없으면 건너뜀)
+ * - MySQL 은 시퀀스가 없어 Hibernate 가 테이블 기반 ID 풀로 대체한다
+ * - rewriteBatchedStatements=true 로 배치를 multi-row INSERT 로 전송
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlInsertBatchBenchmarkTest extends InsertBatchBenchmarkTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> MYSQL.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.RoomReservationStatus;
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.NoShowSweeper;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 체크인 + 노쇼 자동 해제 테스트
+ * - 마감(시작 + 15분)까지 체크인이 없으면 좌석 예약은 삭제, 회의실 예약은 NO_SHOW 로 바뀌고 점유 비트맵이 비워진다
+ * - 체크인한 예약은 마감이 지나도 유지
+ * - 테스트에서는 내일 예약도 체크인할 수 있게 체크인 오픈을 48시간 전으로 넓힌다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = {
+                "reservation.no-show.enabled=true",
+                "reservation.no-show.check-in-open=PT48H"
+        }
+)
+class NoShowTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired NoShowSweeper noShowSweeper;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired SeatOccupancyEngine seatOccupancyEngine;
+    @Autowired RoomOccupancyEngine roomOccupancyEngine;
+
+    @Autowired RoomReservationRepository roomReservationRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired SeatReservationRepository seatReservationRepository;
+    @Autowired StudentRepository studentRepository;
+
+    private static final long LEADER = 202488801L;
+    private static final long P1 = 202488802L;
+    private static final long P2 = 202488803L;
+    private static final long OTHER = 202488900L;
+
+    // 좌석 1~70 은 seatId == PK
+    private static final long SEAT = 50L;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+        roomId = roomRepository.save(Room.builder().capacity(4).build()).getId();
+    }
+
+    private Long bookSeat(long studentId, long seatId, LocalDate date) {
+        return seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(LocalTime.of(10, 0))
+                .durationHours(2)
+                .build()).getId();
+    }
+
+    private Long bookRoom(LocalDate date) {
+        return roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(LocalTime.of(13, 0))
+                .duration(1)
+                .representativeStudentId(LEADER)
+                .participantStudentIds(List.of(P1, P2))
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("TC-NS-01 마감이 지난 예약 → 좌석 예약 삭제 / 회의실 예약 NO_SHOW, 점유 비트맵 해제, 사용 시간 환급 없음")
+    void TC_NS_01() throws Exception {
+        LocalDate yesterday = LocalDate.now(KST).minusDays(1);
+        Long seatReservationId = bookSeat(LEADER, SEAT, yesterday);
+        Long roomReservationId = bookRoom(yesterday);
+
+        // 커밋 직후 큐에 들어가고 마감이 이미 지났으므로 바로 해제된다 → 최대 5초 대기
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !seatReservationRepository.existsById(seatReservationId)
+                        && roomReservationRepository.findById(roomReservationId).orElseThrow().getStatus()
+                                == RoomReservationStatus.NO_SHOW);
+
+        assertThat(seatReservationRepository.existsById(seatReservationId)).isFalse();
+        assertThat(seatOccupancyEngine.isFree(yesterday, SEAT, LocalTime.of(10, 0), LocalTime.of(12, 0))).isTrue();
+        // 노쇼는 시작 후 취소와 같이 사용한 것으로 본다 (좌석 2시간 유지)
+        assertThat(studentRepository.findByStudentId(LEADER).orElseThrow().getSeatDailyUsedHours()).isEqualTo(2);
+
+        assertThat(roomReservationRepository.findById(roomReservationId).orElseThrow().getStatus())
+                .isEqualTo(RoomReservationStatus.NO_SHOW);
+        assertThat(roomOccupancyEngine.mask(yesterday, roomId)).isZero();
+    }
+
+    @Test
+    @DisplayName("TC-NS-02 체크인한 예약은 마감이 지나도 유지, 다른 학생/비참가자 체크인 403, 체크인 시간 밖 409")
+    void TC_NS_02() throws Exception {
+        LocalDate tomorrow = LocalDate.now(KST).plusDays(1);
+        Long seatReservationId = bookSeat(LEADER, SEAT, tomorrow);
+        Long roomReservationId = bookRoom(tomorrow);
+
+        mockMvc.perform(post("/api/seats/reservations/{id}/check-in", seatReservationId)
+                        .param("studentId", String.valueOf(OTHER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/seats/reservations/{id}/check-in", seatReservationId)
+                        .param("studentId", String.valueOf(LEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true));
+
+        mockMvc.perform(post("/api/meeting/reservations/{id}/check-in", roomReservationId)
+                        .param("studentId", String.valueOf(OTHER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/meeting/reservations/{id}/check-in", roomReservationId)
+                        .param("studentId", String.valueOf(P1)))
+                .andExpect(status().isOk());
+
+        // 마감을 지금으로 당겨 등록해도 체크인된 예약은 건너뛴다
+        noShowSweeper.track(NoShowSweeper.Kind.SEAT, seatReservationId, LocalDateTime.now(KST));
+        noShowSweeper.track(NoShowSweeper.Kind.ROOM, roomReservationId, LocalDateTime.now(KST));
+        // 해제되지 않아야 하므로 0.5초 동안 상태가 유지되는지 본다
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .until(() -> seatReservationRepository.existsById(seatReservationId)
+                        && roomReservationRepository.findById(roomReservationId).orElseThrow().getStatus()
+                                == RoomReservationStatus.RESERVED);
+
+        assertThat(seatReservationRepository.findById(seatReservationId).orElseThrow().getCheckedInAt()).isNotNull();
+        assertThat(roomReservationRepository.findById(roomReservationId).orElseThrow().getStatus())
+                .isEqualTo(RoomReservationStatus.RESERVED);
+
+        // 3일 뒤 예약은 아직 체크인 시간이 아니다
+        Long later = bookSeat(OTHER, SEAT, tomorrow.plusDays(2));
+        mockMvc.perform(post("/api/seats/reservations/{id}/check-in", later)
+                        .param("studentId", String.valueOf(OTHER)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("CHECK_IN_NOT_AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("TC-NS-03 재기동 시 체크인 전 예약만 다시 적재 (체크인/취소된 예약 제외)")
+    void TC_NS_03() throws Exception {
+        LocalDate tomorrow = LocalDate.now(KST).plusDays(1);
+        bookSeat(LEADER, SEAT, tomorrow);
+        Long checkedIn = bookSeat(OTHER, SEAT + 1, tomorrow);
+        bookRoom(tomorrow);
+        Long canceled = roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(tomorrow)
+                .startTime(LocalTime.of(15, 0))
+                .duration(1)
+                .representativeStudentId(OTHER + 1)
+                .participantStudentIds(List.of(OTHER + 2, OTHER + 3))
+                .build()).getId();
+
+        mockMvc.perform(post("/api/seats/reservations/{id}/check-in", checkedIn)
+                        .param("studentId", String.valueOf(OTHER)))
+                .andExpect(status().isOk());
+        roomReservationService.cancelMeetingReservation(canceled, OTHER + 1);
+
+        noShowSweeper.rebuild();
+
+        assertThat(noShowSweeper.pendingCount()).isEqualTo(2);
+    }
+}
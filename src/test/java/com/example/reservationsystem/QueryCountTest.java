@@ -0,0 +1,156 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.Seat;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.RoomScheduleCache;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회/취소 흐름별 SQL 실행 횟수 회귀 테스트 (hibernate.generate_statistics=true)
+ * - 연관관계는 모두 LAZY, 각 흐름은 엔티티 그래프/프로젝션으로 필요한 것만 한 번에 읽는다
+ * - 예약 건수/참가자 수가 늘어도 쿼리 수와 지연 로딩(fetch) 횟수는 그대로여야 한다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest
+class QueryCountTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired RoomScheduleCache roomScheduleCache;
+
+    @Autowired RoomRepository roomRepository;
+    @Autowired SeatRepository seatRepository;
+    @Autowired SeatReservationRepository seatReservationRepository;
+
+    private static final long LEADER = 202212121L;
+    private static final long P1 = 202111492L;
+    private static final long P2 = 202213007L;
+    private static final long P3 = 202300001L;
+
+    private Statistics statistics;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+        roomId = roomRepository.save(Room.builder().capacity(6).build()).getId();
+        roomScheduleCache.evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private List<Long> seatPks(int count) {
+        return seatRepository.findAll().stream().limit(count).map(Seat::getId).toList();
+    }
+
+    private void bookSeat(long studentId, long seatPk, LocalDate date) {
+        seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatPk)
+                .date(date)
+                .startTime(LocalTime.of(10, 0))
+                .durationHours(2)
+                .build());
+    }
+
+    private Long bookRoom(LocalDate date, LocalTime start) {
+        return roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(start)
+                .duration(1)
+                .representativeStudentId(LEADER)
+                .participantStudentIds(List.of(P1, P2, P3))
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("TC-QC-01 내 좌석 예약 3건 조회 → SQL 1회, 지연 로딩 0회")
+    void TC_QC_01() {
+        List<Long> seats = seatPks(3);
+        LocalDate base = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            bookSeat(LEADER, seats.get(i), base.plusDays(i));
+        }
+
+        statistics.clear();
+        assertThat(seatReservationService.getReservationsByStudentId(LEADER)).hasSize(3);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("TC-QC-02 내 회의실 예약 2건 조회 → SQL 1회, 회의실/대표자 지연 로딩 0회")
+    void TC_QC_02() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        bookRoom(date, LocalTime.of(10, 0));
+        bookRoom(date, LocalTime.of(13, 0));
+
+        statistics.clear();
+        assertThat(roomReservationService.getReservationsByStudentId(P1)).hasSize(2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("TC-QC-03 회의실 조회 리스트 → 첫 호출 SQL 1회, 같은 날짜 재호출 0회")
+    void TC_QC_03() {
+        LocalDate date = LocalDate.now().plusDays(2);
+        bookRoom(date, LocalTime.of(10, 0));
+        roomScheduleCache.evictAll();
+
+        statistics.clear();
+        roomReservationService.getRoomSchedules(date);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        roomReservationService.getRoomSchedules(date);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("TC-QC-04 좌석/회의실 예약 취소 → 예약자·참가자 Student 지연 로딩 0회")
+    void TC_QC_04() {
+        LocalDate date = LocalDate.now().plusDays(3);
+        bookSeat(P1, seatPks(1).get(0), date);
+        SeatReservation seatReservation = seatReservationRepository.findByDate(date).get(0);
+        Long roomReservationId = bookRoom(date, LocalTime.of(15, 0));
+
+        statistics.clear();
+        seatReservationService.cancelSeatReservation(seatReservation.getId(), P1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+
+        statistics.clear();
+        roomReservationService.cancelMeetingReservation(roomReservationId, LEADER);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+}
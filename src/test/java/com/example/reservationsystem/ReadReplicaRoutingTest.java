@@ -0,0 +1,137 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.datasource.ReadRoutingContext;
+import com.example.reservationsystem.common.datasource.ReadRoutingInterceptor;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 조회 replica 라우팅 테스트 (primary / replica 를 서로 다른 H2 인메모리 DB 로 구성)
+ * - replica 에만 표식 테이블을 만들어 두고, 트랜잭션 안에서 표식이 보이는지로 어느 DB 로 갔는지 판정
+ * - GET 요청 안의 readOnly 트랜잭션만 replica, 쓰기 직후 그 학생의 조회는 window(1초) 동안 primary
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = {
+                "reservation.datasource.replica.url=jdbc:h2:mem:replicadb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "reservation.datasource.read-your-writes-window=PT1S"
+        }
+)
+class ReadReplicaRoutingTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired @Qualifier("replicaDataSource") DataSource replicaDataSource;
+    @Autowired ReadRoutingInterceptor readRoutingInterceptor;
+
+    @Autowired SeatReservationService seatReservationService;
+
+
+    private static final long STUDENT = 202433301L;
+    private static final long OTHER = 202433302L;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+        new JdbcTemplate(replicaDataSource).execute("CREATE TABLE IF NOT EXISTS replica_marker (id INT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadRoutingContext.clear();
+    }
+
+    // 트랜잭션 안에서 표식 테이블이 보이면 replica
+    private boolean onReplica(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        Integer markers = tx.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) = 'REPLICA_MARKER'",
+                Integer.class));
+        return markers != null && markers > 0;
+    }
+
+    @Test
+    @DisplayName("TC-RW-01 GET 요청 안 readOnly → replica, 쓰기 트랜잭션 / 요청 밖 readOnly → primary")
+    void TC_RW_01() {
+        // 요청 밖 (기동 시 엔진 적재, 백그라운드 워커)
+        assertThat(onReplica(true)).isFalse();
+
+        ReadRoutingContext.enter(null);
+        assertThat(onReplica(true)).isTrue();
+        assertThat(onReplica(false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("TC-RW-02 예약 커밋 직후 본인 조회 → primary, 다른 학생 → replica, window 지나면 본인도 replica")
+    void TC_RW_02() throws Exception {
+        seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(STUDENT)
+                .seatId(1L)
+                .date(LocalDate.now(KST).plusDays(1))
+                .startTime(LocalTime.of(10, 0))
+                .durationHours(1)
+                .build());
+
+        ReadRoutingContext.enter(STUDENT);
+        assertThat(onReplica(true)).isFalse();
+
+        ReadRoutingContext.enter(OTHER);
+        assertThat(onReplica(true)).isTrue();
+
+        // window(1초)가 지나면 본인 조회도 replica
+        // ReadRoutingContext 는 스레드 로컬이므로 같은 스레드에서 확인
+        await().pollInSameThread().atMost(Duration.ofSeconds(3)).until(() -> {
+            ReadRoutingContext.enter(STUDENT);
+            return onReplica(true);
+        });
+    }
+
+    @Test
+    @DisplayName("TC-RW-03 인터셉터: GET 만 라우팅 대상(학번 파라미터 반영), POST 는 대상 아님, 요청 끝나면 해제")
+    void TC_RW_03() throws Exception {
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/seats/reservations");
+        get.setParameter("studentId", String.valueOf(STUDENT));
+        readRoutingInterceptor.preHandle(get, new MockHttpServletResponse(), new Object());
+        assertThat(ReadRoutingContext.isActive()).isTrue();
+        assertThat(ReadRoutingContext.studentId()).isEqualTo(STUDENT);
+
+        readRoutingInterceptor.afterCompletion(get, new MockHttpServletResponse(), new Object(), null);
+        assertThat(ReadRoutingContext.isActive()).isFalse();
+
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/seats/reservations");
+        readRoutingInterceptor.preHandle(post, new MockHttpServletResponse(), new Object());
+        assertThat(ReadRoutingContext.isActive()).isFalse();
+        assertThat(onReplica(true)).isFalse();
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.RecurringOccurrenceDto;
+import com.example.reservationsystem.domain.dto.RecurringReservationRequestDto;
+import com.example.reservationsystem.domain.dto.RecurringReservationResponseDto;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 회의실 반복 예약 테스트
+ * - 회차별로 회의실 충돌 / 참가자 일정 겹침 / 주간 한도를 판정하고 통과한 회차만 저장
+ * - 조회 쿼리 수는 회차 수와 무관
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class RecurringRoomReservationTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired SeatReservationService seatReservationService;
+
+    @Autowired RoomReservationParticipantRepository roomReservationParticipantRepository;
+    @Autowired RoomReservationRepository roomReservationRepository;
+    @Autowired RoomRepository roomRepository;
+
+    private static final long LEADER = 202477701L;
+    private static final long P1 = 202477702L;
+    private static final long P2 = 202477703L;
+    private static final long OTHER = 202477800L;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private Long roomId;
+    private Long otherRoomId;
+    private LocalDate firstMonday;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+        roomId = roomRepository.save(Room.builder().capacity(4).build()).getId();
+        otherRoomId = roomRepository.save(Room.builder().capacity(4).build()).getId();
+
+        // 다음 주 월요일부터 (이번 주 카운터와 겹치지 않게)
+        firstMonday = LocalDate.now(KST).plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private RecurringReservationResponseDto bookWeekly(LocalDate start, int weeks, int duration) {
+        return roomReservationService.createRecurringRoomReservations(RecurringReservationRequestDto.builder()
+                .roomId(roomId)
+                .startDate(start)
+                .endDate(start.plusWeeks(weeks - 1))
+                .startTime(LocalTime.of(10, 0))
+                .duration(duration)
+                .representativeStudentId(LEADER)
+                .participantStudentIds(List.of(P1, P2))
+                .build());
+    }
+
+    private void bookRoom(Long room, LocalDate date, int hours, long leader, long p1, long p2) {
+        roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(room)
+                .date(date)
+                .startTime(LocalTime.of(10, 0))
+                .duration(hours)
+                .representativeStudentId(leader)
+                .participantStudentIds(List.of(p1, p2))
+                .build());
+    }
+
+    @Test
+    @DisplayName("TC-REC-01 4주 반복 예약 → 4회차 모두 성공, 예약 4건 + 참가자 12행 저장")
+    void TC_REC_01() {
+        RecurringReservationResponseDto result = bookWeekly(firstMonday, 4, 2);
+
+        assertThat(result.getReservedCount()).isEqualTo(4);
+        assertThat(result.getOccurrences()).extracting(RecurringOccurrenceDto::getDate)
+                .containsExactly(firstMonday, firstMonday.plusWeeks(1), firstMonday.plusWeeks(2), firstMonday.plusWeeks(3));
+        assertThat(result.getOccurrences()).allMatch(o -> o.getReservationId() != null && o.getErrorCode() == null);
+
+        assertThat(roomReservationRepository.count()).isEqualTo(4);
+        assertThat(roomReservationParticipantRepository.count()).isEqualTo(12);
+
+        // 같은 시간 단건 예약은 회의실 충돌
+        try {
+            bookRoom(roomId, firstMonday.plusWeeks(2), 1, OTHER, OTHER + 1, OTHER + 2);
+            throw new AssertionError("expected ROOM_ALREADY_RESERVED");
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ROOM_ALREADY_RESERVED);
+        }
+    }
+
+    @Test
+    @DisplayName("TC-REC-02 회차별 실패 사유 → 회의실 충돌 / 참가자 일정 겹침 / 주간 한도 초과, 나머지 회차만 저장")
+    void TC_REC_02() {
+        // 2회차: 같은 회의실 같은 시간 선점
+        bookRoom(roomId, firstMonday.plusWeeks(1), 1, OTHER, OTHER + 1, OTHER + 2);
+        // 3회차: 참가자 P1 좌석 이용 시간과 겹침
+        seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(P1)
+                .seatId(1L)
+                .date(firstMonday.plusWeeks(2))
+                .startTime(LocalTime.of(11, 0))
+                .durationHours(1)
+                .build());
+        // 4회차 주: 대표자가 화/수 2시간씩 사용 → 주간 4시간
+        bookRoom(otherRoomId, firstMonday.plusWeeks(3).plusDays(1), 2, LEADER, OTHER + 3, OTHER + 4);
+        bookRoom(otherRoomId, firstMonday.plusWeeks(3).plusDays(2), 2, LEADER, OTHER + 3, OTHER + 4);
+
+        RecurringReservationResponseDto result = bookWeekly(firstMonday, 4, 2);
+
+        assertThat(result.getReservedCount()).isEqualTo(1);
+        assertThat(result.getOccurrences()).extracting(RecurringOccurrenceDto::getErrorCode)
+                .containsExactly(
+                        null,
+                        ErrorCode.ROOM_ALREADY_RESERVED,
+                        ErrorCode.OVERLAPPING_RESERVATION,
+                        ErrorCode.ROOM_WEEKLY_LIMIT_EXCEEDED);
+        assertThat(roomReservationRepository.count()).isEqualTo(4);
+
+        // 실패 회차에서 먼저 선점된 대표자 일정은 해제된다 → 3회차 시간에 대표자 단건 좌석 예약 가능
+        seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(LEADER)
+                .seatId(2L)
+                .date(firstMonday.plusWeeks(2))
+                .startTime(LocalTime.of(10, 0))
+                .durationHours(1)
+                .build());
+    }
+
+    @Test
+    @DisplayName("TC-REC-03 조회 쿼리 수는 회차 수와 무관 (2주 / 8주 동일)")
+    void TC_REC_03() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        bookWeekly(firstMonday, 2, 1);
+        long twoWeeks = statistics.getQueryExecutionCount();
+
+        statistics.clear();
+        bookWeekly(firstMonday.plusDays(1), 8, 1);
+        long eightWeeks = statistics.getQueryExecutionCount();
+
+        assertThat(eightWeeks).isEqualTo(twoWeeks);
+        assertThat(roomReservationRepository.count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("TC-REC-04 기간 오류(종료일 < 시작일, 16주 초과) → INVALID_RECURRENCE, API 정상 요청 → 201 + 회차별 결과")
+    void TC_REC_04() throws Exception {
+        try {
+            roomReservationService.createRecurringRoomReservations(RecurringReservationRequestDto.builder()
+                    .roomId(roomId)
+                    .startDate(firstMonday)
+                    .endDate(firstMonday.minusDays(1))
+                    .startTime(LocalTime.of(10, 0))
+                    .duration(1)
+                    .representativeStudentId(LEADER)
+                    .participantStudentIds(List.of(P1, P2))
+                    .build());
+            throw new AssertionError("expected INVALID_RECURRENCE");
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_RECURRENCE);
+        }
+
+        try {
+            bookWeekly(firstMonday, 17, 1);
+            throw new AssertionError("expected INVALID_RECURRENCE");
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_RECURRENCE);
+        }
+        assertThat(roomReservationRepository.count()).isZero();
+
+        mockMvc.perform(post("/api/meeting/reservations/recurring")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "roomId": %d,
+                                  "startDate": "%s",
+                                  "endDate": "%s",
+                                  "startTime": "14:00",
+                                  "duration": 1,
+                                  "representativeStudentId": %d,
+                                  "participantStudentIds": [%d, %d]
+                                }
+                                """.formatted(roomId, firstMonday, firstMonday.plusWeeks(2), LEADER, P1, P2)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.payload.reservedCount").value(3))
+                .andExpect(jsonPath("$.payload.occurrences.length()").value(3))
+                .andExpect(jsonPath("$.payload.occurrences[0].date").value(firstMonday.toString()))
+                .andExpect(jsonPath("$.payload.occurrences[0].errorCode").doesNotExist());
+    }
+}
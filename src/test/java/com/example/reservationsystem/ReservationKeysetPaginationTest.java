@@ -0,0 +1,209 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.CursorPageDto;
+import com.example.reservationsystem.domain.dto.ReservationDetailDto;
+import com.example.reservationsystem.domain.dto.ReservationScope;
+import com.example.reservationsystem.domain.dto.SeatReservationResponseDto;
+import com.example.reservationsystem.domain.entity.*;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 내 예약 키셋 페이지 조회 테스트
+ * - 다가오는 예약은 가까운 순, 지난 예약은 최근 순으로 커서를 따라가며 빠짐/중복 없이 조회
+ * - 같은 날짜·시작 시간은 id 로 순서를 고정
+ * - 페이지 파라미터가 없으면 기존 전체 목록 응답 유지
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class ReservationKeysetPaginationTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+
+    @Autowired RoomReservationParticipantRepository roomReservationParticipantRepository;
+    @Autowired RoomReservationRepository roomReservationRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired SeatRepository seatRepository;
+    @Autowired SeatReservationRepository seatReservationRepository;
+    @Autowired StudentRepository studentRepository;
+
+    private static final long S1 = 202411111L;
+    // 서비스의 지난/다가오는 기준과 같은 시간대
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private Student student;
+    private List<Seat> seats;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+        seats = seatRepository.findAll();
+        student = studentRepository.save(Student.of(S1));
+    }
+
+    // 어제부터 과거로 3일, 내일부터 5일 → 날짜마다 09:00, 09:00(다른 좌석), 13:00 예약 3건
+    private void seedSeatReservations() {
+        LocalDate today = LocalDate.now(KST);
+        List<SeatReservation> rows = new ArrayList<>();
+        for (int d = -3; d <= 5; d++) {
+            if (d == 0) {
+                continue;
+            }
+            LocalDate date = today.plusDays(d);
+            rows.add(SeatReservation.of(seats.get(0), student, date, LocalTime.of(9, 0), 2));
+            rows.add(SeatReservation.of(seats.get(1), student, date, LocalTime.of(9, 0), 2));
+            rows.add(SeatReservation.of(seats.get(2), student, date, LocalTime.of(13, 0), 2));
+        }
+        seatReservationRepository.saveAll(rows);
+    }
+
+    private List<SeatReservationResponseDto> readAllSeatPages(ReservationScope scope, int size) {
+        List<SeatReservationResponseDto> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDto<SeatReservationResponseDto> page =
+                    seatReservationService.getReservationsByStudentId(S1, scope, cursor, size);
+            assertThat(page.getItems().size()).isLessThanOrEqualTo(size);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+        return all;
+    }
+
+    @Test
+    @DisplayName("TC-PAGE-01 다가오는 좌석 예약 15건을 4건씩 → 가까운 순, 빠짐/중복 없음")
+    void TC_PAGE_01() {
+        seedSeatReservations();
+
+        List<SeatReservationResponseDto> upcoming = readAllSeatPages(ReservationScope.UPCOMING, 4);
+
+        assertThat(upcoming).hasSize(15);
+        assertThat(upcoming).extracting(SeatReservationResponseDto::getId).doesNotHaveDuplicates();
+        assertThat(upcoming).allMatch(r -> r.getDate().isAfter(LocalDate.now(KST)));
+        assertThat(upcoming).allMatch(r -> r.getStudentId().equals(S1));
+        for (int i = 1; i < upcoming.size(); i++) {
+            SeatReservationResponseDto prev = upcoming.get(i - 1);
+            SeatReservationResponseDto cur = upcoming.get(i);
+            int byDate = prev.getDate().compareTo(cur.getDate());
+            int byTime = prev.getStartTime().compareTo(cur.getStartTime());
+            assertThat(byDate < 0 || (byDate == 0 && (byTime < 0 || (byTime == 0 && prev.getId() < cur.getId()))))
+                    .as("order at %d", i)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("TC-PAGE-02 지난 좌석 예약 9건을 2건씩 → 최근 순, 빠짐/중복 없음")
+    void TC_PAGE_02() {
+        seedSeatReservations();
+
+        List<SeatReservationResponseDto> past = readAllSeatPages(ReservationScope.PAST, 2);
+
+        assertThat(past).hasSize(9);
+        assertThat(past).extracting(SeatReservationResponseDto::getId).doesNotHaveDuplicates();
+        assertThat(past.get(0).getDate()).isEqualTo(LocalDate.now(KST).minusDays(1));
+        assertThat(past.get(0).getStartTime()).isEqualTo(LocalTime.of(13, 0));
+        assertThat(past.get(past.size() - 1).getDate()).isEqualTo(LocalDate.now(KST).minusDays(3));
+    }
+
+    @Test
+    @DisplayName("TC-PAGE-03 다가오는 회의실 예약 페이지 → 참가자 기준으로 가까운 순 조회")
+    void TC_PAGE_03() {
+        Room room = roomRepository.save(Room.builder().capacity(4).build());
+        LocalDate today = LocalDate.now(KST);
+        List<RoomReservation> reservations = new ArrayList<>();
+        for (int d = -2; d <= 3; d++) {
+            if (d != 0) {
+                reservations.add(RoomReservation.of(room, student, today.plusDays(d), LocalTime.of(10, 0), 1));
+            }
+        }
+        roomReservationRepository.saveAll(reservations);
+        roomReservationParticipantRepository.saveAll(reservations.stream()
+                .map(r -> RoomReservationParticipant.of(r, student, true))
+                .toList());
+
+        CursorPageDto<ReservationDetailDto> first =
+                roomReservationService.getReservationsByStudentId(S1, ReservationScope.UPCOMING, null, 2);
+        CursorPageDto<ReservationDetailDto> second =
+                roomReservationService.getReservationsByStudentId(S1, ReservationScope.UPCOMING, first.getNextCursor(), 2);
+
+        assertThat(first.getItems()).extracting(ReservationDetailDto::getDate)
+                .containsExactly(today.plusDays(1), today.plusDays(2));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems()).extracting(ReservationDetailDto::getDate)
+                .containsExactly(today.plusDays(3));
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getItems().get(0).getLeaderStudentId()).isEqualTo(S1);
+
+        CursorPageDto<ReservationDetailDto> past =
+                roomReservationService.getReservationsByStudentId(S1, ReservationScope.PAST, null, 10);
+        assertThat(past.getItems()).extracting(ReservationDetailDto::getDate)
+                .containsExactly(today.minusDays(1), today.minusDays(2));
+    }
+
+    @Test
+    @DisplayName("TC-PAGE-04 잘못된 커서/size → 400, 페이지 파라미터 없으면 기존 목록 응답")
+    void TC_PAGE_04() throws Exception {
+        seedSeatReservations();
+
+        try {
+            seatReservationService.getReservationsByStudentId(S1, ReservationScope.UPCOMING, "not-a-cursor", 5);
+            throw new AssertionError("expected INVALID_CURSOR");
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+
+        mockMvc.perform(get("/api/seats/reservations")
+                        .param("studentId", String.valueOf(S1))
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/seats/reservations")
+                        .param("studentId", String.valueOf(S1))
+                        .param("scope", "upcoming")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.items.length()").value(5))
+                .andExpect(jsonPath("$.payload.hasNext").value(true));
+
+        mockMvc.perform(get("/api/seats/reservations")
+                        .param("studentId", String.valueOf(S1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.length()").value(24));
+    }
+}
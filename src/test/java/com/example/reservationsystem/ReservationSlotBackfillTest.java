@@ -0,0 +1,120 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.occupancy.RoomOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.ReservationSlotBackfill;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬롯 행 백필 테스트 (슬롯 테이블 도입 전에 저장된 예약)
+ * - 좌석 예약 / RESERVED 회의실 예약 / 참가자의 슬롯 행을 채우고 회의실 점유 비트맵을 다시 만든다
+ * - 취소된 회의실 예약은 채우지 않는다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest
+class ReservationSlotBackfillTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired ReservationSlotBackfill reservationSlotBackfill;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired RoomOccupancyEngine roomOccupancyEngine;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Autowired RoomRepository roomRepository;
+    @Autowired SeatRepository seatRepository;
+
+    private static final long LEADER = 202455501L;
+    private static final long P1 = 202455502L;
+    private static final long P2 = 202455503L;
+
+    private Long roomId;
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+        seatId = seatRepository.findAll().get(0).getId();
+        roomId = roomRepository.save(Room.builder().capacity(4).build()).getId();
+    }
+
+    private Long bookRoom(LocalDate date, LocalTime start) {
+        return roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(start)
+                .duration(2)
+                .representativeStudentId(LEADER)
+                .participantStudentIds(List.of(P1, P2))
+                .build()).getId();
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    // 슬롯 테이블 도입 전 상태: 예약 행만 있고 슬롯 행은 없다 (기동 시 재구성된 비트맵도 비어 있다)
+    private void dropSlotRows() {
+        jdbcTemplate.update("DELETE FROM seat_reservation_slot");
+        jdbcTemplate.update("DELETE FROM room_reservation_slot");
+        jdbcTemplate.update("DELETE FROM student_reservation_slot");
+        roomOccupancyEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("TC-BF-01 슬롯 행이 없는 좌석/회의실 예약 → 백필 후 슬롯 행 생성, 회의실 비트맵 복구, 취소 예약은 제외")
+    void TC_BF_01() {
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(LEADER)
+                .seatId(seatId)
+                .date(date)
+                .startTime(LocalTime.of(9, 0))
+                .durationHours(2)
+                .build());
+        // 일일 한도(2시간) 때문에 취소(환불)를 먼저 한다
+        Long canceled = bookRoom(date, LocalTime.of(16, 0));
+        roomReservationService.cancelMeetingReservation(canceled, LEADER);
+        bookRoom(date, LocalTime.of(13, 0));
+
+        dropSlotRows();
+        assertThat(roomOccupancyEngine.mask(date, roomId)).isZero();
+
+        reservationSlotBackfill.backfill();
+
+        // 좌석 2시간, RESERVED 회의실 2시간 (취소된 16시 예약 제외)
+        assertThat(count("seat_reservation_slot")).isEqualTo(2);
+        assertThat(count("room_reservation_slot")).isEqualTo(2);
+        // 좌석 예약자 2시간 + 회의실 참가자 3명 × 2시간
+        assertThat(count("student_reservation_slot")).isEqualTo(2 + 3 * 2);
+        assertThat(roomOccupancyEngine.mask(date, roomId))
+                .isEqualTo(TimeSlots.mask(LocalTime.of(13, 0), LocalTime.of(15, 0)));
+
+        // 다시 돌려도 이미 채운 예약은 건드리지 않는다
+        reservationSlotBackfill.backfill();
+        assertThat(count("student_reservation_slot")).isEqualTo(2 + 3 * 2);
+    }
+}
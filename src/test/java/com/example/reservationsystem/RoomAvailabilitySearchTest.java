@@ -0,0 +1,199 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.RoomAvailabilityDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.Seat;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.RoomAvailabilityService;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 회의실 빈 시간 검색 테스트
+ * - 참가자 좌석/회의실 일정, 회의실 예약, 일일 한도를 모두 반영한 후보만 반환
+ * - 반환된 후보로 실제 예약하면 성공해야 한다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class RoomAvailabilitySearchTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired RoomAvailabilityService roomAvailabilityService;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+
+    @Autowired RoomReservationRepository roomReservationRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired SeatRepository seatRepository;
+
+    private static final long LEADER = 202455501L;
+    private static final long P1 = 202455502L;
+    private static final long P2 = 202455503L;
+    private static final long OTHER = 202455600L;
+
+    // 서비스의 "오늘" 기준과 같은 시간대 (내일 이후 날짜만 사용해 현재 시각의 영향을 받지 않게 한다)
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private Long roomA;
+    private Long roomB;
+    private Seat seat;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+        roomRepository.deleteAll();
+        seat = seatRepository.findAll().get(0);
+        roomA = roomRepository.save(Room.builder().capacity(4).build()).getId();
+        roomB = roomRepository.save(Room.builder().capacity(4).build()).getId();
+    }
+
+    private List<RoomAvailabilityDto> search(int duration, LocalDate from, LocalDate to) {
+        return roomAvailabilityService.search(LEADER, List.of(P1, P2), duration, from, to, RoomAvailabilityService.MAX_SIZE);
+    }
+
+    private Long bookRoom(Long roomId, LocalDate date, LocalTime start, int hours, long leader, long p1, long p2) {
+        return roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(start)
+                .duration(hours)
+                .representativeStudentId(leader)
+                .participantStudentIds(List.of(p1, p2))
+                .build()).getId();
+    }
+
+    private static boolean startsAt(RoomAvailabilityDto o, Long roomId, int hour) {
+        return o.getRoomId().equals(roomId) && o.getStartTime().equals(LocalTime.of(hour, 0));
+    }
+
+    @Test
+    @DisplayName("TC-AV-01 참가자 좌석 10~12시 + 회의실A 13시 예약 → 해당 시간 제외, 시작 시간 → 회의실 순 정렬")
+    void TC_AV_01() {
+        LocalDate date = LocalDate.now(KST).plusDays(1);
+        seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(P1)
+                .seatId(seat.getId())
+                .date(date)
+                .startTime(LocalTime.of(10, 0))
+                .durationHours(2)
+                .build());
+        bookRoom(roomA, date, LocalTime.of(13, 0), 1, OTHER, OTHER + 1, OTHER + 2);
+
+        List<RoomAvailabilityDto> options = search(1, date, date);
+
+        // 09, 12, 14~17시 회의실 A/B + 13시 회의실 B
+        assertThat(options).hasSize(13);
+        assertThat(options).noneMatch(o -> o.getStartTime().equals(LocalTime.of(10, 0))
+                || o.getStartTime().equals(LocalTime.of(11, 0)));
+        assertThat(options).noneMatch(o -> startsAt(o, roomA, 13));
+        assertThat(options.get(0)).matches(o -> startsAt(o, roomA, 9));
+        assertThat(options.get(1)).matches(o -> startsAt(o, roomB, 9));
+        assertThat(options.get(2)).matches(o -> startsAt(o, roomA, 12));
+        assertThat(options.get(4)).matches(o -> startsAt(o, roomB, 13));
+        assertThat(options.get(4).getEndTime()).isEqualTo(LocalTime.of(14, 0));
+    }
+
+    @Test
+    @DisplayName("TC-AV-02 대표자가 그날 일일 한도(2시간)를 다 쓴 경우 → 그날 후보 없음, 다음 날부터 반환")
+    void TC_AV_02() {
+        LocalDate date = LocalDate.now(KST).plusDays(2);
+        bookRoom(roomB, date, LocalTime.of(9, 0), 2, LEADER, OTHER, OTHER + 1);
+
+        List<RoomAvailabilityDto> options = search(1, date, date.plusDays(1));
+
+        assertThat(options).isNotEmpty();
+        assertThat(options).allMatch(o -> o.getDate().equals(date.plusDays(1)));
+        // 2시간 회의는 연속 2슬롯이 비어야 하므로 17시 시작은 없다
+        assertThat(search(2, date.plusDays(1), date.plusDays(1)))
+                .hasSize(16)
+                .noneMatch(o -> o.getStartTime().equals(LocalTime.of(17, 0)));
+    }
+
+    @Test
+    @DisplayName("TC-AV-03 검색 결과 첫 후보로 예약 → 성공, 재검색 시 그날 후보 없음(한도 소진)")
+    void TC_AV_03() {
+        LocalDate date = LocalDate.now(KST).plusDays(3);
+        bookRoom(roomA, date, LocalTime.of(9, 0), 2, OTHER, OTHER + 1, OTHER + 2);
+        bookRoom(roomB, date, LocalTime.of(9, 0), 1, OTHER + 3, OTHER + 4, OTHER + 5);
+
+        RoomAvailabilityDto first = search(2, date, date).get(0);
+        assertThat(first).matches(o -> startsAt(o, roomB, 10));
+
+        Long id = bookRoom(first.getRoomId(), first.getDate(), first.getStartTime(), 2, LEADER, P1, P2);
+        assertThat(roomReservationRepository.findById(id)).isPresent();
+
+        assertThat(search(1, date, date)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TC-AV-04 참가자 3명 미만 / 지난 날짜 / 14일 초과 → 400, 정상 조건 API → 200")
+    void TC_AV_04() throws Exception {
+        LocalDate tomorrow = LocalDate.now(KST).plusDays(1);
+
+        try {
+            roomAvailabilityService.search(LEADER, List.of(P1), 1, tomorrow, tomorrow, 10);
+            throw new AssertionError("expected INVALID_PARTICIPANT_COUNT");
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_PARTICIPANT_COUNT);
+        }
+
+        mockMvc.perform(get("/api/meeting/reservations/availability")
+                        .param("representativeStudentId", String.valueOf(LEADER))
+                        .param("participantStudentIds", P1 + "," + P2)
+                        .param("duration", "1")
+                        .param("from", tomorrow.minusDays(2).toString()))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/meeting/reservations/availability")
+                        .param("representativeStudentId", String.valueOf(LEADER))
+                        .param("participantStudentIds", P1 + "," + P2)
+                        .param("duration", "1")
+                        .param("from", tomorrow.toString())
+                        .param("to", tomorrow.plusDays(14).toString()))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/meeting/reservations/availability")
+                        .param("representativeStudentId", String.valueOf(LEADER))
+                        .param("participantStudentIds", P1 + "," + P2)
+                        .param("duration", "2")
+                        .param("from", tomorrow.toString())
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.length()").value(3))
+                .andExpect(jsonPath("$.payload[0].startTime").value("09:00"))
+                .andExpect(jsonPath("$.payload[0].endTime").value("11:00"))
+                .andExpect(jsonPath("$.payload[2].startTime").value("10:00"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.RoomReservationTimeDto;
+import com.example.reservationsystem.domain.dto.RoomScheduleDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.RoomReservationStatus;
+import com.example.reservationsystem.domain.repository.RoomRepository;
+import com.example.reservationsystem.domain.service.NoShowService;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.RoomScheduleCache;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 날짜별 회의실 일정표 캐시 무효화 테스트
+ * - 조회로 캐시를 채운 뒤 예약 생성 / 취소 / 노쇼 해제 / 회의실 추가가 커밋되면 다음 조회에 바로 보인다
+ * - 변경이 없으면 같은 캐시 결과를 그대로 돌려준다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest
+class RoomScheduleCacheTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired NoShowService noShowService;
+    @Autowired RoomScheduleCache roomScheduleCache;
+    @Autowired RoomRepository roomRepository;
+
+    private static final long LEADER = 202466601L;
+    private static final long P1 = 202466602L;
+    private static final long P2 = 202466603L;
+
+    private Long roomId;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+        roomRepository.deleteAll();
+        roomId = roomRepository.save(Room.builder().capacity(4).build()).getId();
+        date = LocalDate.now().plusDays(3);
+        roomScheduleCache.evictAll();
+    }
+
+    private Long bookRoom(LocalTime start) {
+        return roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(start)
+                .duration(1)
+                .representativeStudentId(LEADER)
+                .participantStudentIds(List.of(P1, P2))
+                .build()).getId();
+    }
+
+    private List<RoomReservationTimeDto> reservationsOf(List<RoomScheduleDto> schedules) {
+        return schedules.stream()
+                .filter(s -> s.getRoomId().equals(roomId))
+                .findFirst()
+                .orElseThrow()
+                .getReservations();
+    }
+
+    @Test
+    @DisplayName("TC-RSC-01 조회 → 예약 생성 → 재조회 시 새 예약이 보이고, 변경이 없으면 같은 캐시 결과")
+    void TC_RSC_01() {
+        List<RoomScheduleDto> before = roomReservationService.getRoomSchedules(date);
+        assertThat(reservationsOf(before)).isEmpty();
+        assertThat(roomReservationService.getRoomSchedules(date)).isSameAs(before);
+
+        Long reservationId = bookRoom(LocalTime.of(10, 0));
+
+        List<RoomScheduleDto> after = roomReservationService.getRoomSchedules(date);
+        assertThat(after).isNotSameAs(before);
+        assertThat(reservationsOf(after))
+                .extracting(RoomReservationTimeDto::getId, RoomReservationTimeDto::getStatus)
+                .containsExactly(tuple(reservationId, RoomReservationStatus.RESERVED));
+        // 다른 날짜 캐시는 건드리지 않는다
+        assertThat(reservationsOf(roomReservationService.getRoomSchedules(date.plusDays(1)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TC-RSC-02 예약 후 조회 → 취소 → 재조회 시 취소 상태로 보임")
+    void TC_RSC_02() {
+        Long reservationId = bookRoom(LocalTime.of(11, 0));
+        assertThat(reservationsOf(roomReservationService.getRoomSchedules(date)))
+                .extracting(RoomReservationTimeDto::getStatus)
+                .containsExactly(RoomReservationStatus.RESERVED);
+
+        roomReservationService.cancelMeetingReservation(reservationId, LEADER);
+
+        assertThat(reservationsOf(roomReservationService.getRoomSchedules(date)))
+                .extracting(RoomReservationTimeDto::getStatus)
+                .containsExactly(RoomReservationStatus.CANCELED_REFUND);
+    }
+
+    @Test
+    @DisplayName("TC-RSC-03 예약 후 조회 → 노쇼 해제 → 재조회 시 NO_SHOW 로 보임")
+    void TC_RSC_03() {
+        Long reservationId = bookRoom(LocalTime.of(14, 0));
+        assertThat(reservationsOf(roomReservationService.getRoomSchedules(date)))
+                .extracting(RoomReservationTimeDto::getStatus)
+                .containsExactly(RoomReservationStatus.RESERVED);
+
+        assertThat(noShowService.releaseRoom(reservationId)).isTrue();
+
+        assertThat(reservationsOf(roomReservationService.getRoomSchedules(date)))
+                .extracting(RoomReservationTimeDto::getStatus)
+                .containsExactly(RoomReservationStatus.NO_SHOW);
+    }
+
+    @Test
+    @DisplayName("TC-RSC-04 조회 → 회의실 추가 → 재조회 시 새 회의실이 보임")
+    void TC_RSC_04() {
+        assertThat(roomReservationService.getRoomSchedules(date))
+                .extracting(RoomScheduleDto::getRoomId)
+                .containsExactly(roomId);
+
+        Long added = roomRepository.save(Room.builder().capacity(6).build()).getId();
+
+        assertThat(roomReservationService.getRoomSchedules(date))
+                .extracting(RoomScheduleDto::getRoomId)
+                .containsExactly(roomId, added);
+    }
+}
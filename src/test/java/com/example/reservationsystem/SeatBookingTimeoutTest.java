@@ -0,0 +1,61 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.repository.SeatRepository;
+import com.example.reservationsystem.domain.service.SeatReservationDispatcher;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파이프라인 결과 대기 시간 초과 테스트
+ * - 배치 창(1초)이 대기 한도(50ms)보다 길면 요청 스레드는 무기한 기다리지 않고 503 코드로 끝난다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "reservation.seat.booking-mode=PIPELINE",
+        "reservation.seat.pipeline.window=PT1S",
+        "reservation.seat.await-timeout=PT0.05S"
+})
+class SeatBookingTimeoutTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired SeatReservationDispatcher seatReservationDispatcher;
+    @Autowired SeatRepository seatRepository;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.ensureSeats();
+    }
+
+    @Test
+    @DisplayName("TC-PIPE-TO-01 결과 대기 한도 초과 → SEAT_BOOKING_TIMEOUT (503)")
+    void TC_PIPE_TO_01() {
+        SeatReservationRequestDto req = SeatReservationRequestDto.builder()
+                .studentId(701000001L)
+                .seatId(seatRepository.findAll().get(0).getId())
+                .date(LocalDate.now().plusDays(40))
+                .startTime(LocalTime.of(9, 0))
+                .durationHours(1)
+                .build();
+
+        assertThatThrownBy(() -> seatReservationDispatcher.createSeatReservation(req))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SEAT_BOOKING_TIMEOUT);
+    }
+}
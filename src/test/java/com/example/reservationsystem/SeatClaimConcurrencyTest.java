@@ -0,0 +1,114 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.SeatBookingLoad;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import com.example.reservationsystem.testsupport.TcLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 슬롯 선점 동시성 스트레스 테스트
+ * - 같은 (좌석, 날짜, 슬롯) 동시 요청 → 정확히 1건만 성공
+ * - 서로 다른 좌석 요청은 병렬로 모두 성공, 이중 예약 0건
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest
+class SeatClaimConcurrencyTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired SeatReservationRepository seatReservationRepository;
+
+    private static final int THREADS = 16;
+    private static final long STUDENT_BASE = 400000000L;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+    }
+
+    private SeatReservationRequestDto request(long studentId, long seatId, LocalDate date, LocalTime start) {
+        return SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(start)
+                .durationHours(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("CT-SEAT-CLAIM-01 같은 좌석/시간 동시 예약 → 1건만 성공")
+    void CT_SEAT_CLAIM_01() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(2);
+        int contenders = 64;
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < contenders; i++) {
+            long studentId = STUDENT_BASE + i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    seatReservationService.createSeatReservation(request(studentId, 1L, date, LocalTime.of(10, 0)));
+                    success.incrementAndGet();
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SEAT_ALREADY_RESERVED);
+                    conflict.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(conflict.get()).isEqualTo(contenders - 1);
+        assertThat(seatReservationRepository.findByDate(date)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("CT-SEAT-CLAIM-02 좌석 70석 x 4타임 중복 요청 동시 처리 → 이중 예약 0건 + 처리량 출력")
+    void CT_SEAT_CLAIM_02() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(3);
+        // 같은 (좌석, 타임)을 서로 다른 학생이 2번씩 요청
+        List<SeatReservationRequestDto> requests = SeatBookingLoad.seatGrid(date, STUDENT_BASE + 1000);
+
+        AtomicInteger success = new AtomicInteger();
+        double throughput = SeatBookingLoad.run(requests, THREADS, seatReservationService::createSeatReservation, success);
+
+        assertThat(success.get()).isEqualTo(SeatBookingLoad.BOOKABLE);
+        SeatBookingLoad.assertNoDoubleBooking(seatReservationRepository.findByDate(date), SeatBookingLoad.BOOKABLE);
+
+        TcLogger.metric("[CT-SEAT-CLAIM-02] requests=%d booked=%d threads=%d elapsed=%.3fs throughput=%.1f req/s",
+                requests.size(), success.get(), THREADS, requests.size() / throughput, throughput);
+    }
+}
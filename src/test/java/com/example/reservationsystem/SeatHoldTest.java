@@ -0,0 +1,204 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatHoldDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.SeatHoldService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 좌석 임시 선점(hold) → 확정(confirm) 테스트
+ * - 선점된 좌석은 /availability, 랜덤 배정, 다른 학생의 지정 예약에서 제외
+ * - 만료는 타이밍 휠이 처리 (테스트는 2초 선점, 0.1초 틱)
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = {
+                "reservation.seat.hold.ttl=PT2S",
+                "reservation.seat.hold.tick=PT0.1S"
+        }
+)
+class SeatHoldTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired SeatHoldService seatHoldService;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired SeatOccupancyEngine seatOccupancyEngine;
+
+    @Autowired SeatReservationRepository seatReservationRepository;
+
+    private static final long STUDENT = 202499001L;
+    private static final long OTHER = 202499002L;
+    private static final long STUDENT_BASE = 202499100L;
+
+    // 좌석 1~70 은 seatId == PK
+    private static final long SEAT = 42L;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+    }
+
+    private static SeatReservationRequestDto request(long studentId, long seatId, LocalDate date) {
+        return SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(LocalTime.of(10, 0))
+                .durationHours(2)
+                .build();
+    }
+
+    private static void expectError(ErrorCode expected, Runnable action) {
+        try {
+            action.run();
+            throw new AssertionError("expected " + expected);
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("TC-HOLD-01 선점 → 예약 현황에 포함 + 다른 학생 지정 예약 실패 → 확정 시 예약 저장")
+    void TC_HOLD_01() {
+        LocalDate date = LocalDate.now(KST).plusDays(1);
+
+        SeatHoldDto hold = seatHoldService.hold(request(STUDENT, SEAT, date));
+        assertThat(hold.getEndTime()).isEqualTo(LocalTime.of(12, 0));
+        assertThat(seatReservationService.getReservedSeatIds(date, LocalTime.of(10, 0), 2)).contains((int) SEAT);
+        assertThat(seatReservationRepository.count()).isZero();
+
+        expectError(ErrorCode.SEAT_ALREADY_RESERVED,
+                () -> seatReservationService.createSeatReservation(request(OTHER, SEAT, date)));
+        expectError(ErrorCode.SEAT_ALREADY_RESERVED,
+                () -> seatHoldService.hold(request(OTHER, SEAT, date)));
+
+        Long reservationId = seatHoldService.confirm(hold.getHoldId(), STUDENT).getId();
+
+        assertThat(seatReservationRepository.findById(reservationId)).isPresent();
+        assertThat(seatOccupancyEngine.isFree(date, SEAT, LocalTime.of(10, 0), LocalTime.of(12, 0))).isFalse();
+        // 확정된 선점은 다시 쓸 수 없다
+        expectError(ErrorCode.SEAT_HOLD_NOT_FOUND, () -> seatHoldService.confirm(hold.getHoldId(), STUDENT));
+    }
+
+    @Test
+    @DisplayName("TC-HOLD-02 70석 모두 선점 → 랜덤 예약 NO_AVAILABLE_SEATS, 1석 해제 → 랜덤 예약이 그 좌석 배정")
+    void TC_HOLD_02() {
+        LocalDate date = LocalDate.now(KST).plusDays(2);
+
+        List<SeatHoldDto> holds = new ArrayList<>();
+        for (int seatId = 1; seatId <= SeatOccupancyEngine.SEAT_COUNT; seatId++) {
+            holds.add(seatHoldService.hold(request(STUDENT_BASE + seatId, seatId, date)));
+        }
+
+        expectError(ErrorCode.NO_AVAILABLE_SEATS,
+                () -> seatReservationService.createRandomSeatReservation(request(OTHER, SEAT, date)));
+
+        seatHoldService.release(holds.get((int) SEAT - 1).getHoldId(), STUDENT_BASE + SEAT);
+        Long reservationId = seatReservationService.createRandomSeatReservation(request(OTHER, SEAT, date)).getId();
+
+        assertThat(seatReservationRepository.findById(reservationId))
+                .get()
+                .matches(r -> r.getSeat().getId() == SEAT);
+
+        for (SeatHoldDto hold : holds) {
+            if (hold.getSeatId() != SEAT) {
+                seatHoldService.release(hold.getHoldId(), STUDENT_BASE + hold.getSeatId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("TC-HOLD-03 학생당 선점 1개 → 두 번째 선점 거절, 만료되면 좌석이 풀리고 확정 불가(SEAT_HOLD_NOT_FOUND)")
+    void TC_HOLD_03() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(3);
+
+        SeatHoldDto hold = seatHoldService.hold(request(STUDENT, SEAT, date));
+        expectError(ErrorCode.SEAT_HOLD_LIMIT_EXCEEDED, () -> seatHoldService.hold(request(STUDENT, SEAT + 1, date)));
+
+        // ttl 2초 + 틱 0.1초 → 최대 5초 대기
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> seatOccupancyEngine.isFree(date, SEAT, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+
+        expectError(ErrorCode.SEAT_HOLD_NOT_FOUND, () -> seatHoldService.confirm(hold.getHoldId(), STUDENT));
+
+        // 만료 후에는 새로 선점 가능
+        SeatHoldDto again = seatHoldService.hold(request(STUDENT, SEAT, date));
+        seatHoldService.release(again.getHoldId(), STUDENT);
+    }
+
+    @Test
+    @DisplayName("TC-HOLD-04 API: 선점 201 → 다른 학번 확정 404 → 해제 200 → 확정 404")
+    void TC_HOLD_04() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(4);
+
+        String response = mockMvc.perform(post("/api/seats/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "studentId": %d,
+                                  "seatId": %d,
+                                  "date": "%s",
+                                  "startTime": "10:00",
+                                  "durationHours": 2
+                                }
+                                """.formatted(STUDENT, SEAT, date)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.payload.holdId").exists())
+                .andExpect(jsonPath("$.payload.seatId").value(SEAT))
+                .andExpect(jsonPath("$.payload.endTime").value("12:00"))
+                .andReturn().getResponse().getContentAsString();
+        String holdId = JsonPath.read(response, "$.payload.holdId");
+
+        mockMvc.perform(post("/api/seats/holds/{id}/confirm", holdId).param("studentId", String.valueOf(OTHER)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("SEAT_HOLD_NOT_FOUND"));
+
+        mockMvc.perform(delete("/api/seats/holds/{id}", holdId).param("studentId", String.valueOf(STUDENT)))
+                .andExpect(status().isOk());
+        assertThat(seatOccupancyEngine.isFree(date, SEAT, LocalTime.of(10, 0), LocalTime.of(12, 0))).isTrue();
+
+        mockMvc.perform(post("/api/seats/holds/{id}/confirm", holdId).param("studentId", String.valueOf(STUDENT)))
+                .andExpect(status().isNotFound());
+    }
+}
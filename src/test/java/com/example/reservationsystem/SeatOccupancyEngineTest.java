@@ -0,0 +1,122 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.occupancy.TimeSlots;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 점유 비트맵 엔진 테스트 (DB 예약 없이 엔진만 직접 조작)
+ * - 점유/해제/선점이 (날짜, 좌석, 슬롯) 단위로 반영된다
+ * - 지난 날짜 비트맵은 정리되고 정리된 날짜는 covers 가 false (DB 조회로 넘어간다)
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest
+class SeatOccupancyEngineTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Autowired SeatOccupancyEngine seatOccupancyEngine;
+
+    // 다른 테스트의 예약과 겹치지 않는 먼 날짜
+    private final LocalDate date = LocalDate.now(KST).plusDays(60);
+
+    @AfterEach
+    void tearDown() {
+        // 엔진은 싱글톤이라 직접 넣은 상태를 DB 기준으로 되돌린다
+        seatOccupancyEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("TC-SOE-01 점유 → 해당 좌석/슬롯만 점유, 해제 → 다시 빈 좌석")
+    void TC_SOE_01() {
+        seatOccupancyEngine.occupy(date, 3, LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        assertThat(seatOccupancyEngine.mask(date, 3))
+                .isEqualTo(TimeSlots.mask(LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        assertThat(seatOccupancyEngine.isFree(date, 3, LocalTime.of(11, 0), LocalTime.of(12, 0))).isFalse();
+        assertThat(seatOccupancyEngine.isFree(date, 3, LocalTime.of(12, 0), LocalTime.of(13, 0))).isTrue();
+        assertThat(seatOccupancyEngine.reservedSeatIds(date, LocalTime.of(9, 0), LocalTime.of(18, 0)))
+                .containsExactly(3);
+        assertThat(seatOccupancyEngine.freeSeatCount(date, LocalTime.of(10, 0), LocalTime.of(11, 0), 1, SeatOccupancyEngine.SEAT_COUNT))
+                .isEqualTo(SeatOccupancyEngine.SEAT_COUNT - 1);
+
+        seatOccupancyEngine.vacate(date, 3, LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        assertThat(seatOccupancyEngine.mask(date, 3)).isZero();
+        assertThat(seatOccupancyEngine.reservedSeatIds(date, LocalTime.of(9, 0), LocalTime.of(18, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TC-SOE-02 같은 좌석 선점 → 겹치는 슬롯은 실패, 맞닿은 슬롯/다른 좌석은 성공")
+    void TC_SOE_02() {
+        assertThat(seatOccupancyEngine.tryClaim(date, 5, LocalTime.of(9, 0), LocalTime.of(11, 0))).isTrue();
+
+        assertThat(seatOccupancyEngine.tryClaim(date, 5, LocalTime.of(10, 0), LocalTime.of(12, 0))).isFalse();
+        assertThat(seatOccupancyEngine.tryClaim(date, 5, LocalTime.of(11, 0), LocalTime.of(12, 0))).isTrue();
+        assertThat(seatOccupancyEngine.tryClaim(date, 6, LocalTime.of(10, 0), LocalTime.of(12, 0))).isTrue();
+        assertThat(seatOccupancyEngine.tryClaim(date, SeatOccupancyEngine.SEAT_COUNT + 1, LocalTime.of(9, 0), LocalTime.of(10, 0)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("TC-SOE-03 지난 날짜 정리 → 어제 비트맵만 사라지고 covers(어제) false, 오늘 이후는 유지")
+    void TC_SOE_03() {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate yesterday = today.minusDays(1);
+        seatOccupancyEngine.occupy(yesterday, 1, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        seatOccupancyEngine.occupy(date, 1, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        seatOccupancyEngine.pruneBefore(today);
+
+        assertThat(seatOccupancyEngine.mask(yesterday, 1)).isZero();
+        assertThat(seatOccupancyEngine.covers(yesterday)).isFalse();
+        assertThat(seatOccupancyEngine.covers(today)).isTrue();
+        assertThat(seatOccupancyEngine.mask(date, 1)).isNotZero();
+    }
+
+    @Test
+    @DisplayName("TC-SOE-04 무작위 선점 → 구간 안 빈 좌석(1, 65)만 고르고 두 좌석이 고르게 뽑힘, 모두 차면 0")
+    void TC_SOE_04() {
+        LocalTime start = LocalTime.of(13, 0);
+        LocalTime end = LocalTime.of(14, 0);
+        // 1번(word 0)과 65번(word 1)만 남기고 1~70 을 채운다
+        for (int seatId = 2; seatId <= SeatOccupancyEngine.SEAT_COUNT; seatId++) {
+            if (seatId != 65) {
+                seatOccupancyEngine.occupy(date, seatId, start, end);
+            }
+        }
+
+        int draws = 2000;
+        int first = 0;
+        for (int i = 0; i < draws; i++) {
+            long seatId = seatOccupancyEngine.claimRandom(date, start, end);
+            assertThat(seatId).isIn(1L, 65L);
+            if (seatId == 1) {
+                first++;
+            }
+            seatOccupancyEngine.vacate(date, seatId, start, end);
+        }
+        // 균등하면 1000 ± 약 22(표준편차) → 넉넉히 ±150
+        assertThat(first).isBetween(draws / 2 - 150, draws / 2 + 150);
+
+        assertThat(seatOccupancyEngine.claimRandom(date, start, end, 2, 64)).isZero();
+        seatOccupancyEngine.occupy(date, 1, start, end);
+        seatOccupancyEngine.occupy(date, 65, start, end);
+        assertThat(seatOccupancyEngine.claimRandom(date, start, end)).isZero();
+        assertThat(seatOccupancyEngine.freeSeatCount(date, start, end, 1, SeatOccupancyEngine.SEAT_COUNT)).isZero();
+    }
+}
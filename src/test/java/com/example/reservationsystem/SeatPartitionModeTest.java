@@ -0,0 +1,139 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.SeatReservationDispatcher;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.SeatBookingLoad;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import com.example.reservationsystem.testsupport.TcLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좌석 구간 파티션 모드 테스트 (reservation.seat.booking-mode=PARTITIONED)
+ * - 같은 작업량을 파티션 경로 / 기존 트랜잭션 경로로 각각 처리해 처리량 비교 (이중 예약 0건)
+ * - 랜덤 예약은 빈 좌석이 남은 구간으로 넘어가며 70석을 모두 채운다
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(properties = "reservation.seat.booking-mode=PARTITIONED")
+class SeatPartitionModeTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired SeatReservationDispatcher seatReservationDispatcher;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired SeatRepository seatRepository;
+    @Autowired SeatReservationRepository seatReservationRepository;
+
+    private static final int THREADS = 64;
+    private static final long STUDENT_BASE = 710000000L;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+    }
+
+    private SeatReservationRequestDto request(long studentId, long seatId, LocalDate date, LocalTime start) {
+        return SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(start)
+                .durationHours(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("BM-PART-01 파티션 경로 vs 트랜잭션 경로 → 둘 다 이중 예약 0건 + 처리량 출력")
+    void BM_PART_01() throws Exception {
+        LocalDate partitionedDate = LocalDate.now().plusDays(5);
+        LocalDate transactionalDate = LocalDate.now().plusDays(6);
+        int expected = SeatBookingLoad.BOOKABLE;
+
+        AtomicInteger partitionedSuccess = new AtomicInteger();
+        double partitioned = SeatBookingLoad.run(SeatBookingLoad.seatGrid(partitionedDate, STUDENT_BASE), THREADS,
+                seatReservationDispatcher::createSeatReservation, partitionedSuccess);
+
+        AtomicInteger transactionalSuccess = new AtomicInteger();
+        double transactional = SeatBookingLoad.run(SeatBookingLoad.seatGrid(transactionalDate, STUDENT_BASE + 10_000), THREADS,
+                seatReservationService::createSeatReservation, transactionalSuccess);
+
+        assertThat(partitionedSuccess.get()).isEqualTo(expected);
+        assertThat(transactionalSuccess.get()).isEqualTo(expected);
+        SeatBookingLoad.assertNoDoubleBooking(seatReservationRepository.findByDate(partitionedDate), expected);
+        SeatBookingLoad.assertNoDoubleBooking(seatReservationRepository.findByDate(transactionalDate), expected);
+
+        TcLogger.metric("[BM-PART-01] requests=%d threads=%d partitioned=%.1f req/s transactional=%.1f req/s (x%.2f)",
+                expected * 2, THREADS, partitioned, transactional, partitioned / transactional);
+    }
+
+    @Test
+    @DisplayName("TC-PART-02 랜덤 좌석 80건 동시 요청 → 70건 성공(좌석 중복 없음), 10건 NO_AVAILABLE_SEATS")
+    void TC_PART_02() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(7);
+        int requests = 80;
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger noSeat = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            long studentId = STUDENT_BASE + 20_000 + i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    seatReservationDispatcher.createRandomSeatReservation(request(studentId, 1, date, LocalTime.of(10, 0)));
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.NO_AVAILABLE_SEATS);
+                    noSeat.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        List<SeatReservation> saved = seatReservationRepository.findByDate(date);
+        Set<Long> seats = new HashSet<>();
+        saved.forEach(r -> seats.add(r.getSeat().getId()));
+        assertThat(saved).hasSize(70);
+        assertThat(seats).hasSize(70);
+        assertThat(noSeat.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("TC-PART-03 메모리에서 선점한 좌석 번호에 좌석 행이 없으면 → SEAT_NOT_FOUND, 예약 행 없음")
+    void TC_PART_03() {
+        long missingSeatId = 9_999L;
+
+        assertThat(seatRepository.existsById(missingSeatId)).isFalse();
+        assertThatThrownBy(() -> seatReservationService.persistClaimedSeatReservation(
+                request(STUDENT_BASE + 9_000, missingSeatId, LocalDate.now().plusDays(9), LocalTime.of(9, 0)),
+                missingSeatId))
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.SEAT_NOT_FOUND));
+        assertThat(seatReservationRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.SeatReservationDispatcher;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.SeatBookingLoad;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import com.example.reservationsystem.testsupport.TcLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그룹 커밋 파이프라인 모드 테스트 (reservation.seat.booking-mode=PIPELINE)
+ * - 동시 요청이 배치로 묶여도 이중 예약 0건, 요청별 결과/에러 코드는 단건 경로와 동일
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(properties = "reservation.seat.booking-mode=PIPELINE")
+class SeatPipelineModeTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired SeatReservationDispatcher seatReservationDispatcher;
+    @Autowired SeatReservationRepository seatReservationRepository;
+    @Autowired StudentRepository studentRepository;
+
+    private static final int THREADS = 64;
+    private static final long STUDENT_BASE = 700000000L;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+    }
+
+    private SeatReservationRequestDto request(long studentId, long seatId, LocalDate date, LocalTime start, int hours) {
+        return SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(start)
+                .durationHours(hours)
+                .build();
+    }
+
+    @Test
+    @DisplayName("TC-PIPE-01 좌석 70석 x 4타임 중복 요청 동시 처리 → 이중 예약 0건 + 처리량 출력")
+    void TC_PIPE_01() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(3);
+        List<SeatReservationRequestDto> requests = SeatBookingLoad.seatGrid(date, STUDENT_BASE);
+
+        AtomicInteger success = new AtomicInteger();
+        double throughput = SeatBookingLoad.run(requests, THREADS, seatReservationDispatcher::createSeatReservation, success);
+
+        assertThat(success.get()).isEqualTo(SeatBookingLoad.BOOKABLE);
+        SeatBookingLoad.assertNoDoubleBooking(seatReservationRepository.findByDate(date), SeatBookingLoad.BOOKABLE);
+
+        TcLogger.metric("[TC-PIPE-01] requests=%d booked=%d threads=%d elapsed=%.3fs throughput=%.1f req/s",
+                requests.size(), success.get(), THREADS, requests.size() / throughput, throughput);
+    }
+
+    @Test
+    @DisplayName("TC-PIPE-02 같은 배치 안의 실패 요청 → 해당 요청만 에러 코드, 나머지는 저장")
+    void TC_PIPE_02() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(4);
+        long student = STUDENT_BASE + 5000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        Future<Object> ok = pool.submit(() -> {
+            start.await();
+            return seatReservationDispatcher.createSeatReservation(request(student, 10, date, LocalTime.of(9, 0), 2));
+        });
+        Future<Object> badDuration = pool.submit(() -> {
+            start.await();
+            try {
+                return seatReservationDispatcher.createSeatReservation(request(student + 1, 11, date, LocalTime.of(9, 0), 3));
+            } catch (CustomException e) {
+                return e.getErrorCode();
+            }
+        });
+        Future<Object> random = pool.submit(() -> {
+            start.await();
+            return seatReservationDispatcher.createRandomSeatReservation(request(student + 2, 1, date, LocalTime.of(13, 0), 2));
+        });
+
+        start.countDown();
+        assertThat(ok.get(30, TimeUnit.SECONDS)).isNotNull();
+        assertThat(badDuration.get(30, TimeUnit.SECONDS)).isEqualTo(ErrorCode.INVALID_DURATION_HOURS);
+        assertThat(random.get(30, TimeUnit.SECONDS)).isNotNull();
+        pool.shutdown();
+
+        assertThat(seatReservationRepository.findByDate(date)).hasSize(2);
+        assertThat(studentRepository.findByStudentId(student).orElseThrow().getSeatDailyUsedHours()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Student;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 일일 한도(4시간) 동시성 테스트
+ * - 같은 학생의 한도 차감(addSeatUsageWithinLimit) 동시 호출 → 정확히 한도만큼만 성공
+ * - 같은 학생의 서로 다른 시간대 좌석 예약 동시 요청 → 4건 성공, 나머지 SEAT_DAILY_LIMIT_EXCEEDED, 누적 4시간
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest
+class SeatQuotaConcurrencyTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired SeatReservationRepository seatReservationRepository;
+    @Autowired StudentRepository studentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private static final int THREADS = 16;
+    private static final int LIMIT_HOURS = 4;
+    private static final long STUDENT = 202455901L;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+        // 학생 행 동시 생성 경합이 아니라 한도 차감 경합만 보도록 미리 만든다
+        studentRepository.save(Student.of(STUDENT));
+    }
+
+    private int usedHours(LocalDate date) {
+        Student s = studentRepository.findByStudentId(STUDENT).orElseThrow();
+        return date.equals(s.getSeatUsageDate()) ? s.getSeatDailyUsedHours() : 0;
+    }
+
+    @Test
+    @DisplayName("TC-QUOTA-01 같은 학생 1시간 한도 차감 32건 동시 실행 → 정확히 4건만 반영, 누적 4시간")
+    void TC_QUOTA_01() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+        int contenders = 32;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < contenders; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                Integer updated = tx.execute(status ->
+                        studentRepository.addSeatUsageWithinLimit(STUDENT, date, 1, LIMIT_HOURS));
+                granted.addAndGet(updated);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(granted.get()).isEqualTo(LIMIT_HOURS);
+        assertThat(usedHours(date)).isEqualTo(LIMIT_HOURS);
+    }
+
+    @Test
+    @DisplayName("TC-QUOTA-02 같은 학생 1시간 좌석 예약 9건(09~18시, 좌석 각각) 동시 요청 → 4건 성공, 5건 한도 초과, 초과 예약 0건")
+    void TC_QUOTA_02() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(2);
+        int hours = 9;
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger limited = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < hours; i++) {
+            SeatReservationRequestDto req = SeatReservationRequestDto.builder()
+                    .studentId(STUDENT)
+                    .seatId((long) i + 1)
+                    .date(date)
+                    .startTime(LocalTime.of(9 + i, 0))
+                    .durationHours(1)
+                    .build();
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    seatReservationService.createSeatReservation(req);
+                    success.incrementAndGet();
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SEAT_DAILY_LIMIT_EXCEEDED);
+                    limited.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(success.get()).isEqualTo(LIMIT_HOURS);
+        assertThat(limited.get()).isEqualTo(hours - LIMIT_HOURS);
+        assertThat(seatReservationRepository.findByDate(date)).hasSize(LIMIT_HOURS);
+        assertThat(usedHours(date)).isEqualTo(LIMIT_HOURS);
+    }
+}
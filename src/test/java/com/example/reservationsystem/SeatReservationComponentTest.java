@@ -2,6 +2,7 @@ package com.example.reservationsystem;
 
 import com.example.reservationsystem.domain.entity.Seat;
 import com.example.reservationsystem.domain.entity.SeatReservation;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
 import com.example.reservationsystem.domain.repository.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,6 +45,7 @@ class SeatReservationComponentTest {
     @Autowired SeatRepository seatRepository;
     @Autowired SeatReservationRepository seatReservationRepository;
     @Autowired StudentRepository studentRepository;
+    @Autowired SeatOccupancyEngine seatOccupancyEngine;
 
     private static final long S1 = 202111492L;
 
@@ -166,4 +168,26 @@ class SeatReservationComponentTest {
                 .andExpect(jsonPath("$.isSuccess").value(false))
                 .andExpect(jsonPath("$.errorCode").value("SEAT_ALREADY_RESERVED"));
     }
+
+    @Test
+    void TC_SEAT_S_07_좌석현황조회_재기동전날짜_DB조회() throws Exception {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        long seatPk = anySeatPk();
+
+        createSeatReservation(S1, seatPk, yesterday, LocalTime.of(10, 0), 2);
+        // 재기동: 비트맵은 오늘 이후만 적재하므로 어제 예약은 빠진다
+        seatOccupancyEngine.rebuild();
+        assertThat(seatOccupancyEngine.covers(yesterday)).isFalse();
+
+        String res = mockMvc.perform(get("/api/seats/availability")
+                        .param("date", yesterday.toString())
+                        .param("startTime", "11:00")
+                        .param("durationHours", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Long> reserved = List.of(objectMapper.readValue(res, Long[].class));
+        assertThat(reserved).containsExactly(seatPk);
+    }
 }
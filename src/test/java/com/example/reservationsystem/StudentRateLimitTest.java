@@ -0,0 +1,177 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.common.ratelimit.StudentRateLimiter;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 학번 단위 요청 제한 테스트
+ * - 버스트 초과 요청 → 429 TOO_MANY_REQUESTS + rejected 메트릭 증가
+ * - 서로 다른 학번이 대량으로 들어와도 추적 항목 수는 상한 이내
+ * - 선점 확정 / 체크인 / 회의실 생성 / 취소 경로도 같은 인터셉터에서 제한 (학번은 파라미터 또는 JSON 본문)
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = {
+                "reservation.rate-limit.enabled=true",
+                "reservation.rate-limit.max-keys-per-bucket=100",
+                "reservation.rate-limit.buckets.seat-create.permits-per-second=0.001",
+                "reservation.rate-limit.buckets.seat-create.burst=3",
+                "reservation.rate-limit.buckets.read.permits-per-second=0.001",
+                "reservation.rate-limit.buckets.read.burst=1",
+                "reservation.rate-limit.buckets.room-create.permits-per-second=0.001",
+                "reservation.rate-limit.buckets.room-create.burst=1",
+                "reservation.rate-limit.buckets.cancel.permits-per-second=0.001",
+                "reservation.rate-limit.buckets.cancel.burst=1"
+        }
+)
+class StudentRateLimitTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired StudentRateLimiter studentRateLimiter;
+    @Autowired MeterRegistry meterRegistry;
+
+    private static final long STUDENT = 202400999L;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+    }
+
+    private double count(String bucket, String outcome) {
+        return meterRegistry.counter("reservation.ratelimit.requests", "bucket", bucket, "outcome", outcome).count();
+    }
+
+    @Test
+    @DisplayName("TC-RATE-01 버스트(3회) 초과 좌석 예약 요청 → 429, 거절 메트릭 증가")
+    void TC_RATE_01() throws Exception {
+        // 이용 시간 3시간 → 서비스 검증에서 실패하므로 예약은 만들어지지 않는다
+        String body = """
+            {
+              "seatId": 1,
+              "date": "%s",
+              "startTime": "10:00",
+              "durationHours": 3,
+              "studentId": %d
+            }
+            """.formatted(LocalDate.now().plusDays(1), STUDENT);
+
+        // 인터셉터가 본문에서 학번을 읽은 뒤에도 컨트롤러는 같은 본문을 받는다 (서비스 검증 오류까지 도달)
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/seats/reservations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("INVALID_DURATION_HOURS"));
+        }
+
+        mockMvc.perform(post("/api/seats/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.isSuccess").value(false));
+
+        assertThat(count(StudentRateLimiter.SEAT_CREATE, "accepted")).isGreaterThanOrEqualTo(3);
+        assertThat(count(StudentRateLimiter.SEAT_CREATE, "rejected")).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TC-RATE-02 서로 다른 학번 1만 개 요청 → 추적 항목 수는 max-keys-per-bucket 이내, 서로 다른 학번은 거절되지 않음")
+    void TC_RATE_02() {
+        double untrackedBefore = count(StudentRateLimiter.READ, "untracked");
+        int rejected = 0;
+        for (long sid = 300000000L; sid < 300010000L; sid++) {
+            try {
+                studentRateLimiter.acquire(StudentRateLimiter.READ, sid);
+            } catch (CustomException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+                rejected++;
+            }
+        }
+
+        double keys = meterRegistry.get("reservation.ratelimit.keys")
+                .tag("bucket", StudentRateLimiter.READ)
+                .gauge()
+                .value();
+        assertThat(keys).isLessThanOrEqualTo(100);
+        // 첫 요청인 학번은 다른 학번의 트래픽 때문에 거절되지 않는다 (상한 초과분은 추적 없이 통과)
+        assertThat(rejected).isZero();
+        assertThat(count(StudentRateLimiter.READ, "untracked")).isGreaterThan(untrackedBefore);
+    }
+
+    @Test
+    @DisplayName("TC-RATE-03 선점 확정/체크인(파라미터), 회의실 예약(JSON 본문), 취소 경로도 버스트 초과 시 429")
+    void TC_RATE_03() throws Exception {
+        // 좌석 쓰기 버킷(버스트 3): 없는 선점/예약이라 앞의 세 번은 404 등으로 끝나고 네 번째는 429
+        long seatStudent = STUDENT + 1;
+        String[] seatWrites = {
+                "/api/seats/holds/999999/confirm",
+                "/api/seats/reservations/999999/check-in",
+                "/api/seats/holds/999998/confirm"
+        };
+        for (String uri : seatWrites) {
+            mockMvc.perform(post(uri).param("studentId", String.valueOf(seatStudent)))
+                    .andExpect(result -> assertThat(result.getResponse().getStatus()).isNotEqualTo(429));
+        }
+        mockMvc.perform(post("/api/seats/reservations/999999/check-in").param("studentId", String.valueOf(seatStudent)))
+                .andExpect(status().isTooManyRequests());
+
+        // 회의실 쓰기 버킷(버스트 1): 학번은 JSON 본문의 representativeStudentId
+        long roomStudent = STUDENT + 2;
+        String roomBody = """
+            {
+              "roomId": 999999,
+              "date": "%s",
+              "startTime": "10:00",
+              "duration": 2,
+              "representativeStudentId": %d,
+              "participantStudentIds": []
+            }
+            """.formatted(LocalDate.now().plusDays(1), roomStudent);
+        mockMvc.perform(post("/api/meeting/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(roomBody))
+                .andExpect(result -> assertThat(result.getResponse().getStatus()).isNotEqualTo(429));
+        mockMvc.perform(post("/api/meeting/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(roomBody))
+                .andExpect(status().isTooManyRequests());
+        // 회의실 체크인도 같은 버킷
+        mockMvc.perform(post("/api/meeting/reservations/999999/check-in").param("studentId", String.valueOf(roomStudent)))
+                .andExpect(status().isTooManyRequests());
+
+        // 취소 버킷(버스트 1): 회의실/좌석 취소가 한 버킷을 쓴다
+        long cancelStudent = STUDENT + 3;
+        mockMvc.perform(delete("/api/meeting/reservations/999999").param("studentId", String.valueOf(cancelStudent)))
+                .andExpect(result -> assertThat(result.getResponse().getStatus()).isNotEqualTo(429));
+        mockMvc.perform(delete("/api/seats/reservations/999999").param("studentId", String.valueOf(cancelStudent)))
+                .andExpect(status().isTooManyRequests());
+
+        assertThat(count(StudentRateLimiter.ROOM_CREATE, "rejected")).isGreaterThanOrEqualTo(2);
+        assertThat(count(StudentRateLimiter.CANCEL, "rejected")).isGreaterThanOrEqualTo(1);
+    }
+}
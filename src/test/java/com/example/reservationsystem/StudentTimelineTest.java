@@ -0,0 +1,298 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.Seat;
+import com.example.reservationsystem.domain.entity.Student;
+import com.example.reservationsystem.domain.occupancy.StudentTimeline;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 학생 통합 타임라인 테스트 (좌석 + 회의실 교차 겹침 검사, 내 하루 일정 API)
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class StudentTimelineTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired StudentTimeline studentTimeline;
+
+    @Autowired RoomReservationParticipantRepository roomReservationParticipantRepository;
+    @Autowired RoomReservationRepository roomReservationRepository;
+    @Autowired SeatReservationRepository seatReservationRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired SeatRepository seatRepository;
+    @Autowired StudentRepository studentRepository;
+
+    private static final long LEADER = 202433301L;
+    private static final long P1 = 202433302L;
+    private static final long P2 = 202433303L;
+
+    private Long roomId;
+    private List<Seat> seats;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        reservationFixture.reset();
+        seats = seatRepository.findAll();
+        roomId = roomRepository.save(Room.builder().capacity(4).build()).getId();
+    }
+
+    // 학생마다 다른 좌석을 써서 좌석 충돌과 학생 일정 충돌을 구분한다
+    private Long bookSeat(long studentId, LocalDate date, LocalTime start, int hours) {
+        return seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatOf(studentId))
+                .date(date)
+                .startTime(start)
+                .durationHours(hours)
+                .build()).getId();
+    }
+
+    private Long seatOf(long studentId) {
+        return seats.get((int) (studentId % 10)).getId();
+    }
+
+    private Long bookRoom(LocalDate date, LocalTime start, int hours) {
+        return bookRoom(date, start, hours, LEADER, P1, P2);
+    }
+
+    private Long bookRoom(LocalDate date, LocalTime start, int hours, long leader, long p1, long p2) {
+        return roomReservationService.createRoomReservation(ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(start)
+                .duration(hours)
+                .representativeStudentId(leader)
+                .participantStudentIds(List.of(p1, p2))
+                .build()).getId();
+    }
+
+    private ErrorCode errorOf(Runnable booking) {
+        try {
+            booking.run();
+            return null;
+        } catch (CustomException e) {
+            return (ErrorCode) e.getErrorCode();
+        }
+    }
+
+    @Test
+    @DisplayName("TC-TL-01 좌석 10~12시 예약한 참가자 포함 회의실 11시 예약 → OVERLAPPING_RESERVATION, 13시는 성공")
+    void TC_TL_01() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        bookSeat(P1, date, LocalTime.of(10, 0), 2);
+
+        assertThat(errorOf(() -> bookRoom(date, LocalTime.of(11, 0), 1)))
+                .isEqualTo(ErrorCode.OVERLAPPING_RESERVATION);
+        assertThat(roomReservationRepository.count()).isZero();
+
+        // 실패한 회의실 예약의 다른 참가자 선점은 롤백으로 풀려 있어야 한다
+        assertThat(errorOf(() -> bookSeat(LEADER, date, LocalTime.of(11, 0), 1))).isNull();
+
+        assertThat(errorOf(() -> bookRoom(date, LocalTime.of(13, 0), 1))).isNull();
+    }
+
+    @Test
+    @DisplayName("TC-TL-02 회의실 14~16시 참가 중 같은 시간 좌석 예약(지정/랜덤) → OVERLAPPING_RESERVATION")
+    void TC_TL_02() {
+        LocalDate date = LocalDate.now().plusDays(2);
+        bookRoom(date, LocalTime.of(14, 0), 2);
+
+        assertThat(errorOf(() -> bookSeat(P2, date, LocalTime.of(15, 0), 1)))
+                .isEqualTo(ErrorCode.OVERLAPPING_RESERVATION);
+        assertThat(errorOf(() -> seatReservationService.createRandomSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(LEADER)
+                .seatId(1L)
+                .date(date)
+                .startTime(LocalTime.of(13, 0))
+                .durationHours(2)
+                .build())))
+                .isEqualTo(ErrorCode.OVERLAPPING_RESERVATION);
+
+        assertThat(errorOf(() -> bookSeat(P2, date, LocalTime.of(16, 0), 2))).isNull();
+    }
+
+    @Test
+    @DisplayName("TC-TL-03 내 하루 일정 API → 좌석/회의실/빈 구간 병합 + 예약/좌석/회의실 id, 회의실 취소 후 ROOM 구간 사라짐")
+    void TC_TL_03() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(3);
+        Long seatReservationId = bookSeat(P1, date, LocalTime.of(10, 0), 2);
+        Long roomReservationId = bookRoom(date, LocalTime.of(13, 0), 1);
+
+        mockMvc.perform(get("/api/students/{studentId}/timeline", P1).param("date", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.blocks.length()").value(5))
+                .andExpect(jsonPath("$.payload.blocks[0].occupiedBy").value("FREE"))
+                .andExpect(jsonPath("$.payload.blocks[0].reservationId").doesNotExist())
+                .andExpect(jsonPath("$.payload.blocks[1].startTime").value("10:00"))
+                .andExpect(jsonPath("$.payload.blocks[1].endTime").value("12:00"))
+                .andExpect(jsonPath("$.payload.blocks[1].occupiedBy").value("SEAT"))
+                .andExpect(jsonPath("$.payload.blocks[1].reservationId").value(seatReservationId))
+                .andExpect(jsonPath("$.payload.blocks[1].seatId").value(seatOf(P1)))
+                .andExpect(jsonPath("$.payload.blocks[3].startTime").value("13:00"))
+                .andExpect(jsonPath("$.payload.blocks[3].occupiedBy").value("ROOM"))
+                .andExpect(jsonPath("$.payload.blocks[3].reservationId").value(roomReservationId))
+                .andExpect(jsonPath("$.payload.blocks[3].roomId").value(roomId))
+                .andExpect(jsonPath("$.payload.blocks[4].endTime").value("18:00"));
+
+        roomReservationService.cancelMeetingReservation(roomReservationId, LEADER);
+
+        mockMvc.perform(get("/api/students/{studentId}/timeline", P1).param("date", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.blocks.length()").value(3))
+                .andExpect(jsonPath("$.payload.blocks[2].startTime").value("12:00"))
+                .andExpect(jsonPath("$.payload.blocks[2].occupiedBy").value("FREE"));
+    }
+
+    @Test
+    @DisplayName("TC-TL-04 같은 학생의 좌석/회의실 동시 예약(같은 시간) 20회 → 매번 정확히 하나만 성공")
+    void TC_TL_04() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                LocalDate date = LocalDate.now().plusDays(10 + round);
+                // 라운드마다 새 학생 (주간 회의실 한도와 학생 행 동시 생성 경합을 피한다)
+                long leader = 202450000L + round * 3;
+                studentRepository.saveAll(List.of(Student.of(leader), Student.of(leader + 1), Student.of(leader + 2)));
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger success = new AtomicInteger();
+
+                Future<?> seat = pool.submit(() -> {
+                    start.await();
+                    if (errorOf(() -> bookSeat(leader, date, LocalTime.of(9, 0), 1)) == null) {
+                        success.incrementAndGet();
+                    }
+                    return null;
+                });
+                Future<?> room = pool.submit(() -> {
+                    start.await();
+                    if (errorOf(() -> bookRoom(date, LocalTime.of(9, 0), 1, leader, leader + 1, leader + 2)) == null) {
+                        success.incrementAndGet();
+                    }
+                    return null;
+                });
+                start.countDown();
+                seat.get(10, TimeUnit.SECONDS);
+                room.get(10, TimeUnit.SECONDS);
+
+                assertThat(success.get()).as("round %d", round).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("TC-TL-05 메모리 타임라인이 겹침을 놓쳐도(다른 인스턴스) 학생 슬롯 유니크 제약 → OVERLAPPING_RESERVATION")
+    void TC_TL_05() {
+        LocalDate date = LocalDate.now().plusDays(4);
+        bookSeat(P1, date, LocalTime.of(10, 0), 2);
+        Long roomReservationId = bookRoom(date, LocalTime.of(14, 0), 1);
+
+        // 이 인스턴스의 메모리 상태만 비워 다른 인스턴스에서 들어온 예약처럼 만든다
+        studentTimeline.vacate(P1, date, StudentTimeline.Kind.SEAT, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        studentTimeline.vacate(P1, date, StudentTimeline.Kind.ROOM, LocalTime.of(14, 0), LocalTime.of(15, 0));
+
+        // 좌석 자체는 비어 있는 다른 좌석으로 예약해 학생 겹침만 걸리게 한다
+        assertThat(errorOf(() -> seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(P1)
+                .seatId(seats.get(20).getId())
+                .date(date)
+                .startTime(LocalTime.of(11, 0))
+                .durationHours(1)
+                .build())))
+                .isEqualTo(ErrorCode.OVERLAPPING_RESERVATION);
+        assertThat(errorOf(() -> bookRoom(date, LocalTime.of(11, 0), 1)))
+                .isEqualTo(ErrorCode.OVERLAPPING_RESERVATION);
+
+        // 취소하면 학생 슬롯 행도 지워져 같은 시간대를 다시 잡을 수 있다
+        roomReservationService.cancelMeetingReservation(roomReservationId, LEADER);
+        assertThat(errorOf(() -> bookSeat(P1, date, LocalTime.of(14, 0), 1))).isNull();
+    }
+
+    @Test
+    @DisplayName("TC-TL-06 지난 날짜 정리 → 어제 항목만 사라지고 오늘 이후 일정은 유지")
+    void TC_TL_06() {
+        LocalDate today = LocalDate.now();
+        studentTimeline.occupy(P1, today.minusDays(1), StudentTimeline.Kind.SEAT, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        studentTimeline.occupy(P1, today.plusDays(1), StudentTimeline.Kind.SEAT, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        studentTimeline.pruneBefore(today);
+
+        assertThat(studentTimeline.busyMask(P1, today.minusDays(1))).isZero();
+        assertThat(studentTimeline.busyMask(P1, today.plusDays(1))).isNotZero();
+        studentTimeline.vacate(P1, today.plusDays(1), StudentTimeline.Kind.SEAT, LocalTime.of(9, 0), LocalTime.of(10, 0));
+    }
+
+    @Test
+    @DisplayName("TC-TL-07 예약을 deleteAllInBatch 로 일괄 삭제 → 슬롯 행과 메모리 상태도 비워져 같은 좌석/회의실/시간 재예약 성공")
+    void TC_TL_07() {
+        LocalDate date = LocalDate.now().plusDays(5);
+        bookSeat(P1, date, LocalTime.of(10, 0), 2);
+        bookRoom(date, LocalTime.of(13, 0), 1);
+
+        roomReservationParticipantRepository.deleteAllInBatch();
+        roomReservationRepository.deleteAllInBatch();
+        seatReservationRepository.deleteAllInBatch();
+
+        assertThat(studentTimeline.busyMask(P1, date)).isZero();
+        assertThat(errorOf(() -> bookSeat(P1, date, LocalTime.of(10, 0), 2))).isNull();
+        assertThat(errorOf(() -> bookRoom(date, LocalTime.of(13, 0), 1))).isNull();
+    }
+
+    @Test
+    @DisplayName("TC-TL-08 지난 날짜 일정 조회 → 타임라인에서 정리된 날짜도 슬롯 행으로 SEAT 구간 응답 (FREE 로 보고하지 않음)")
+    void TC_TL_08() throws Exception {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Long seatReservationId = bookSeat(P2, yesterday, LocalTime.of(9, 0), 1);
+
+        // 날짜가 바뀌어 어제 항목이 정리된 상태
+        studentTimeline.pruneBefore(LocalDate.now());
+        assertThat(studentTimeline.busyMask(P2, yesterday)).isZero();
+
+        mockMvc.perform(get("/api/students/{studentId}/timeline", P2).param("date", yesterday.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.blocks.length()").value(2))
+                .andExpect(jsonPath("$.payload.blocks[0].occupiedBy").value("SEAT"))
+                .andExpect(jsonPath("$.payload.blocks[0].reservationId").value(seatReservationId))
+                .andExpect(jsonPath("$.payload.blocks[0].endTime").value("10:00"))
+                .andExpect(jsonPath("$.payload.blocks[1].occupiedBy").value("FREE"));
+    }
+}
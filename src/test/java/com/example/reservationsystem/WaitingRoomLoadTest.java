@@ -0,0 +1,161 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.admission.WaitingRoom;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import com.example.reservationsystem.testsupport.TcLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 부하 테스트
+ * - 동시 요청 수를 100 → 400 → 1600 으로 늘려도 거절/타임아웃 없이 모두 입장하고 대기열이 비워진다
+ * - 대기한 요청은 번호표 순서대로 입장한다 (FIFO)
+ * - 서비스 구간 / 대기 시간 백분위는 메트릭으로만 남긴다 (환경마다 달라 판정하지 않는다)
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "reservation.waiting-room.enabled=true",
+        "reservation.waiting-room.admit-per-second=400",
+        "reservation.waiting-room.burst=16",
+        "reservation.waiting-room.max-queue=10000",
+        "reservation.waiting-room.max-wait=PT60S"
+})
+class WaitingRoomLoadTest {
+
+    @Autowired ReservationFixture reservationFixture;
+    @Autowired WaitingRoom waitingRoom;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired MeterRegistry meterRegistry;
+
+    private static final long STUDENT_BASE = 600000000L;
+
+    @BeforeEach
+    void setUp() {
+        reservationFixture.reset();
+    }
+
+    private double requests(String outcome) {
+        return meterRegistry.counter("reservation.waitingroom.requests", "outcome", outcome).count();
+    }
+
+    @Test
+    @DisplayName("LT-WAIT-01 동시 요청 100/400/1600 → 모두 입장(거절/타임아웃 0), 대기한 요청은 번호표 순서대로 입장")
+    void LT_WAIT_01() throws Exception {
+        int[] loads = {100, 400, 1600};
+
+        for (int level = 0; level < loads.length; level++) {
+            LocalDate date = LocalDate.now().plusDays(level + 1);
+            double admittedBefore = requests("admitted");
+            double rejectedBefore = requests("rejected");
+            double timeoutBefore = requests("timeout");
+
+            Result result = run(loads[level], date, STUDENT_BASE + level * 10_000L);
+
+            assertThat(result.completed).isEqualTo(loads[level]);
+            assertThat(requests("admitted") - admittedBefore).isEqualTo(loads[level]);
+            assertThat(requests("rejected")).isEqualTo(rejectedBefore);
+            assertThat(requests("timeout")).isEqualTo(timeoutBefore);
+            assertThat(waitingRoom.queued()).isZero();
+
+            // 대기한 요청: 번호표 순으로 늘어놓으면 입장 순번도 오름차순
+            List<WaitingRoom.Ticket> waited = Arrays.stream(result.tickets)
+                    .filter(t -> t.getPosition() > 0)
+                    .sorted(Comparator.comparingLong(WaitingRoom.Ticket::getNumber))
+                    .toList();
+            // 동시 요청이 허용량(burst 16)보다 많으면 일부는 반드시 줄을 선다
+            if (loads[level] > 16) {
+                assertThat(waited).isNotEmpty();
+            }
+            assertThat(waited).extracting(WaitingRoom.Ticket::getAdmittedOrder).isSorted();
+
+            TcLogger.metric("[LT-WAIT-01] offered=%d waited=%d service p50=%.1fms p99=%.1fms | wait p99=%.1fms",
+                    loads[level], waited.size(), result.serviceP50Millis, result.serviceP99Millis, result.waitP99Millis);
+        }
+    }
+
+    private Result run(int requests, LocalDate date, long studentBase) throws Exception {
+        long[] serviceNanos = new long[requests];
+        long[] waitNanos = new long[requests];
+        WaitingRoom.Ticket[] tickets = new WaitingRoom.Ticket[requests];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int idx = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    long arrived = System.nanoTime();
+                    tickets[idx] = waitingRoom.enter();
+                    long admitted = System.nanoTime();
+                    try {
+                        seatReservationService.createSeatReservation(request(idx, date, studentBase));
+                    } catch (CustomException ignored) {
+                        // 좌석 충돌도 DB 구간을 거친 정상 처리로 본다
+                    }
+                    waitNanos[idx] = admitted - arrived;
+                    serviceNanos[idx] = System.nanoTime() - admitted;
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(120, TimeUnit.SECONDS);
+            }
+        }
+
+        Result result = new Result();
+        result.completed = futures.size();
+        result.tickets = tickets;
+        result.serviceP50Millis = percentileMillis(serviceNanos, 0.50);
+        result.serviceP99Millis = percentileMillis(serviceNanos, 0.99);
+        result.waitP99Millis = percentileMillis(waitNanos, 0.99);
+        return result;
+    }
+
+    private SeatReservationRequestDto request(int idx, LocalDate date, long studentBase) {
+        return SeatReservationRequestDto.builder()
+                .studentId(studentBase + idx)
+                .seatId((long) (idx % 70) + 1)
+                .date(date)
+                .startTime(LocalTime.of(9 + (idx / 70) % 8, 0))
+                .durationHours(1)
+                .build();
+    }
+
+    private static double percentileMillis(long[] nanos, double p) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static final class Result {
+        int completed;
+        WaitingRoom.Ticket[] tickets;
+        double serviceP50Millis;
+        double serviceP99Millis;
+        double waitP99Millis;
+    }
+}
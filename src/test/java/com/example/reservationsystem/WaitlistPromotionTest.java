@@ -0,0 +1,286 @@
+package com.example.reservationsystem;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.ReservationRequestDto;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.dto.WaitlistEntryDto;
+import com.example.reservationsystem.domain.entity.Room;
+import com.example.reservationsystem.domain.entity.WaitlistEntry;
+import com.example.reservationsystem.domain.entity.WaitlistStatus;
+import com.example.reservationsystem.domain.occupancy.SeatOccupancyEngine;
+import com.example.reservationsystem.domain.repository.*;
+import com.example.reservationsystem.domain.service.RoomReservationService;
+import com.example.reservationsystem.domain.service.SeatReservationService;
+import com.example.reservationsystem.domain.service.WaitlistService;
+import com.example.reservationsystem.testsupport.ReservationFixture;
+import com.example.reservationsystem.testsupport.TcLogWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+/**
+ * 예약 대기 자동 승격 테스트
+ * - 좌석/회의실 취소가 커밋되면 비동기로 대기열 앞 순번부터 예약된다
+ * - 한도 초과 등 신청자 쪽 사유는 FAILED + 사유 코드, 자리가 없으면 계속 WAITING
+ */
+@ExtendWith(TcLogWatcher.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class WaitlistPromotionTest {
+
+    private MockMvc mockMvc;
+    @Autowired private WebApplicationContext wac;
+    @Autowired ReservationFixture reservationFixture;
+
+    @Autowired WaitlistService waitlistService;
+    @Autowired SeatReservationService seatReservationService;
+    @Autowired RoomReservationService roomReservationService;
+    @Autowired SeatOccupancyEngine seatOccupancyEngine;
+
+    @Autowired WaitlistEntryRepository waitlistEntryRepository;
+    @Autowired RoomReservationParticipantRepository roomReservationParticipantRepository;
+    @Autowired RoomReservationRepository roomReservationRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired SeatReservationRepository seatReservationRepository;
+
+    private static final long LEADER = 202488801L;
+    private static final long P1 = 202488802L;
+    private static final long P2 = 202488803L;
+    private static final long OTHER = 202488900L;
+
+    // 좌석 1~70 은 seatId == PK
+    private static final long SEAT = 20L;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = webAppContextSetup(wac).build();
+
+        waitlistEntryRepository.deleteAll();
+        reservationFixture.reset();
+        roomId = roomRepository.save(Room.builder().capacity(4).build()).getId();
+    }
+
+    private Long bookSeat(long studentId, long seatId, LocalDate date, int hour, int hours) {
+        return seatReservationService.createSeatReservation(SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(LocalTime.of(hour, 0))
+                .durationHours(hours)
+                .build()).getId();
+    }
+
+    private ReservationRequestDto roomRequest(LocalDate date, long leader, long p1, long p2) {
+        return ReservationRequestDto.builder()
+                .roomId(roomId)
+                .date(date)
+                .startTime(LocalTime.of(13, 0))
+                .duration(1)
+                .representativeStudentId(leader)
+                .participantStudentIds(List.of(p1, p2))
+                .build();
+    }
+
+    private WaitlistEntryDto waitForSeat(long studentId, Long seatId, LocalDate date, int hour, int hours) {
+        return waitlistService.joinSeatWaitlist(SeatReservationRequestDto.builder()
+                .studentId(studentId)
+                .seatId(seatId)
+                .date(date)
+                .startTime(LocalTime.of(hour, 0))
+                .durationHours(hours)
+                .build());
+    }
+
+    // 승격은 취소 커밋 후 비동기로 실행되므로 상태가 바뀔 때까지 기다린다 (최대 5초)
+    private WaitlistEntry awaitResolved(Long entryId) {
+        return await().atMost(Duration.ofSeconds(5))
+                .until(() -> waitlistEntryRepository.findById(entryId).orElseThrow(),
+                        entry -> entry.getStatus() != WaitlistStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("TC-WL-01 좌석 대기 → 기존 예약 취소 시 자동 예약(PROMOTED), 비어 있는 좌석은 대기 신청 불가")
+    void TC_WL_01() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(1);
+        Long otherReservation = bookSeat(OTHER, SEAT, date, 10, 2);
+
+        WaitlistEntryDto entry = waitForSeat(LEADER, SEAT, date, 10, 2);
+        assertThat(entry.getStatus()).isEqualTo(WaitlistStatus.WAITING);
+
+        try {
+            waitForSeat(LEADER, SEAT + 1, date, 10, 2);
+            throw new AssertionError("expected WAITLIST_SLOT_AVAILABLE");
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.WAITLIST_SLOT_AVAILABLE);
+        }
+
+        seatReservationService.cancelSeatReservation(otherReservation, OTHER);
+
+        WaitlistEntry promoted = awaitResolved(entry.getId());
+        assertThat(promoted.getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        assertThat(seatReservationRepository.findById(promoted.getReservationId())).isPresent();
+        assertThat(seatOccupancyEngine.isFree(date, SEAT, LocalTime.of(10, 0), LocalTime.of(12, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("TC-WL-02 회의실 대기 2팀 → 취소 시 먼저 신청한 팀만 예약, 뒤 팀은 WAITING 유지")
+    void TC_WL_02() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(2);
+        Long otherReservation = roomReservationService.createRoomReservation(
+                roomRequest(date, OTHER, OTHER + 1, OTHER + 2)).getId();
+
+        WaitlistEntryDto first = waitlistService.joinRoomWaitlist(roomRequest(date, LEADER, P1, P2));
+        WaitlistEntryDto second = waitlistService.joinRoomWaitlist(roomRequest(date, OTHER + 10, OTHER + 11, OTHER + 12));
+
+        roomReservationService.cancelMeetingReservation(otherReservation, OTHER);
+
+        WaitlistEntry promoted = awaitResolved(first.getId());
+        assertThat(promoted.getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        assertThat(roomReservationRepository.findById(promoted.getReservationId()))
+                .get()
+                .matches(r -> r.getRoom().getId().equals(roomId));
+        assertThat(roomReservationParticipantRepository.findAllByReservation_Id(promoted.getReservationId()))
+                .hasSize(3);
+
+        assertThat(waitlistEntryRepository.findById(second.getId()))
+                .get()
+                .matches(e -> e.getStatus() == WaitlistStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("TC-WL-03 대기 중 하루 좌석 한도(4시간) 소진 → 취소 시 FAILED + SEAT_DAILY_LIMIT_EXCEEDED, 다음 순번이 예약")
+    void TC_WL_03() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(3);
+        Long otherReservation = bookSeat(OTHER, SEAT, date, 10, 2);
+
+        WaitlistEntryDto leaderEntry = waitForSeat(LEADER, SEAT, date, 10, 2);
+        WaitlistEntryDto nextEntry = waitForSeat(P1, SEAT, date, 10, 1);
+
+        // 대기 시간과 겹치지 않게 다른 좌석에서 4시간 사용
+        bookSeat(LEADER, SEAT + 1, date, 13, 2);
+        bookSeat(LEADER, SEAT + 1, date, 15, 2);
+
+        seatReservationService.cancelSeatReservation(otherReservation, OTHER);
+
+        WaitlistEntry failed = awaitResolved(leaderEntry.getId());
+        assertThat(failed.getStatus()).isEqualTo(WaitlistStatus.FAILED);
+        assertThat(failed.getFailureCode()).isEqualTo(ErrorCode.SEAT_DAILY_LIMIT_EXCEEDED);
+        assertThat(failed.getReservationId()).isNull();
+
+        assertThat(awaitResolved(nextEntry.getId()).getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+    }
+
+    @Test
+    @DisplayName("TC-WL-04 API: 대기 신청 201 → 중복 신청 409 → 내 목록 조회 → 취소 200 → 재취소 404")
+    void TC_WL_04() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(4);
+        bookSeat(OTHER, SEAT, date, 14, 1);
+
+        String body = """
+                {
+                  "studentId": %d,
+                  "seatId": %d,
+                  "date": "%s",
+                  "startTime": "14:00",
+                  "durationHours": 1
+                }
+                """.formatted(LEADER, SEAT, date);
+
+        mockMvc.perform(post("/api/waitlist/seats")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.payload.status").value("WAITING"))
+                .andExpect(jsonPath("$.payload.startTime").value("14:00"))
+                .andExpect(jsonPath("$.payload.reservationId").doesNotExist());
+
+        mockMvc.perform(post("/api/waitlist/seats")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("ALREADY_ON_WAITLIST"));
+
+        Long entryId = waitlistEntryRepository.findByStudentIdOrderByIdDesc(LEADER).get(0).getId();
+
+        mockMvc.perform(get("/api/waitlist").param("studentId", String.valueOf(LEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.length()").value(1))
+                .andExpect(jsonPath("$.payload[0].id").value(entryId))
+                .andExpect(jsonPath("$.payload[0].resourceType").value("SEAT"));
+
+        mockMvc.perform(delete("/api/waitlist/{id}", entryId).param("studentId", String.valueOf(LEADER)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/waitlist/{id}", entryId).param("studentId", String.valueOf(LEADER)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("WAITLIST_ENTRY_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("TC-WL-05 같은 대기 신청 8건 동시 → WAITING 1건 + 나머지 ALREADY_ON_WAITLIST, 취소 후 재신청 가능")
+    void TC_WL_05() throws Exception {
+        LocalDate date = LocalDate.now(KST).plusDays(5);
+        bookSeat(OTHER, SEAT, date, 10, 1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger duplicates = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        waitForSeat(LEADER, SEAT, date, 10, 1);
+                    } catch (CustomException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ALREADY_ON_WAITLIST);
+                        duplicates.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<WaitlistEntry> entries = waitlistEntryRepository.findByStudentIdOrderByIdDesc(LEADER);
+        assertThat(entries).hasSize(1);
+        assertThat(duplicates.get()).isEqualTo(7);
+
+        waitlistService.cancelWaitlist(entries.get(0).getId(), LEADER);
+        assertThat(waitForSeat(LEADER, SEAT, date, 10, 1).getStatus()).isEqualTo(WaitlistStatus.WAITING);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.reservationsystem.testsupport;
+
+import com.example.reservationsystem.domain.entity.Seat;
+import com.example.reservationsystem.domain.repository.RoomReservationParticipantRepository;
+import com.example.reservationsystem.domain.repository.RoomReservationRepository;
+import com.example.reservationsystem.domain.repository.SeatRepository;
+import com.example.reservationsystem.domain.repository.SeatReservationRepository;
+import com.example.reservationsystem.domain.repository.StudentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.IntStream;
+
+// 예약 테스트 공통 준비 데이터
+// - 예약/학생은 엔티티 단위로 지운다 (리스너가 점유 엔진 / 학생 타임라인에서 하나씩 해제)
+// - 좌석 70석은 한 번만 만들고 테스트 사이에 재사용한다
+@Component
+public class ReservationFixture {
+
+    public static final int SEAT_COUNT = 70;
+
+    private final RoomReservationParticipantRepository roomReservationParticipantRepository;
+    private final RoomReservationRepository roomReservationRepository;
+    private final SeatReservationRepository seatReservationRepository;
+    private final StudentRepository studentRepository;
+    private final SeatRepository seatRepository;
+
+    public ReservationFixture(
+            RoomReservationParticipantRepository roomReservationParticipantRepository,
+            RoomReservationRepository roomReservationRepository,
+            SeatReservationRepository seatReservationRepository,
+            StudentRepository studentRepository,
+            SeatRepository seatRepository
+    ) {
+        this.roomReservationParticipantRepository = roomReservationParticipantRepository;
+        this.roomReservationRepository = roomReservationRepository;
+        this.seatReservationRepository = seatReservationRepository;
+        this.studentRepository = studentRepository;
+        this.seatRepository = seatRepository;
+    }
+
+    // 예약/학생 삭제 + 좌석 보장
+    public void reset() {
+        clearReservations();
+        ensureSeats();
+    }
+
+    public void clearReservations() {
+        roomReservationParticipantRepository.deleteAll();
+        roomReservationRepository.deleteAll();
+        seatReservationRepository.deleteAll();
+        studentRepository.deleteAll();
+    }
+
+    public void ensureSeats() {
+        if (seatRepository.count() == 0) {
+            IntStream.rangeClosed(1, SEAT_COUNT).forEach(i ->
+                    seatRepository.save(Seat.builder().seatNumber(i).status("AVAILABLE").build())
+            );
+        }
+    }
+}
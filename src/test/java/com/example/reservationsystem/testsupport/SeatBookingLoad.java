@@ -0,0 +1,95 @@
+package com.example.reservationsystem.testsupport;
+
+import com.example.reservationsystem.common.enums.ErrorCode;
+import com.example.reservationsystem.common.exception.CustomException;
+import com.example.reservationsystem.domain.dto.SeatReservationRequestDto;
+import com.example.reservationsystem.domain.entity.SeatReservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 좌석 예약 경로(트랜잭션 / 파이프라인 / 파티션) 공통 부하 시나리오
+// - 좌석 70석 x 2시간 4타임을 서로 다른 학생이 2번씩 요청 → 정확히 70 x 4 건만 성공해야 한다
+public final class SeatBookingLoad {
+
+    private static final LocalTime[] WINDOWS = {
+            LocalTime.of(9, 0), LocalTime.of(11, 0), LocalTime.of(13, 0), LocalTime.of(15, 0)
+    };
+    private static final int COPIES = 2;
+
+    // 작업량에서 성공해야 하는 예약 수
+    public static final int BOOKABLE = ReservationFixture.SEAT_COUNT * WINDOWS.length;
+
+    private SeatBookingLoad() {}
+
+    public static List<SeatReservationRequestDto> seatGrid(LocalDate date, long studentBase) {
+        List<SeatReservationRequestDto> requests = new ArrayList<>();
+        long studentId = studentBase;
+        for (int copy = 0; copy < COPIES; copy++) {
+            for (LocalTime window : WINDOWS) {
+                for (long seatId = 1; seatId <= ReservationFixture.SEAT_COUNT; seatId++) {
+                    requests.add(SeatReservationRequestDto.builder()
+                            .studentId(studentId++)
+                            .seatId(seatId)
+                            .date(date)
+                            .startTime(window)
+                            .durationHours(2)
+                            .build());
+                }
+            }
+        }
+        return requests;
+    }
+
+    // 모든 요청을 threads 개 스레드로 동시에 시작. 실패는 SEAT_ALREADY_RESERVED 만 허용. 반환값 = 초당 처리 요청 수
+    public static double run(List<SeatReservationRequestDto> requests, int threads,
+                             Consumer<SeatReservationRequestDto> booking, AtomicInteger success) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (SeatReservationRequestDto req : requests) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    booking.accept(req);
+                    success.incrementAndGet();
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SEAT_ALREADY_RESERVED);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        pool.shutdown();
+        return requests.size() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public static void assertNoDoubleBooking(List<SeatReservation> saved, int expected) {
+        assertThat(saved).hasSize(expected);
+        for (SeatReservation a : saved) {
+            for (SeatReservation b : saved) {
+                if (a != b && a.getSeat().getId().equals(b.getSeat().getId())) {
+                    assertThat(a.getStartTime().isBefore(b.getEndTime()) && b.getStartTime().isBefore(a.getEndTime()))
+                            .as("seat %d double booked", a.getSeat().getId())
+                            .isFalse();
+                }
+            }
+        }
+    }
+}
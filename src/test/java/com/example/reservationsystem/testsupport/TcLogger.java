@@ -54,6 +54,11 @@ public final class TcLogger {
                 + " [MESSAGE=" + safeMsg(cause) + "]");
     }
 
+    // 벤치마크/부하 테스트 측정값 (String.format 형식)
+    public static void metric(String format, Object... args) {
+        writeLine("[METRIC] " + String.format(format, args));
+    }
+
     private static String safeMsg(Throwable t) {
         if (t == null) return "null";
         return (t.getMessage() == null) ? "null" : t.getMessage();
@@ -1,12 +1,37 @@
+DROP TABLE IF EXISTS seat_reservation_slot CASCADE;
+DROP TABLE IF EXISTS room_reservation_slot CASCADE;
+DROP TABLE IF EXISTS student_reservation_slot CASCADE;
 DROP TABLE IF EXISTS seat_reservation CASCADE;
 DROP TABLE IF EXISTS room_reservation_participant CASCADE;
 DROP TABLE IF EXISTS room_reservation CASCADE;
 DROP TABLE IF EXISTS student CASCADE;
 DROP TABLE IF EXISTS seat CASCADE;
 DROP TABLE IF EXISTS room CASCADE;
+DROP TABLE IF EXISTS waitlist_entry CASCADE;
+DROP SEQUENCE IF EXISTS student_seq;
+DROP SEQUENCE IF EXISTS seat_seq;
+DROP SEQUENCE IF EXISTS room_seq;
+DROP SEQUENCE IF EXISTS seat_reservation_seq;
+DROP SEQUENCE IF EXISTS room_reservation_seq;
+DROP SEQUENCE IF EXISTS room_reservation_participant_seq;
+DROP SEQUENCE IF EXISTS seat_reservation_slot_seq;
+DROP SEQUENCE IF EXISTS room_reservation_slot_seq;
+DROP SEQUENCE IF EXISTS student_reservation_slot_seq;
+DROP SEQUENCE IF EXISTS waitlist_entry_seq;
+
+CREATE SEQUENCE student_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE seat_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE room_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE seat_reservation_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE room_reservation_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE room_reservation_participant_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE seat_reservation_slot_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE room_reservation_slot_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE student_reservation_slot_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE waitlist_entry_seq START WITH 1 INCREMENT BY 50;
 
 CREATE TABLE student (
-                         id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                         id BIGINT PRIMARY KEY,
                          student_id BIGINT NOT NULL UNIQUE,
                          name VARCHAR(100),
                          seat_daily_used_hours INT DEFAULT 0,
@@ -18,29 +43,30 @@ CREATE TABLE student (
 );
 
 CREATE TABLE seat (
-                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                      id BIGINT PRIMARY KEY,
                       seat_number INT NOT NULL,
                       status VARCHAR(50) NOT NULL
 );
 
 CREATE TABLE room (
-                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                      id BIGINT PRIMARY KEY,
                       capacity INT NOT NULL
 );
 
 CREATE TABLE seat_reservation (
-                                  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                  id BIGINT PRIMARY KEY,
                                   seat_id BIGINT,
                                   student_id BIGINT,
                                   date DATE NOT NULL,
                                   start_time TIME NOT NULL,
                                   end_time TIME NOT NULL,
+                                  checked_in_at TIMESTAMP,
                                   created_at TIMESTAMP,
                                   updated_at TIMESTAMP
 );
 
 CREATE TABLE room_reservation (
-                                  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                  id BIGINT PRIMARY KEY,
                                   room_id BIGINT,
                                   representative_id BIGINT,
                                   leader_student_id BIGINT,
@@ -48,12 +74,63 @@ CREATE TABLE room_reservation (
                                   start_time TIME NOT NULL,
                                   end_time TIME NOT NULL,
                                   duration INT NOT NULL,
-                                  status VARCHAR(50) NOT NULL
+                                  status VARCHAR(50) NOT NULL,
+                                  checked_in_at TIMESTAMP
 );
 
 CREATE TABLE room_reservation_participant (
-                                              id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                              id BIGINT PRIMARY KEY,
                                               reservation_id BIGINT NOT NULL,
                                               student_id BIGINT NOT NULL,
                                               is_representative BOOLEAN DEFAULT FALSE
-);
\ No newline at end of file
+);
+
+CREATE TABLE seat_reservation_slot (
+                                       id BIGINT PRIMARY KEY,
+                                       seat_reservation_id BIGINT NOT NULL,
+                                       seat_id BIGINT NOT NULL,
+                                       date DATE NOT NULL,
+                                       slot INT NOT NULL,
+                                       CONSTRAINT uk_seat_reservation_slot UNIQUE (seat_id, date, slot)
+);
+
+CREATE TABLE room_reservation_slot (
+                                       id BIGINT PRIMARY KEY,
+                                       room_reservation_id BIGINT NOT NULL,
+                                       room_id BIGINT NOT NULL,
+                                       date DATE NOT NULL,
+                                       slot INT NOT NULL,
+                                       CONSTRAINT uk_room_reservation_slot UNIQUE (room_id, date, slot)
+);
+
+CREATE TABLE student_reservation_slot (
+                                          id BIGINT PRIMARY KEY,
+                                          seat_reservation_id BIGINT,
+                                          participant_id BIGINT,
+                                          student_number BIGINT NOT NULL,
+                                          date DATE NOT NULL,
+                                          slot INT NOT NULL,
+                                          CONSTRAINT uk_student_reservation_slot UNIQUE (student_number, date, slot)
+);
+
+CREATE TABLE waitlist_entry (
+                                id BIGINT PRIMARY KEY,
+                                resource_type VARCHAR(10) NOT NULL,
+                                resource_id BIGINT,
+                                date DATE NOT NULL,
+                                start_time TIME NOT NULL,
+                                end_time TIME NOT NULL,
+                                student_id BIGINT NOT NULL,
+                                participant_student_ids VARCHAR(255),
+                                status VARCHAR(20) NOT NULL,
+                                reservation_id BIGINT,
+                                failure_code VARCHAR(50),
+                                requested_at TIMESTAMP NOT NULL,
+                                waiting_key VARCHAR(100),
+                                CONSTRAINT uk_waitlist_waiting UNIQUE (waiting_key)
+);
+
+CREATE INDEX idx_seat_reservation_student_keyset ON seat_reservation (student_id, date, start_time, id);
+CREATE INDEX idx_room_participant_student ON room_reservation_participant (student_id, reservation_id);
+CREATE INDEX idx_waitlist_queue ON waitlist_entry (resource_type, date, status, id);
+CREATE INDEX idx_waitlist_student ON waitlist_entry (student_id, id);
\ No newline at end of file